@@ -0,0 +1,140 @@
+package co.edu.uniquindio.application.benchmarks;
+
+import co.edu.uniquindio.application.dto.create.CreateAccommodationDTO;
+import co.edu.uniquindio.application.models.entitys.Accommodation;
+import co.edu.uniquindio.application.models.entitys.Chat;
+import co.edu.uniquindio.application.models.entitys.Message;
+import co.edu.uniquindio.application.models.entitys.Reservation;
+import co.edu.uniquindio.application.models.entitys.User;
+import co.edu.uniquindio.application.models.enums.AccommodationStatus;
+import co.edu.uniquindio.application.models.enums.ReservationStatus;
+import co.edu.uniquindio.application.models.enums.Role;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Datos de ejemplo de los benchmarks, con la misma forma que dataset.sql
+ * (u001 huésped, u002 anfitrión, acc001).
+ */
+final class BenchmarkFixtures {
+
+    static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    static User guest() {
+        return User.builder()
+                .id("u001")
+                .name("Juan Pérez")
+                .email("juan@email.com")
+                .role(Role.GUEST)
+                .createdAt(NOW)
+                .build();
+    }
+
+    static User host() {
+        return User.builder()
+                .id("u002")
+                .name("María García")
+                .email("maria@email.com")
+                .role(Role.HOST)
+                .createdAt(NOW)
+                .build();
+    }
+
+    static CreateAccommodationDTO createAccommodationDTO() {
+        return new CreateAccommodationDTO(
+                "Apartamento en el centro",
+                "Apartamento amoblado con vista a la plaza, cerca de restaurantes y transporte.",
+                "Armenia",
+                "Calle 20 # 15-30",
+                4.5339,
+                -75.6811,
+                150000.0,
+                4,
+                "WiFi,Cocina,Parqueadero");
+    }
+
+    static Accommodation accommodation(String id) {
+        return Accommodation.builder()
+                .id(id)
+                .title("Apartamento en el centro")
+                .description("Apartamento amoblado con vista a la plaza, cerca de restaurantes y transporte.")
+                .city("Armenia")
+                .address("Calle 20 # 15-30")
+                .latitude(4.5339)
+                .longitude(-75.6811)
+                .pricePerNight(150000.0)
+                .maxCapacity(4)
+                .amenities("WiFi,Cocina,Parqueadero")
+                .status(AccommodationStatus.ACTIVE)
+                .averageRating(4.5)
+                .ratingCount(12)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .host(host())
+                .build();
+    }
+
+    static Reservation reservation(String id, Accommodation accommodation, LocalDate checkIn, int nights) {
+        return Reservation.builder()
+                .id(id)
+                .checkInDate(checkIn)
+                .checkOutDate(checkIn.plusDays(nights))
+                .numberOfGuests(2)
+                .totalPrice(accommodation.getPricePerNight() * nights)
+                .status(ReservationStatus.CONFIRMED)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .accommodation(accommodation)
+                .guest(guest())
+                .build();
+    }
+
+    static Chat chat(int messages) {
+        User guest = guest();
+        User host = host();
+        Chat chat = Chat.builder()
+                .id("chat001")
+                .active(true)
+                .createdAt(NOW)
+                .users(new ArrayList<>(List.of(guest, host)))
+                .messages(new ArrayList<>())
+                .build();
+        for (int i = 0; i < messages; i++) {
+            chat.getMessages().add(Message.builder()
+                    .id("msg" + i)
+                    .content("Mensaje " + i)
+                    .sentAt(NOW.plusMinutes(i))
+                    .isRead(false)
+                    .chat(chat)
+                    .sender(i % 2 == 0 ? guest : host)
+                    .recipient(i % 2 == 0 ? host : guest)
+                    .build());
+        }
+        return chat;
+    }
+
+    /**
+     * Implementación en memoria de un repositorio o servicio: responde los métodos
+     * de answers por nombre y falla con cualquier otro, para que el benchmark no
+     * mida por accidente un camino distinto del previsto.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+            return answer.apply(args);
+        });
+    }
+}
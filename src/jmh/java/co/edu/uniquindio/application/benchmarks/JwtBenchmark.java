@@ -0,0 +1,52 @@
+package co.edu.uniquindio.application.benchmarks;
+
+import co.edu.uniquindio.application.security.JWTUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emisión de tokens en el login y validación en cada petición autenticada
+ * (JWTFilter llama a parseJwt una vez por petición). Los claims son los mismos
+ * que pone AuthServiceImpl.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private static final Map<String, String> CLAIMS = Map.of(
+            "name", "Juan Pérez",
+            "email", "juan@email.com",
+            "role", "ROLE_GUEST");
+
+    private JWTUtils jwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JWTUtils();
+        // Fuera de Spring no se inyecta @Value; la clave cumple los 32 caracteres que valida init()
+        Field secretKey = ReflectionUtils.findField(JWTUtils.class, "secretKey");
+        ReflectionUtils.makeAccessible(secretKey);
+        ReflectionUtils.setField(secretKey, jwtUtils, "benchmarkSecretKeyForJWTGenerationAndValidation2025");
+        jwtUtils.init();
+
+        token = jwtUtils.generateToken("u001", CLAIMS);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtils.generateToken("u001", CLAIMS);
+    }
+
+    @Benchmark
+    public Jws<Claims> parseJwt() {
+        return jwtUtils.parseJwt(token);
+    }
+}
@@ -0,0 +1,92 @@
+package co.edu.uniquindio.application.benchmarks;
+
+import co.edu.uniquindio.application.dto.AccommodationDTO;
+import co.edu.uniquindio.application.dto.ChatDTO;
+import co.edu.uniquindio.application.dto.ReservationDTO;
+import co.edu.uniquindio.application.dto.create.CreateAccommodationDTO;
+import co.edu.uniquindio.application.dto.create.CreateReservationDTO;
+import co.edu.uniquindio.application.mappers.AccommodationMapper;
+import co.edu.uniquindio.application.mappers.ChatMapper;
+import co.edu.uniquindio.application.mappers.ReservationMapper;
+import co.edu.uniquindio.application.models.entitys.Accommodation;
+import co.edu.uniquindio.application.models.entitys.Chat;
+import co.edu.uniquindio.application.models.entitys.Reservation;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeos de MapStruct en los caminos más frecuentes: creación de entidades (que
+ * incluye generar el UUID v7) y conversión a DTO en los listados.
+ * toChatDTO recorre los mensajes del chat para contarlos y buscar el último,
+ * por eso se mide con distintos tamaños de conversación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private AccommodationMapper accommodationMapper;
+    private ChatMapper chatMapper;
+    private ReservationMapper reservationMapper;
+
+    private CreateAccommodationDTO createAccommodationDTO;
+    private CreateReservationDTO createReservationDTO;
+    private Accommodation accommodation;
+    private Reservation reservation;
+
+    // Solo toChatDTO depende del número de mensajes; el resto se mide una vez
+    @State(Scope.Benchmark)
+    public static class ChatState {
+
+        @Param({"0", "50", "500"})
+        public int messages;
+
+        private Chat chat;
+
+        @Setup
+        public void setUp() {
+            chat = BenchmarkFixtures.chat(messages);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        accommodationMapper = Mappers.getMapper(AccommodationMapper.class);
+        chatMapper = Mappers.getMapper(ChatMapper.class);
+        reservationMapper = Mappers.getMapper(ReservationMapper.class);
+
+        createAccommodationDTO = BenchmarkFixtures.createAccommodationDTO();
+        accommodation = BenchmarkFixtures.accommodation("acc001");
+        LocalDate checkIn = LocalDate.of(2030, 1, 10);
+        createReservationDTO = new CreateReservationDTO("acc001", "u001", checkIn, checkIn.plusDays(3), 2);
+        reservation = BenchmarkFixtures.reservation("res001", accommodation, checkIn, 3);
+    }
+
+    @Benchmark
+    public Accommodation accommodationToEntity() {
+        return accommodationMapper.toEntity(createAccommodationDTO);
+    }
+
+    @Benchmark
+    public AccommodationDTO accommodationToDTO() {
+        return accommodationMapper.toAccommodationDTO(accommodation);
+    }
+
+    @Benchmark
+    public Reservation reservationToEntity() {
+        return reservationMapper.toEntity(createReservationDTO);
+    }
+
+    @Benchmark
+    public ReservationDTO reservationToDTO() {
+        return reservationMapper.toReservationDTO(reservation);
+    }
+
+    @Benchmark
+    public ChatDTO chatToDTO(ChatState state) {
+        return chatMapper.toChatDTO(state.chat);
+    }
+}
@@ -0,0 +1,84 @@
+package co.edu.uniquindio.application.benchmarks;
+
+import co.edu.uniquindio.application.dto.create.CreateReservationDTO;
+import co.edu.uniquindio.application.mappers.ReservationMapper;
+import co.edu.uniquindio.application.models.entitys.Accommodation;
+import co.edu.uniquindio.application.models.entitys.Reservation;
+import co.edu.uniquindio.application.repositories.AccommodationRepository;
+import co.edu.uniquindio.application.repositories.ReservationRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.services.AuthService;
+import co.edu.uniquindio.application.services.ExistenceService;
+import co.edu.uniquindio.application.services.impl.ReservationServiceImpl;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comprobación de disponibilidad y creación de reservas en ReservationServiceImpl.
+ *
+ * El cruce de fechas lo resuelve MariaDB (findOverlappingReservations), así que
+ * aquí el repositorio devuelve listas ya armadas de costo constante: se mide solo
+ * el trabajo del servicio en la JVM (validaciones, mapeo y cálculo del precio) y
+ * no un recorrido del calendario que en producción no existe. La latencia de la
+ * consulta se mide aparte con las pruebas de integración.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReservationAvailabilityBenchmark {
+
+    private static final LocalDate FREE_CHECK_IN = LocalDate.of(2030, 1, 10);
+    private static final LocalDate TAKEN_CHECK_IN = LocalDate.of(2030, 1, 1);
+
+    private ReservationServiceImpl reservationService;
+    private CreateReservationDTO createReservationDTO;
+
+    @Setup
+    public void setUp() {
+        Accommodation accommodation = BenchmarkFixtures.accommodation("acc001");
+        List<Reservation> taken = List.of(BenchmarkFixtures.reservation("res0", accommodation, TAKEN_CHECK_IN, 3));
+        createReservationDTO = new CreateReservationDTO("acc001", "u001", FREE_CHECK_IN, FREE_CHECK_IN.plusDays(3), 2);
+
+        ReservationRepository reservationRepository = BenchmarkFixtures.stub(ReservationRepository.class, Map.of(
+                "findOverlappingReservations", args -> TAKEN_CHECK_IN.equals(args[1]) ? taken : List.of(),
+                "save", args -> args[0]));
+        AccommodationRepository accommodationRepository = BenchmarkFixtures.stub(AccommodationRepository.class, Map.of(
+                "findById", args -> Optional.of(accommodation)));
+        UserRepository userRepository = BenchmarkFixtures.stub(UserRepository.class, Map.of(
+                "findById", args -> Optional.of(BenchmarkFixtures.guest())));
+        ExistenceService existenceService = BenchmarkFixtures.stub(ExistenceService.class, Map.of(
+                "requireAccommodation", args -> null));
+        AuthService authService = BenchmarkFixtures.stub(AuthService.class, Map.of(
+                "getAuthenticatedUserId", args -> "u001"));
+
+        reservationService = new ReservationServiceImpl(
+                reservationRepository,
+                Mappers.getMapper(ReservationMapper.class),
+                accommodationRepository,
+                userRepository,
+                existenceService,
+                authService,
+                event -> { });
+    }
+
+    @Benchmark
+    public boolean isAvailableFreeDates() throws Exception {
+        return reservationService.isAvailable("acc001", FREE_CHECK_IN, FREE_CHECK_IN.plusDays(1));
+    }
+
+    @Benchmark
+    public boolean isAvailableTakenDates() throws Exception {
+        return reservationService.isAvailable("acc001", TAKEN_CHECK_IN, TAKEN_CHECK_IN.plusDays(2));
+    }
+
+    @Benchmark
+    public void createReservation() throws Exception {
+        reservationService.create(createReservationDTO);
+    }
+}
@@ -0,0 +1,48 @@
+package co.edu.uniquindio.application.benchmarks;
+
+import co.edu.uniquindio.application.dto.AccommodationDTO;
+import co.edu.uniquindio.application.dto.ResponseDTO;
+import co.edu.uniquindio.application.mappers.AccommodationMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización a JSON de las respuestas ResponseDTO con listas de alojamientos,
+ * el cuerpo más común de la API. El ObjectMapper se construye con el mismo
+ * Jackson2ObjectMapperBuilder que usa Spring Boot (fechas ISO, módulos de java.time).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"1", "20", "500"})
+    public int size;
+
+    private ObjectWriter writer;
+    private ResponseDTO<List<AccommodationDTO>> response;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+
+        AccommodationMapper mapper = Mappers.getMapper(AccommodationMapper.class);
+        List<AccommodationDTO> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(mapper.toAccommodationDTO(BenchmarkFixtures.accommodation("acc" + i)));
+        }
+        response = new ResponseDTO<>(false, content);
+    }
+
+    @Benchmark
+    public byte[] serializeAccommodationList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+}
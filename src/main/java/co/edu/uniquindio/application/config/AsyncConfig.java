@@ -1,12 +1,116 @@
 package co.edu.uniquindio.application.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableAsync
 @EnableScheduling
 public class AsyncConfig implements AsyncConfigurer {
-}
\ No newline at end of file
+
+    /**
+     * Executor dedicado para el envío de correos.
+     * Jakarta Mail usa bloques synchronized alrededor de la conexión SMTP; con
+     * spring.threads.virtual.enabled=true esos bloques fijan (pin) el hilo portador,
+     * por eso el envío se mantiene en un pool pequeño de hilos de plataforma.
+     */
+    @Bean(name = "mailExecutor")
+    public ThreadPoolTaskExecutor mailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("mail-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor para el procesamiento de imágenes (variantes y subidas en lote).
+     * Acotado para no saturar el servicio de imágenes con una galería grande.
+     */
+    @Bean(name = "imageExecutor")
+    public ThreadPoolTaskExecutor imageExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("image-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor de los trabajos por lotes programados (ciclo de vida de reservas).
+     * Un solo hilo: los lotes son secuenciales y el scheduler queda libre.
+     */
+    @Bean(name = "lifecycleExecutor")
+    public ThreadPoolTaskExecutor lifecycleExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("lifecycle-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor de las respuestas JSON en streaming (StreamingResponseBody).
+     * Cada tarea mantiene una conexión a la base de datos mientras el cliente lee,
+     * así que el máximo de hilos acota las conexiones que pueden ocupar los listados.
+     * El núcleo es igual al máximo: ThreadPoolExecutor solo crea hilos por encima del
+     * núcleo cuando la cola está llena, y con núcleo 2 las demás respuestas esperarían
+     * en cola con hilos libres. Los hilos ociosos se liberan igualmente.
+     */
+    @Bean(name = "streamingExecutor")
+    public ThreadPoolTaskExecutor streamingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("stream-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor de las exportaciones CSV/NDJSON, aparte del de los listados: una
+     * exportación puede durar exports.max-duration y unas pocas ocuparían todos los
+     * hilos de streamingExecutor. ExportStreamer admite tantas a la vez como hilos
+     * hay y rechaza las demás con 429; la cola solo cubre el instante en que un hilo
+     * terminó su exportación pero aún no volvió al pool.
+     */
+    @Bean(name = "exportExecutor")
+    public ThreadPoolTaskExecutor exportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setQueueCapacity(2);
+        executor.setThreadNamePrefix("export-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor de la validación de importaciones masivas de alojamientos.
+     * Trabajo de CPU (parseo y Bean Validation): un hilo por núcleo.
+     */
+    @Bean(name = "importExecutor")
+    public ThreadPoolTaskExecutor importExecutor() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("import-");
+        executor.initialize();
+        return executor;
+    }
+}
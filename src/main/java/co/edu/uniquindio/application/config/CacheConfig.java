@@ -0,0 +1,30 @@
+package co.edu.uniquindio.application.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Configuration
+public class CacheConfig {
+
+    /**
+     * IDs de los alojamientos favoritos de cada usuario (clave: ID del usuario).
+     * Se guarda solo el conjunto de IDs, no las entidades, para que cada entrada
+     * sea pequeña. Acotada por número de usuarios y por tiempo sin uso;
+     * FavoriteServiceImpl descarta la entrada del usuario al agregar o quitar favoritos.
+     */
+    @Bean(name = "favoriteIdsCache")
+    public Cache<String, Set<String>> favoriteIdsCache(
+            @Value("${favorites.cache.max-users:10000}") long maxUsers,
+            @Value("${favorites.cache.idle-minutes:30}") long idleMinutes) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+    }
+}
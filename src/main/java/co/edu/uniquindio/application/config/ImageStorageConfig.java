@@ -0,0 +1,32 @@
+package co.edu.uniquindio.application.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Publica en /images/** las imágenes del almacenamiento local.
+ * Los nombres son el hash del contenido, por lo que una URL nunca cambia de
+ * bytes y se puede cachear un año como inmutable en navegadores y CDN.
+ */
+@Configuration
+@ConditionalOnProperty(name = "images.storage", havingValue = "local")
+public class ImageStorageConfig implements WebMvcConfigurer {
+
+    @Value("${images.local.directory:./uploads/images}")
+    private String directory;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        String location = Path.of(directory).toAbsolutePath().normalize().toUri().toString();
+        registry.addResourceHandler("/images/**")
+                .addResourceLocations(location.endsWith("/") ? location : location + "/")
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable());
+    }
+}
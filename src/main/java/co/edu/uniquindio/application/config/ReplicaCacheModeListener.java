@@ -0,0 +1,40 @@
+package co.edu.uniquindio.application.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.lang.Nullable;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Las transacciones de solo lectura leen de una réplica que puede ir unos segundos
+ * atrasada, así que su sesión usa CacheMode.GET: aprovecha la caché de segundo
+ * nivel pero nunca la llena. Si lo hiciera, la primera lectura después de expulsar
+ * una entidad (SecondLevelCacheEvictionListener) guardaría la fila anterior a la
+ * escritura y todos los usuarios la verían hasta que venza la región, no solo
+ * durante el retraso de la réplica. La caché la llenan las sesiones del primario.
+ *
+ * Solo se ejecuta al iniciar una transacción nueva: una de solo lectura que se une
+ * a otra de escritura sigue en el primario y conserva el modo normal.
+ */
+public class ReplicaCacheModeListener implements TransactionExecutionListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ReplicaCacheModeListener(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, @Nullable Throwable beginFailure) {
+        if (beginFailure != null || !transaction.isReadOnly()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.getResource(entityManagerFactory) instanceof EntityManagerHolder holder) {
+            holder.getEntityManager().unwrap(Session.class).setCacheMode(CacheMode.GET);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package co.edu.uniquindio.application.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Origen de las conexiones de solo lectura: reparte entre las réplicas sanas en
+ * round-robin y cae al primario si no queda ninguna o si el usuario acaba de
+ * escribir (ReadYourWritesTracker).
+ *
+ * Cada lag-check-interval-ms se consulta SHOW SLAVE STATUS en cada réplica; una
+ * réplica con la replicación detenida o sin configurar, inaccesible o con más de
+ * max-lag-seconds de retraso sale de la rotación hasta la siguiente comprobación.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private final Map<String, HikariDataSource> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final long maxLagSeconds;
+    private final boolean allowStandalone;
+    private final AtomicInteger next = new AtomicInteger();
+
+    // Hasta la primera comprobación se confía en todas las réplicas
+    private volatile List<String> healthyReplicas;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, HikariDataSource> replicas,
+                                    ReadYourWritesTracker readYourWritesTracker, long maxLagSeconds,
+                                    boolean allowStandalone) {
+        this.replicas = replicas;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.maxLagSeconds = maxLagSeconds;
+        this.allowStandalone = allowStandalone;
+        this.healthyReplicas = List.copyOf(replicas.keySet());
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (readYourWritesTracker.mustReadFromPrimary()) {
+            return PRIMARY;
+        }
+        List<String> healthy = healthyReplicas;
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.lag-check-interval-ms:5000}")
+    public void checkReplicaLag() {
+        List<String> healthy = new ArrayList<>();
+        replicas.forEach((name, replica) -> {
+            try {
+                Long lag = replicationLag(replica, allowStandalone);
+                if (lag != null && lag <= maxLagSeconds) {
+                    healthy.add(name);
+                } else {
+                    log.warn("Réplica {} fuera de rotación: retraso {} s (máximo {} s)",
+                            name, lag != null ? lag : "desconocido", maxLagSeconds);
+                }
+            } catch (SQLException e) {
+                log.warn("Réplica {} fuera de rotación: {}", name, e.getMessage());
+            }
+        });
+
+        if (!healthy.equals(healthyReplicas)) {
+            log.info("Réplicas de lectura en rotación: {}", healthy);
+        }
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    /**
+     * Segundos de retraso de la réplica; null si la replicación está detenida o si
+     * la instancia no tiene replicación configurada (sin filas): un servidor
+     * independiente o una réplica reiniciada puede servir datos arbitrariamente
+     * viejos. allowStandalone la cuenta como al día, solo para probar el enrutamiento
+     * con dos instancias locales independientes.
+     */
+    static Long replicationLag(DataSource replica, boolean allowStandalone) throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet status = statement.executeQuery("SHOW SLAVE STATUS")) {
+            if (!status.next()) {
+                return allowStandalone ? 0L : null;
+            }
+            long lag = status.getLong("Seconds_Behind_Master");
+            return status.wasNull() ? null : lag;
+        }
+    }
+
+    List<String> healthyReplicas() {
+        return healthyReplicas;
+    }
+
+    @Override
+    public void destroy() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+}
@@ -1,6 +1,7 @@
 package co.edu.uniquindio.application.config;
 
 import co.edu.uniquindio.application.security.CustomAccessDeniedHandler;
+import co.edu.uniquindio.application.security.IdempotencyFilter;
 import co.edu.uniquindio.application.security.JwtAuthenticationEntryPoint;
 import co.edu.uniquindio.application.security.JWTFilter;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +30,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JWTFilter jwtFilter;
+    private final IdempotencyFilter idempotencyFilter;
     private final CustomAccessDeniedHandler accessDeniedHandler;
 
     @Bean
@@ -43,6 +45,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         .requestMatchers("/api/greeting/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/images/**").permitAll()
 
                         // CONSULTAS PÚBLICAS (solo lectura, sin autenticación)
                         .requestMatchers(HttpMethod.GET, "/api/accommodations/**").permitAll()
@@ -56,16 +59,21 @@ public class SecurityConfig {
 
                         // SOLO HOST (anfitriones)
                         .requestMatchers(HttpMethod.POST, "/api/accommodations").hasAuthority("HOST")
+                        .requestMatchers(HttpMethod.POST, "/api/accommodations/import").hasAuthority("HOST")
                         .requestMatchers(HttpMethod.PUT, "/api/accommodations/*").hasAuthority("HOST")
                         .requestMatchers(HttpMethod.DELETE, "/api/accommodations/*").hasAuthority("HOST")
                         .requestMatchers(HttpMethod.POST, "/api/host-profiles").hasAuthority("HOST")
                         .requestMatchers(HttpMethod.PUT, "/api/reservations/*/confirm").hasAuthority("HOST")
 
+                        // HOST o ADMIN (exportaciones; el servicio limita al HOST a sus alojamientos)
+                        .requestMatchers(HttpMethod.GET, "/api/exports/**").hasAnyAuthority("HOST", "ADMIN")
+
                         // SOLO ADMIN (administradores)
                         .requestMatchers(HttpMethod.GET, "/api/users").hasAuthority("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/users/*").hasAuthority("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/users/*/activate").hasAuthority("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/users/*/deactivate").hasAuthority("ADMIN")
+                        .requestMatchers("/api/admin/**").hasAuthority("ADMIN")
 
                         // GUEST o ADMIN (usuarios normales o administradores)
                         .requestMatchers(HttpMethod.GET, "/api/users/*").hasAnyAuthority("GUEST", "HOST", "ADMIN")
@@ -78,7 +86,9 @@ public class SecurityConfig {
                     ex.authenticationEntryPoint(new JwtAuthenticationEntryPoint());
                     ex.accessDeniedHandler(accessDeniedHandler);
                 })
-                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                // Después del JWT para que la clave de idempotencia quede asociada al usuario
+                .addFilterAfter(idempotencyFilter, JWTFilter.class);
 
         return http.build();
     }
@@ -89,6 +99,7 @@ public class SecurityConfig {
         config.setAllowedOrigins(List.of("*"));
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         config.setAllowedHeaders(List.of("*"));
+        config.setExposedHeaders(List.of("X-Next-Cursor", IdempotencyFilter.REPLAYED_HEADER));
         config.setAllowCredentials(false);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
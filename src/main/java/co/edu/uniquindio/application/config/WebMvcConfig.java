@@ -0,0 +1,28 @@
+package co.edu.uniquindio.application.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ThreadPoolTaskExecutor streamingExecutor;
+
+    public WebMvcConfig(@Qualifier("streamingExecutor") ThreadPoolTaskExecutor streamingExecutor) {
+        this.streamingExecutor = streamingExecutor;
+    }
+
+    /**
+     * Las respuestas asíncronas de MVC (StreamingResponseBody) corren en un pool acotado.
+     * Con otros executors definidos Spring Boot no crea el suyo y MVC usaría
+     * SimpleAsyncTaskExecutor, que abre un hilo nuevo por petición. Las exportaciones
+     * usan su propio executor (WebAsyncTask de ExportStreamer).
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingExecutor);
+    }
+}
@@ -1,23 +1,37 @@
 package co.edu.uniquindio.application.controllers;
 
 import co.edu.uniquindio.application.dto.AccommodationDTO;
+import co.edu.uniquindio.application.dto.BatchAccommodationImportDTO;
 import co.edu.uniquindio.application.dto.create.CreateAccommodationDTO;
 import co.edu.uniquindio.application.dto.edit.EditAccommodationDTO;
+import co.edu.uniquindio.application.dto.ResourceVersionDTO;
 import co.edu.uniquindio.application.dto.ResponseDTO;
 import co.edu.uniquindio.application.models.enums.AccommodationStatus;
+import co.edu.uniquindio.application.models.enums.DataFormat;
+import co.edu.uniquindio.application.services.AccommodationImportService;
 import co.edu.uniquindio.application.services.AccommodationService;
 import co.edu.uniquindio.application.services.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/accommodations")
@@ -26,7 +40,17 @@ import java.util.List;
 public class AccommodationController {
 
     private final AccommodationService accommodationService;
+    private final AccommodationImportService accommodationImportService;
     private final AuthService authService;
+    private final JsonArrayStreamer jsonArrayStreamer;
+
+    // Las lecturas son públicas y no dependen del usuario: la CDN puede guardarlas
+    // s-maxage segundos y los navegadores max-age; después revalidan con el ETag
+    @Value("${accommodations.http-cache.max-age-seconds:60}")
+    private long maxAgeSeconds;
+
+    @Value("${accommodations.http-cache.shared-max-age-seconds:300}")
+    private long sharedMaxAgeSeconds;
 
     @PostMapping
     public ResponseEntity<ResponseDTO<String>> create(
@@ -40,6 +64,24 @@ public class AccommodationController {
                 .body(new ResponseDTO<>(false, "El alojamiento ha sido creado exitosamente"));
     }
 
+    // Importación masiva en CSV (con encabezado) o NDJSON para el anfitrión autenticado
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ResponseDTO<BatchAccommodationImportDTO>> importAccommodations(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws Exception {
+        DataFormat format = contentType.isCompatibleWith(MediaType.valueOf("text/csv")) ? DataFormat.CSV : DataFormat.NDJSON;
+        BatchAccommodationImportDTO result = accommodationImportService.importAccommodations(body, format);
+
+        // Nada importado: 422 con el reporte. Importación parcial: 207 con las filas rechazadas
+        if (result.imported() == 0) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(new ResponseDTO<>(true, result));
+        }
+        if (result.failed() > 0) {
+            return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(new ResponseDTO<>(true, result));
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(new ResponseDTO<>(false, result));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ResponseDTO<String>> edit(@PathVariable String id, @Valid @RequestBody EditAccommodationDTO accommodationDTO) throws Exception {
         accommodationService.edit(id, accommodationDTO);
@@ -53,32 +95,41 @@ public class AccommodationController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ResponseDTO<AccommodationDTO>> get(@PathVariable String id) throws Exception {
-        AccommodationDTO accommodationDTO = accommodationService.get(id);
-        return ResponseEntity.ok(new ResponseDTO<>(false, accommodationDTO));
+    public ResponseEntity<ResponseDTO<AccommodationDTO>> get(@PathVariable String id, WebRequest request)
+            throws Exception {
+        return conditional(request, accommodationService.getVersion(id), () -> accommodationService.get(id));
     }
 
-    // ENDPOINT SIN PAGINACIÓN (lista simple)
+    // ENDPOINT SIN PAGINACIÓN (lista simple, se escribe en streaming)
     @GetMapping
-    public ResponseEntity<ResponseDTO<List<AccommodationDTO>>> listAll(
+    public ResponseEntity<StreamingResponseBody> listAll(
             @RequestParam(required = false) String city,
             @RequestParam(required = false) Double minPrice,
             @RequestParam(required = false) Double maxPrice,
-            @RequestParam(required = false) AccommodationStatus status
+            @RequestParam(required = false) AccommodationStatus status,
+            WebRequest request
     ) throws Exception {
-        List<AccommodationDTO> list;
+        ResourceVersionDTO version = accommodationService.getCatalogVersion();
+        if (request.checkNotModified(version.etag(), version.lastModified())) {
+            return notModified();
+        }
+
+        Supplier<Stream<AccommodationDTO>> rows;
 
         if (status != null) {
-            list = accommodationService.listByStatus(status);
+            rows = () -> accommodationService.streamByStatus(status);
         } else if (city != null && !city.isEmpty()) {
-            list = accommodationService.listByCity(city);
+            rows = () -> accommodationService.listByCity(city).stream();
         } else if (minPrice != null && maxPrice != null) {
-            list = accommodationService.listByPriceRange(minPrice, maxPrice);
+            rows = () -> accommodationService.listByPriceRange(minPrice, maxPrice).stream();
         } else {
-            list = accommodationService.listAll();
+            rows = accommodationService::streamAll;
         }
 
-        return ResponseEntity.ok(new ResponseDTO<>(false, list));
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonArrayStreamer.stream(rows));
     }
 
     // ENDPOINT CON PAGINACIÓN (para consultas grandes)
@@ -91,9 +142,14 @@ public class AccommodationController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "title") String sortBy,
-            @RequestParam(defaultValue = "ASC") String sortDir
+            @RequestParam(defaultValue = "ASC") String sortDir,
+            WebRequest request
     ) throws Exception {
-        
+        ResourceVersionDTO version = accommodationService.getCatalogVersion();
+        if (request.checkNotModified(version.etag(), version.lastModified())) {
+            return notModified();
+        }
+
         Sort sort = sortDir.equalsIgnoreCase("DESC") ? 
                     Sort.by(sortBy).descending() : 
                     Sort.by(sortBy).ascending();
@@ -111,13 +167,12 @@ public class AccommodationController {
             resultPage = accommodationService.listAllPaginated(pageable);
         }
 
-        return ResponseEntity.ok(new ResponseDTO<>(false, resultPage));
+        return cacheable(resultPage);
     }
 
     @GetMapping("/active")
-    public ResponseEntity<ResponseDTO<List<AccommodationDTO>>> listActive() {
-        List<AccommodationDTO> list = accommodationService.listActive();
-        return ResponseEntity.ok(new ResponseDTO<>(false, list));
+    public ResponseEntity<ResponseDTO<List<AccommodationDTO>>> listActive(WebRequest request) throws Exception {
+        return conditional(request, accommodationService.getCatalogVersion(), accommodationService::listActive);
     }
 
     @PutMapping("/{id}/activate")
@@ -153,16 +208,16 @@ public class AccommodationController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "title") String sortBy,
-            @RequestParam(defaultValue = "ASC") String sortDir) throws Exception {
+            @RequestParam(defaultValue = "ASC") String sortDir,
+            WebRequest request) throws Exception {
         
         Sort sort = sortDir.equalsIgnoreCase("DESC") ? 
                     Sort.by(sortBy).descending() : 
                     Sort.by(sortBy).ascending();
         
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<AccommodationDTO> resultPage = accommodationService.listByCityPaginated(city, pageable);
-        
-        return ResponseEntity.ok(new ResponseDTO<>(false, resultPage));
+        return conditional(request, accommodationService.getCatalogVersion(),
+                () -> accommodationService.listByCityPaginated(city, pageable));
     }
 
     // EJERCICIO 4: Búsqueda por texto con paginación
@@ -170,12 +225,12 @@ public class AccommodationController {
     public ResponseEntity<ResponseDTO<Page<AccommodationDTO>>> searchByName(
             @RequestParam String text,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) throws Exception {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) throws Exception {
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<AccommodationDTO> resultPage = accommodationService.searchByNamePaginated(text, pageable);
-        
-        return ResponseEntity.ok(new ResponseDTO<>(false, resultPage));
+        return conditional(request, accommodationService.getCatalogVersion(),
+                () -> accommodationService.searchByNamePaginated(text, pageable));
     }
 
     // EJERCICIO 5: Consultas personalizadas
@@ -185,12 +240,12 @@ public class AccommodationController {
             @RequestParam String city,
             @RequestParam Double maxPrice,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) throws Exception {
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<AccommodationDTO> resultPage = accommodationService.findActiveByCityAndMaxPrice(city, maxPrice, pageable);
-        
-        return ResponseEntity.ok(new ResponseDTO<>(false, resultPage));
+        return conditional(request, accommodationService.getCatalogVersion(),
+                () -> accommodationService.findActiveByCityAndMaxPrice(city, maxPrice, pageable));
     }
 
     @GetMapping("/by-capacity-rating")
@@ -198,23 +253,23 @@ public class AccommodationController {
             @RequestParam Integer minCapacity,
             @RequestParam Double minRating,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) throws Exception {
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<AccommodationDTO> resultPage = accommodationService.findByCapacityAndRating(minCapacity, minRating, pageable);
-        
-        return ResponseEntity.ok(new ResponseDTO<>(false, resultPage));
+        return conditional(request, accommodationService.getCatalogVersion(),
+                () -> accommodationService.findByCapacityAndRating(minCapacity, minRating, pageable));
     }
 
     @GetMapping("/most-popular")
     public ResponseEntity<ResponseDTO<Page<AccommodationDTO>>> findMostPopular(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) throws Exception {
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<AccommodationDTO> resultPage = accommodationService.findMostPopular(pageable);
-        
-        return ResponseEntity.ok(new ResponseDTO<>(false, resultPage));
+        return conditional(request, accommodationService.getCatalogVersion(),
+                () -> accommodationService.findMostPopular(pageable));
     }
 
     @GetMapping("/by-price-range-active")
@@ -222,12 +277,12 @@ public class AccommodationController {
             @RequestParam Double minPrice,
             @RequestParam Double maxPrice,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) throws Exception {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("pricePerNight").ascending());
-        Page<AccommodationDTO> resultPage = accommodationService.findByPriceRangeActive(minPrice, maxPrice, pageable);
-        
-        return ResponseEntity.ok(new ResponseDTO<>(false, resultPage));
+        return conditional(request, accommodationService.getCatalogVersion(),
+                () -> accommodationService.findByPriceRangeActive(minPrice, maxPrice, pageable));
     }
 
     @GetMapping("/near-location")
@@ -236,11 +291,43 @@ public class AccommodationController {
             @RequestParam Double longitude,
             @RequestParam(defaultValue = "10") Double radiusKm,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) throws Exception {
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<AccommodationDTO> resultPage = accommodationService.findNearLocation(latitude, longitude, radiusKm, pageable);
-        
-        return ResponseEntity.ok(new ResponseDTO<>(false, resultPage));
+        return conditional(request, accommodationService.getCatalogVersion(),
+                () -> accommodationService.findNearLocation(latitude, longitude, radiusKm, pageable));
+    }
+
+    /**
+     * Responde 304 sin consultar el contenido cuando el cliente (o la CDN) ya tiene
+     * la versión actual; si no, carga el contenido y lo envía con Cache-Control.
+     * WebRequest.checkNotModified agrega ETag y Last-Modified en ambos casos.
+     */
+    private <T> ResponseEntity<ResponseDTO<T>> conditional(WebRequest request, ResourceVersionDTO version,
+                                                           ContentLoader<T> loader) throws Exception {
+        if (request.checkNotModified(version.etag(), version.lastModified())) {
+            return notModified();
+        }
+        return cacheable(loader.load());
+    }
+
+    private <T> ResponseEntity<ResponseDTO<T>> cacheable(T content) {
+        return ResponseEntity.ok().cacheControl(cacheControl()).body(new ResponseDTO<>(false, content));
+    }
+
+    private <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl()).build();
+    }
+
+    private CacheControl cacheControl() {
+        return CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+                .sMaxAge(Duration.ofSeconds(sharedMaxAgeSeconds))
+                .cachePublic();
+    }
+
+    @FunctionalInterface
+    private interface ContentLoader<T> {
+        T load() throws Exception;
     }
-}
\ No newline at end of file
+}
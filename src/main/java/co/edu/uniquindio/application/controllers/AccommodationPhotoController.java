@@ -1,6 +1,9 @@
 package co.edu.uniquindio.application.controllers;
 
+import co.edu.uniquindio.application.dto.AccommodationPhotoDTO;
+import co.edu.uniquindio.application.dto.BatchPhotoUploadDTO;
 import co.edu.uniquindio.application.dto.ResponseDTO;
+import co.edu.uniquindio.application.models.enums.ImageVariant;
 import co.edu.uniquindio.application.services.AccommodationPhotoService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -28,11 +31,37 @@ public class AccommodationPhotoController {
                 .body(new ResponseDTO<>(false, imageUrl));
     }
 
+    @PostMapping(value = "/upload-batch/{accommodationId}", consumes = "multipart/form-data")
+    public ResponseEntity<ResponseDTO<BatchPhotoUploadDTO>> uploadPhotos(
+            @PathVariable String accommodationId,
+            @RequestParam("photos") List<MultipartFile> photos,
+            @RequestParam(required = false) Integer primaryIndex) throws Exception {
+
+        BatchPhotoUploadDTO result = accommodationPhotoService.uploadPhotos(accommodationId, photos, primaryIndex);
+
+        // Si ninguna foto se pudo subir, el lote completo se considera fallido
+        if (result.uploaded().isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ResponseDTO<>(true, result));
+        }
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new ResponseDTO<>(!result.failed().isEmpty(), result));
+    }
+
     @GetMapping("/{accommodationId}")
     public ResponseEntity<ResponseDTO<List<String>>> getPhotosByAccommodation(
-            @PathVariable String accommodationId) throws Exception {
+            @PathVariable String accommodationId,
+            @RequestParam(defaultValue = "ORIGINAL") ImageVariant variant) throws Exception {
         
-        List<String> photos = accommodationPhotoService.getPhotosByAccommodation(accommodationId);
+        List<String> photos = accommodationPhotoService.getPhotosByAccommodation(accommodationId, variant);
+        return ResponseEntity.ok(new ResponseDTO<>(false, photos));
+    }
+
+    @GetMapping("/{accommodationId}/details")
+    public ResponseEntity<ResponseDTO<List<AccommodationPhotoDTO>>> getPhotoDetailsByAccommodation(
+            @PathVariable String accommodationId) throws Exception {
+
+        List<AccommodationPhotoDTO> photos = accommodationPhotoService.getPhotoDetailsByAccommodation(accommodationId);
         return ResponseEntity.ok(new ResponseDTO<>(false, photos));
     }
 
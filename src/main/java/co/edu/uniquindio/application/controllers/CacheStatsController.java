@@ -0,0 +1,30 @@
+package co.edu.uniquindio.application.controllers;
+
+import co.edu.uniquindio.application.dto.CacheRegionStatsDTO;
+import co.edu.uniquindio.application.dto.ResponseDTO;
+import co.edu.uniquindio.application.services.CacheStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/cache-stats")
+@RequiredArgsConstructor
+public class CacheStatsController {
+
+    private final CacheStatsService cacheStatsService;
+
+    @GetMapping
+    public ResponseEntity<ResponseDTO<List<CacheRegionStatsDTO>>> getRegionStats() throws Exception {
+        List<CacheRegionStatsDTO> stats = cacheStatsService.getRegionStats();
+        return ResponseEntity.ok(new ResponseDTO<>(false, stats));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<ResponseDTO<String>> resetStats() throws Exception {
+        cacheStatsService.resetStats();
+        return ResponseEntity.ok(new ResponseDTO<>(false, "Las estadísticas de caché han sido reiniciadas"));
+    }
+}
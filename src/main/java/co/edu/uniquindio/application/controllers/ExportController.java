@@ -0,0 +1,82 @@
+package co.edu.uniquindio.application.controllers;
+
+import co.edu.uniquindio.application.dto.ExportFilterDTO;
+import co.edu.uniquindio.application.dto.PaymentDTO;
+import co.edu.uniquindio.application.dto.ReservationDTO;
+import co.edu.uniquindio.application.models.enums.DataFormat;
+import co.edu.uniquindio.application.models.enums.PaymentStatus;
+import co.edu.uniquindio.application.models.enums.ReservationStatus;
+import co.edu.uniquindio.application.exceptions.TooManyRequestsException;
+import co.edu.uniquindio.application.services.ExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Exportaciones masivas para anfitriones y administración.
+ * Las filas salen ordenadas por fecha e ID; para continuar una descarga cortada
+ * (o partir un historial grande en tramos con limit) se pide de nuevo con
+ * after = ID de la última fila recibida.
+ */
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ExportService exportService;
+    private final ExportStreamer exportStreamer;
+
+    @GetMapping("/reservations")
+    public WebAsyncTask<Void> exportReservations(
+            @RequestParam(defaultValue = "CSV") DataFormat format,
+            @RequestParam(required = false) String hostId,
+            @RequestParam(required = false) ReservationStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            HttpServletResponse response) throws Exception {
+        ExportFilterDTO filter = new ExportFilterDTO(hostId, from, to, after, limit);
+        return download(response, "reservations", format,
+                exportStreamer.stream(format, ReservationDTO.class, exportService.exportReservations(filter, status)));
+    }
+
+    @GetMapping("/payments")
+    public WebAsyncTask<Void> exportPayments(
+            @RequestParam(defaultValue = "CSV") DataFormat format,
+            @RequestParam(required = false) String hostId,
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            HttpServletResponse response) throws Exception {
+        ExportFilterDTO filter = new ExportFilterDTO(hostId, from, to, after, limit);
+        return download(response, "payments", format,
+                exportStreamer.stream(format, PaymentDTO.class, exportService.exportPayments(filter, status)));
+    }
+
+    // La respuesta se escribe directamente desde el hilo de exportExecutor: los
+    // encabezados se fijan después de reservarlo para que un 429 salga como JSON
+    private WebAsyncTask<Void> download(HttpServletResponse response, String name, DataFormat format,
+                                        StreamingResponseBody body) throws TooManyRequestsException {
+        WebAsyncTask<Void> task = exportStreamer.start(response, body);
+        boolean csv = format == DataFormat.CSV;
+        String filename = name + "-" + LocalDate.now() + (csv ? ".csv" : ".ndjson");
+        response.setContentType((csv ? TEXT_CSV : APPLICATION_NDJSON).toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+        return task;
+    }
+}
@@ -0,0 +1,253 @@
+package co.edu.uniquindio.application.controllers;
+
+import co.edu.uniquindio.application.dto.ResponseDTO;
+import co.edu.uniquindio.application.exceptions.TooManyRequestsException;
+import co.edu.uniquindio.application.models.enums.DataFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Escribe exportaciones fila por fila en CSV o NDJSON (un objeto JSON por línea)
+ * desde un Stream de JPA abierto en una transacción de solo lectura, igual que
+ * JsonArrayStreamer. Ambos formatos son por líneas: si la descarga se corta, la
+ * última línea completa trae el ID desde el que se reanuda.
+ *
+ * Una exportación dura lo que tarde el cliente en leerla, así que no corre en el
+ * pool de las demás respuestas asíncronas sino en exportExecutor, con tantas
+ * exportaciones a la vez como hilos tiene (las demás reciben 429), y con
+ * exports.max-duration como tiempo máximo. Al
+ * alcanzarlo, o si la lectura falla a mitad de camino, se termina con una línea
+ * de error para que el cliente no tome el archivo truncado por completo:
+ * {"error":true,"content":"..."} en NDJSON y #ERROR,... en CSV.
+ */
+@Component
+@Slf4j
+class ExportStreamer {
+
+    // Margen para que la línea de error se escriba antes de que el contenedor cierre la respuesta
+    private static final Duration ASYNC_TIMEOUT_MARGIN = Duration.ofMinutes(1);
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration maxDuration;
+    private final ThreadPoolTaskExecutor exportExecutor;
+    private final Semaphore slots;
+
+    ExportStreamer(ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                   @Value("${exports.max-duration:30m}") Duration maxDuration,
+                   @Qualifier("exportExecutor") ThreadPoolTaskExecutor exportExecutor) {
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxDuration = maxDuration;
+        this.exportExecutor = exportExecutor;
+        this.slots = new Semaphore(exportExecutor.getMaxPoolSize());
+    }
+
+    /**
+     * Reserva un hilo de exportExecutor para escribir body en la respuesta. Se llama
+     * después de validar la petición y antes de escribir los encabezados, para que
+     * el 429 salga como cualquier otro error JSON. El hilo se libera al terminar la
+     * escritura o, si nunca llegó a empezar, al cerrarse la petición asíncrona.
+     */
+    WebAsyncTask<Void> start(HttpServletResponse response, StreamingResponseBody body) throws TooManyRequestsException {
+        if (!slots.tryAcquire()) {
+            throw new TooManyRequestsException("Hay demasiadas exportaciones en curso. Intenta de nuevo en unos minutos.");
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                slots.release();
+            }
+        };
+
+        // 0 = sin límite: el tiempo máximo lo aplica el propio streamer entre filas
+        long timeout = limited() ? maxDuration.plus(ASYNC_TIMEOUT_MARGIN).toMillis() : 0;
+        WebAsyncTask<Void> task = new WebAsyncTask<>(timeout, exportExecutor, () -> {
+            try {
+                body.writeTo(response.getOutputStream());
+                return null;
+            } finally {
+                release.run();
+            }
+        });
+        task.onCompletion(release);
+        return task;
+    }
+
+    <T extends Record> StreamingResponseBody stream(DataFormat format, Class<T> type, Supplier<Stream<T>> rows) {
+        return output -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<T> stream = rows.get()) {
+                Iterator<T> iterator = withDeadline(stream.iterator());
+                boolean complete = format == DataFormat.CSV
+                        ? writeCsv(output, type, iterator)
+                        : writeNdjson(output, iterator);
+                if (!complete) {
+                    status.setRollbackOnly();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private boolean limited() {
+        return maxDuration.isPositive();
+    }
+
+    private <T> Iterator<T> withDeadline(Iterator<T> rows) {
+        if (!limited()) {
+            return rows;
+        }
+        long deadline = System.nanoTime() + maxDuration.toNanos();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (System.nanoTime() - deadline > 0) {
+                    throw new ExportTimeoutException();
+                }
+                return rows.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return rows.next();
+            }
+        };
+    }
+
+    private boolean writeNdjson(OutputStream output, Iterator<?> rows) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(output)) {
+            // Sin el espacio que Jackson pone entre valores raíz: cada línea empieza con '{'
+            json.setRootValueSeparator(null);
+            try {
+                while (rows.hasNext()) {
+                    rowWriter.writeValue(json, rows.next());
+                    json.writeRaw('\n');
+                }
+                return true;
+            } catch (RuntimeException e) {
+                rowWriter.writeValue(json, new ResponseDTO<>(true, abortMessage(e)));
+                json.writeRaw('\n');
+                return false;
+            }
+        }
+    }
+
+    // Encabezado con los nombres de los campos del DTO, en el orden en que se declaran
+    private boolean writeCsv(OutputStream output, Class<? extends Record> type, Iterator<?> rows) throws IOException {
+        RecordComponent[] components = type.getRecordComponents();
+        Method[] accessors = new Method[components.length];
+        for (int i = 0; i < components.length; i++) {
+            accessors[i] = components[i].getAccessor();
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+
+        for (int i = 0; i < components.length; i++) {
+            if (i > 0) writer.write(',');
+            writer.write(components[i].getName());
+        }
+        writer.write("\r\n");
+
+        boolean complete = true;
+        try {
+            while (rows.hasNext()) {
+                Object row = rows.next();
+                for (int i = 0; i < accessors.length; i++) {
+                    if (i > 0) writer.write(',');
+                    writer.write(csvValue(value(accessors[i], row)));
+                }
+                writer.write("\r\n");
+            }
+        } catch (RuntimeException e) {
+            writer.write("#ERROR," + csvValue(abortMessage(e)) + "\r\n");
+            complete = false;
+        }
+        writer.flush();
+        return complete;
+    }
+
+    // El detalle del fallo queda en el log; al cliente solo se le indica cómo continuar
+    private String abortMessage(RuntimeException e) {
+        String reason;
+        if (e instanceof ExportTimeoutException) {
+            log.warn("Exportación interrumpida al alcanzar el tiempo máximo de {}", maxDuration);
+            reason = "se alcanzó el tiempo máximo de la descarga";
+        } else {
+            log.error("Exportación interrumpida por un error al leer las filas", e);
+            reason = "falló la lectura de los datos";
+        }
+        return "Exportación incompleta: " + reason + ". Pídala de nuevo con after = ID de la última fila recibida.";
+    }
+
+    private static Object value(Method accessor, Object row) {
+        try {
+            return accessor.invoke(row);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No se pudo leer " + accessor.getName() + " de " + row.getClass(), e);
+        }
+    }
+
+    // RFC 4180: se citan los campos con comas, comillas o saltos de línea. Los textos
+    // que empiezan por = + - @ se prefijan con ' para que una hoja de cálculo no los
+    // evalúe como fórmulas.
+    static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Double || value instanceof Float) {
+            // Sin notación científica (1.5E7) en los montos
+            return BigDecimal.valueOf(((Number) value).doubleValue()).toPlainString();
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (!(value instanceof CharSequence)) {
+            return value.toString();
+        }
+
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    private static class ExportTimeoutException extends RuntimeException {
+    }
+}
@@ -3,6 +3,7 @@ package co.edu.uniquindio.application.controllers;
 import co.edu.uniquindio.application.dto.create.CreateFavoriteDTO;
 import co.edu.uniquindio.application.dto.ResponseDTO;
 import co.edu.uniquindio.application.dto.FavoriteDTO;
+import co.edu.uniquindio.application.dto.FavoriteStatusDTO;
 import co.edu.uniquindio.application.services.FavoriteService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/favorites")
@@ -60,6 +62,12 @@ public class FavoriteController {
         return ResponseEntity.ok(new ResponseDTO<>(false, list));
     }
 
+    @GetMapping("/user/{userId}/ids")
+    public ResponseEntity<ResponseDTO<Set<String>>> listFavoriteAccommodationIds(@PathVariable String userId) throws Exception {
+        Set<String> ids = favoriteService.listFavoriteAccommodationIds(userId);
+        return ResponseEntity.ok(new ResponseDTO<>(false, ids));
+    }
+
     @GetMapping("/accommodation/{accommodationId}")
     public ResponseEntity<ResponseDTO<List<FavoriteDTO>>> listByAccommodation(@PathVariable String accommodationId) throws Exception {
         List<FavoriteDTO> list = favoriteService.listByAccommodation(accommodationId);
@@ -74,6 +82,14 @@ public class FavoriteController {
         return ResponseEntity.ok(new ResponseDTO<>(false, isFavorite));
     }
 
+    @GetMapping("/user/{userId}/status")
+    public ResponseEntity<ResponseDTO<List<FavoriteStatusDTO>>> getFavoriteStatus(
+            @PathVariable String userId,
+            @RequestParam List<String> accommodationIds) throws Exception {
+        List<FavoriteStatusDTO> status = favoriteService.getFavoriteStatus(userId, accommodationIds);
+        return ResponseEntity.ok(new ResponseDTO<>(false, status));
+    }
+
     @GetMapping("/user/{userId}/count")
     public ResponseEntity<ResponseDTO<Long>> countFavoritesByUser(@PathVariable String userId) throws Exception {
         Long count = favoriteService.countFavoritesByUser(userId);
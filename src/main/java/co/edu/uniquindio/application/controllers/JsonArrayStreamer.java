@@ -0,0 +1,61 @@
+package co.edu.uniquindio.application.controllers;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Escribe los listados grandes como JSON a medida que se leen de la base de datos,
+ * con la misma forma que ResponseDTO: {"error": false, "content": [...]}.
+ *
+ * Las filas salen de un Stream de JPA abierto dentro de una transacción de solo
+ * lectura que dura lo que dura la respuesta; como cada fila ya es un DTO, ni el
+ * contexto de persistencia ni la salida crecen con el número de filas.
+ * Si la lectura falla a mitad de camino la respuesta ya está comprometida y el
+ * cliente recibe un JSON truncado.
+ */
+@Component
+class JsonArrayStreamer {
+
+    private final JsonFactory jsonFactory;
+    private final ObjectWriter rowWriter;
+    private final TransactionTemplate readOnlyTransaction;
+
+    JsonArrayStreamer(ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.jsonFactory = objectMapper.getFactory();
+        // Sin flush por fila: el generador y el buffer del contenedor agrupan la salida
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    <T> StreamingResponseBody stream(Supplier<Stream<T>> rows) {
+        return output -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<T> stream = rows.get();
+                 JsonGenerator json = jsonFactory.createGenerator(output)) {
+                json.writeStartObject();
+                json.writeBooleanField("error", false);
+                json.writeArrayFieldStart("content");
+                for (Iterator<T> iterator = stream.iterator(); iterator.hasNext(); ) {
+                    rowWriter.writeValue(json, iterator.next());
+                }
+                json.writeEndArray();
+                json.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
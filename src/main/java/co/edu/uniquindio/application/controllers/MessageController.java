@@ -7,8 +7,10 @@ import co.edu.uniquindio.application.services.MessageService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.HashMap;
@@ -20,6 +22,7 @@ import java.util.Map;
 public class MessageController {
 
     private final MessageService messageService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
     @PostMapping
     public ResponseEntity<ResponseDTO<String>> create(@Valid @RequestBody CreateMessageDTO messageDTO) throws Exception {
@@ -41,9 +44,10 @@ public class MessageController {
     }
 
     @GetMapping
-    public ResponseEntity<ResponseDTO<List<MessageDTO>>> listAll() {
-        List<MessageDTO> list = messageService.listAll();
-        return ResponseEntity.ok(new ResponseDTO<>(false, list));
+    public ResponseEntity<StreamingResponseBody> listAll() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonArrayStreamer.stream(messageService::streamAll));
     }
 
     @GetMapping("/chat/{chatId}")
@@ -3,14 +3,19 @@ package co.edu.uniquindio.application.controllers;
 import co.edu.uniquindio.application.dto.create.CreatePaymentDTO;
 import co.edu.uniquindio.application.dto.ResponseDTO;
 import co.edu.uniquindio.application.dto.PaymentDTO;
+import co.edu.uniquindio.application.dto.RevenueReportDTO;
 import co.edu.uniquindio.application.models.enums.PaymentStatus;
+import co.edu.uniquindio.application.models.enums.RevenueGrouping;
 import co.edu.uniquindio.application.services.PaymentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.HashMap;
 import java.util.Map;
@@ -80,11 +85,21 @@ public class PaymentController {
     }
 
     @GetMapping("/stats/total-completed")
-    public ResponseEntity<ResponseDTO<Double>> getTotalCompletedPayments() {
-        Double total = paymentService.getTotalCompletedPayments();
+    public ResponseEntity<ResponseDTO<BigDecimal>> getTotalCompletedPayments() {
+        BigDecimal total = paymentService.getTotalCompletedPayments();
         return ResponseEntity.ok(new ResponseDTO<>(false, total));
     }
 
+    @GetMapping("/stats/revenue")
+    public ResponseEntity<ResponseDTO<RevenueReportDTO>> getRevenueReport(
+            @RequestParam(defaultValue = "MONTH") RevenueGrouping groupBy,
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) throws Exception {
+        RevenueReportDTO report = paymentService.getRevenueReport(groupBy, status, from, to);
+        return ResponseEntity.ok(new ResponseDTO<>(false, report));
+    }
+
     @GetMapping("/stats/count-by-status")
     public ResponseEntity<ResponseDTO<Map<String, Long>>> countByStatus() {
         Map<String, Long> stats = new HashMap<>();
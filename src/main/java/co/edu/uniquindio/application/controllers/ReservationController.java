@@ -11,8 +11,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -23,6 +25,7 @@ import java.util.List;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
     @PostMapping
     public ResponseEntity<ResponseDTO<String>> create(@Valid @RequestBody CreateReservationDTO reservationDTO) throws Exception {
@@ -44,9 +47,10 @@ public class ReservationController {
     }
 
     @GetMapping
-    public ResponseEntity<ResponseDTO<List<ReservationDTO>>> listAll() {
-        List<ReservationDTO> list = reservationService.listAll();
-        return ResponseEntity.ok(new ResponseDTO<>(false, list));
+    public ResponseEntity<StreamingResponseBody> listAll() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonArrayStreamer.stream(reservationService::streamAll));
     }
 
     @GetMapping("/accommodation/{accommodationId}")
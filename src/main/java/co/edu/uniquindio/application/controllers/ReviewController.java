@@ -8,8 +8,10 @@ import co.edu.uniquindio.application.services.ReviewService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -19,6 +21,7 @@ import java.util.List;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
     @PostMapping
     public ResponseEntity<ResponseDTO<String>> create(@Valid @RequestBody CreateReviewDTO reviewDTO) throws Exception {
@@ -40,9 +43,10 @@ public class ReviewController {
     }
 
     @GetMapping
-    public ResponseEntity<ResponseDTO<List<ReviewDTO>>> listAll() {
-        List<ReviewDTO> list = reviewService.listAll();
-        return ResponseEntity.ok(new ResponseDTO<>(false, list));
+    public ResponseEntity<StreamingResponseBody> listAll() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonArrayStreamer.stream(reviewService::streamAll));
     }
 
     @GetMapping("/accommodation/{accommodationId}")
@@ -4,14 +4,18 @@ import co.edu.uniquindio.application.dto.create.CreateUserDTO;
 import co.edu.uniquindio.application.dto.edit.EditUserDTO;
 import co.edu.uniquindio.application.dto.ResponseDTO;
 import co.edu.uniquindio.application.dto.UserDTO;
+import co.edu.uniquindio.application.dto.UserPageDTO;
+import co.edu.uniquindio.application.models.enums.Role;
 import co.edu.uniquindio.application.models.enums.UserStatus;
 import co.edu.uniquindio.application.services.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -19,6 +23,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final UserService userService;
 
     @PostMapping
@@ -39,19 +45,29 @@ public class UserController {
         return ResponseEntity.ok(new ResponseDTO<>(false, "El usuario ha sido eliminado"));
     }
 
+    /**
+     * Lista usuarios paginados por cursor, del más reciente al más antiguo.
+     * El cursor de la página siguiente viaja en el header X-Next-Cursor
+     * (ausente en la última página) y se envía de vuelta en ?cursor=
+     */
     @GetMapping
     public ResponseEntity<ResponseDTO<List<UserDTO>>> listAll(
-            @RequestParam(required = false) UserStatus status
-    ) {
-        List<UserDTO> list;
-
-        if (status != null) {
-            list = userService.listByStatus(status);
-        } else {
-            list = userService.listAll();
-        }
+            @RequestParam(required = false) UserStatus status,
+            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) throws Exception {
+        return pageResponse(userService.listPage(status, role, createdFrom, createdTo, cursor, size));
+    }
 
-        return ResponseEntity.ok(new ResponseDTO<>(false, list));
+    private ResponseEntity<ResponseDTO<List<UserDTO>>> pageResponse(UserPageDTO page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(new ResponseDTO<>(false, page.items()));
     }
 
     @PutMapping("/{id}")
@@ -60,10 +76,13 @@ public class UserController {
         return ResponseEntity.ok(new ResponseDTO<>(false, "El usuario ha sido actualizado"));
     }
 
+    // Usuarios activos, paginados por cursor igual que GET /api/users
     @GetMapping("/active")
-    public ResponseEntity<ResponseDTO<List<UserDTO>>> listActive() {
-        List<UserDTO> list = userService.listActiveUsers();
-        return ResponseEntity.ok(new ResponseDTO<>(false, list));
+    public ResponseEntity<ResponseDTO<List<UserDTO>>> listActive(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) throws Exception {
+        return pageResponse(userService.listActiveUsers(cursor, size));
     }
 
     @PutMapping("/{id}/activate")
@@ -15,6 +15,7 @@ public record AccommodationDTO(
         String amenities,
         Double averageRating,
         String hostId,
-        AccommodationStatus status  // ✅ NUEVO CAMPO
+        AccommodationStatus status,  // ✅ NUEVO CAMPO
+        Integer favoriteCount
 ) {
 }
\ No newline at end of file
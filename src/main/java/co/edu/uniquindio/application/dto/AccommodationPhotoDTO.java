@@ -6,8 +6,14 @@ public record AccommodationPhotoDTO(
         String id,
         String accommodationId,
         String imageUrl,
+        String thumbnailUrl,
+        String thumbnailWebpUrl,
+        String cardUrl,
+        String cardWebpUrl,
+        String fullUrl,
+        String fullWebpUrl,
         Boolean isPrimary,
         Integer displayOrder,
         LocalDateTime createdAt
 ) {
-}
\ No newline at end of file
+}
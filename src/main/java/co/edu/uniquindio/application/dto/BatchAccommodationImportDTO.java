@@ -0,0 +1,10 @@
+package co.edu.uniquindio.application.dto;
+
+import java.util.List;
+
+public record BatchAccommodationImportDTO(
+        long imported,
+        long failed,
+        List<ImportRowErrorDTO> errors  // solo los primeros; failed es el total
+) {
+}
@@ -0,0 +1,9 @@
+package co.edu.uniquindio.application.dto;
+
+import java.util.List;
+
+public record BatchPhotoUploadDTO(
+        List<AccommodationPhotoDTO> uploaded,
+        List<PhotoUploadErrorDTO> failed
+) {
+}
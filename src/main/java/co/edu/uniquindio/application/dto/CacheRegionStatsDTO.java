@@ -0,0 +1,11 @@
+package co.edu.uniquindio.application.dto;
+
+public record CacheRegionStatsDTO(
+        String region,
+        long hitCount,
+        long missCount,
+        long putCount,
+        double hitRatio,          // hits / (hits + misses); 0 si aún no hay lecturas
+        long elementCountInMemory // -1 si el proveedor no lo informa
+) {
+}
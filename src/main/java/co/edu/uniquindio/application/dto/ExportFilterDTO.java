@@ -0,0 +1,12 @@
+package co.edu.uniquindio.application.dto;
+
+import java.time.LocalDate;
+
+public record ExportFilterDTO(
+        String hostId,      // null: todos los anfitriones (solo ADMIN)
+        LocalDate from,     // rango de fechas inclusivo; null deja el extremo abierto
+        LocalDate to,
+        String after,       // ID de la última fila recibida para reanudar la descarga
+        Integer limit       // máximo de filas de esta descarga; null sin límite
+) {
+}
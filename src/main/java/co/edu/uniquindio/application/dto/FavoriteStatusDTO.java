@@ -0,0 +1,8 @@
+package co.edu.uniquindio.application.dto;
+
+public record FavoriteStatusDTO(
+        String accommodationId,
+        boolean favorite,
+        Integer favoriteCount
+) {
+}
@@ -0,0 +1,11 @@
+package co.edu.uniquindio.application.dto;
+
+public record ImageVariantsDTO(
+        String thumbnailUrl,
+        String thumbnailWebpUrl,
+        String cardUrl,
+        String cardWebpUrl,
+        String fullUrl,
+        String fullWebpUrl
+) {
+}
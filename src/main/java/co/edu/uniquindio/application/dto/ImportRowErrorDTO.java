@@ -0,0 +1,7 @@
+package co.edu.uniquindio.application.dto;
+
+public record ImportRowErrorDTO(
+        long line,
+        String message
+) {
+}
@@ -2,12 +2,13 @@ package co.edu.uniquindio.application.dto;
 
 import co.edu.uniquindio.application.models.enums.PaymentMethod;
 import co.edu.uniquindio.application.models.enums.PaymentStatus;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 public record PaymentDTO(
         String id,
         String reservationId,
-        Double amount,
+        BigDecimal amount,
         PaymentMethod paymentMethod,
         PaymentStatus status,
         String transactionReference,
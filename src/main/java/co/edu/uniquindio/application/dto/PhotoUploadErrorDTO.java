@@ -0,0 +1,8 @@
+package co.edu.uniquindio.application.dto;
+
+public record PhotoUploadErrorDTO(
+        int index,
+        String fileName,
+        String message
+) {
+}
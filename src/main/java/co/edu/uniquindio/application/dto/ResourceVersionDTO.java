@@ -0,0 +1,11 @@
+package co.edu.uniquindio.application.dto;
+
+/**
+ * Validadores HTTP de un recurso para GET condicionales: el ETag y la fecha de
+ * última modificación en milisegundos (-1 cuando no aplica, p. ej. en listados).
+ */
+public record ResourceVersionDTO(
+        String etag,
+        long lastModified
+) {
+}
@@ -0,0 +1,19 @@
+package co.edu.uniquindio.application.dto;
+
+import co.edu.uniquindio.application.models.enums.PaymentStatus;
+import co.edu.uniquindio.application.models.enums.RevenueGrouping;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public record RevenueReportDTO(
+        RevenueGrouping groupBy,
+        PaymentStatus status,
+        LocalDate from,
+        LocalDate to,
+        long count,
+        BigDecimal total,
+        List<RevenueRowDTO> rows
+) {
+}
@@ -0,0 +1,10 @@
+package co.edu.uniquindio.application.dto;
+
+import java.math.BigDecimal;
+
+public record RevenueRowDTO(
+        String key,
+        long count,
+        BigDecimal total
+) {
+}
@@ -0,0 +1,9 @@
+package co.edu.uniquindio.application.dto;
+
+import java.util.List;
+
+public record UserPageDTO(
+        List<UserDTO> items,
+        String nextCursor  // null cuando no hay más páginas
+) {
+}
@@ -3,13 +3,16 @@ package co.edu.uniquindio.application.dto.create;
 import co.edu.uniquindio.application.models.enums.PaymentMethod;
 import jakarta.validation.constraints.*;
 
+import java.math.BigDecimal;
+
 public record CreatePaymentDTO(
         @NotBlank(message = "El ID de la reserva es requerido")
         String reservationId,
 
         @NotNull(message = "El monto es requerido")
         @DecimalMin(value = "0.01", message = "El monto debe ser mayor a 0")
-        Double amount,
+        @Digits(integer = 10, fraction = 2, message = "El monto admite máximo 2 decimales")
+        BigDecimal amount,
 
         @NotNull(message = "El método de pago es requerido")
         PaymentMethod paymentMethod,
@@ -0,0 +1,10 @@
+package co.edu.uniquindio.application.events;
+
+/**
+ * Alta, edición, cambio de estado o baja de alojamientos. accommodationId es null
+ * cuando el cambio abarca varios (importación por bloques).
+ */
+public record AccommodationChangedEvent(
+        String accommodationId
+) {
+}
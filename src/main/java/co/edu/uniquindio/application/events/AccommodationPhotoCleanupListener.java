@@ -0,0 +1,44 @@
+package co.edu.uniquindio.application.events;
+
+import co.edu.uniquindio.application.repositories.AccommodationPhotoRepository;
+import co.edu.uniquindio.application.services.ImageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Elimina la imagen de una foto borrada cuando ya ninguna otra foto la usa.
+ *
+ * Las referencias se cuentan después del commit y no dentro de deletePhoto: si dos
+ * fotos que comparten imagen se borran a la vez, cada transacción todavía ve la
+ * fila de la otra y ninguna eliminaría la imagen. Tras el commit, el último de los
+ * dos listeners en contar ve cero referencias. Si ambos la ven libre, el segundo
+ * borrado falla sin efecto y solo queda en el log.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccommodationPhotoCleanupListener {
+
+    private final AccommodationPhotoRepository photoRepository;
+    private final ImageService imageService;
+
+    @Async("imageExecutor")
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPhotoDeleted(AccommodationPhotoDeletedEvent event) {
+        if (photoRepository.countByPublicId(event.publicId()) > 0) {
+            return;
+        }
+        try {
+            imageService.delete(event.publicId());
+        } catch (Exception e) {
+            // La foto ya no existe en la base; una imagen sin borrar no afecta a nadie
+            log.warn("No se pudo eliminar la imagen {}: {}", event.publicId(), e.getMessage());
+        }
+    }
+}
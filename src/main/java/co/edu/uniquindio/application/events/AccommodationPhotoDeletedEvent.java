@@ -0,0 +1,6 @@
+package co.edu.uniquindio.application.events;
+
+public record AccommodationPhotoDeletedEvent(
+        String publicId
+) {
+}
@@ -0,0 +1,53 @@
+package co.edu.uniquindio.application.events;
+
+import co.edu.uniquindio.application.dto.ImageVariantsDTO;
+import co.edu.uniquindio.application.models.entitys.AccommodationPhoto;
+import co.edu.uniquindio.application.repositories.AccommodationPhotoRepository;
+import co.edu.uniquindio.application.services.ImageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/**
+ * Genera las variantes de una foto cuando la transacción que la registró se confirma.
+ * Se ejecuta en el executor de imágenes para no alargar la petición de subida.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccommodationPhotoVariantListener {
+
+    private final AccommodationPhotoRepository photoRepository;
+    private final ImageService imageService;
+
+    @Async("imageExecutor")
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPhotoUploaded(AccommodationPhotoUploadedEvent event) {
+        Optional<AccommodationPhoto> photoOptional = photoRepository.findById(event.photoId());
+        if (photoOptional.isEmpty() || photoOptional.get().getPublicId() == null) {
+            return;
+        }
+
+        AccommodationPhoto photo = photoOptional.get();
+        try {
+            ImageVariantsDTO variants = imageService.createVariants(photo.getPublicId());
+            photo.setThumbnailUrl(variants.thumbnailUrl());
+            photo.setThumbnailWebpUrl(variants.thumbnailWebpUrl());
+            photo.setCardUrl(variants.cardUrl());
+            photo.setCardWebpUrl(variants.cardWebpUrl());
+            photo.setFullUrl(variants.fullUrl());
+            photo.setFullWebpUrl(variants.fullWebpUrl());
+            photoRepository.save(photo);
+        } catch (Exception e) {
+            // La foto original sigue disponible; los listados usan imageUrl como respaldo
+            log.error("Error al generar variantes de la foto {}: {}", photo.getId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package co.edu.uniquindio.application.events;
+
+public record FavoriteChangedEvent(
+        String userId,
+        String accommodationId,
+        boolean added
+) {
+}
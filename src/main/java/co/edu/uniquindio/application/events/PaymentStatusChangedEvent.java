@@ -0,0 +1,14 @@
+package co.edu.uniquindio.application.events;
+
+import co.edu.uniquindio.application.models.enums.PaymentStatus;
+
+import java.time.LocalDateTime;
+
+public record PaymentStatusChangedEvent(
+        String paymentId,
+        String reservationId,
+        PaymentStatus previousStatus,
+        PaymentStatus newStatus,
+        LocalDateTime paymentCreatedAt
+) {
+}
@@ -0,0 +1,17 @@
+package co.edu.uniquindio.application.events;
+
+import co.edu.uniquindio.application.models.enums.ReservationStatus;
+
+import java.util.List;
+
+/**
+ * Cambio de estado de un lote de reservas hecho con un solo UPDATE por el ciclo de vida.
+ * No se publica un ReservationStatusChangedEvent por fila: sus pagos ya se actualizan
+ * en el mismo lote y PaymentServiceImpl haría una consulta por reserva sin cambiar nada.
+ */
+public record ReservationBatchStatusChangedEvent(
+        List<String> reservationIds,
+        ReservationStatus previousStatus,
+        ReservationStatus newStatus
+) {
+}
@@ -0,0 +1,10 @@
+package co.edu.uniquindio.application.events;
+
+import co.edu.uniquindio.application.models.enums.ReservationStatus;
+
+public record ReservationStatusChangedEvent(
+        String reservationId,
+        ReservationStatus previousStatus,
+        ReservationStatus newStatus
+) {
+}
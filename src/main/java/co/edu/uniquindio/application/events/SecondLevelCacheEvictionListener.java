@@ -0,0 +1,26 @@
+package co.edu.uniquindio.application.events;
+
+import co.edu.uniquindio.application.models.entitys.Accommodation;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Expulsa de la caché de segundo nivel las entidades que se modifican con UPDATE
+ * nativos (Hibernate solo mantiene la caché cuando el cambio pasa por la sesión).
+ * Se ejecuta después del commit para que una lectura concurrente no vuelva a
+ * cachear el valor anterior.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheEvictionListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    // AccommodationRepository.increment/decrementFavoriteCount
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoriteChanged(FavoriteChangedEvent event) {
+        entityManagerFactory.getCache().evict(Accommodation.class, event.accommodationId());
+    }
+}
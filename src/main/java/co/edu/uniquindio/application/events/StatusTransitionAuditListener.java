@@ -0,0 +1,33 @@
+package co.edu.uniquindio.application.events;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Registra las transiciones de pagos y reservas una vez confirmadas en base de datos.
+ * Es el punto para colgar notificaciones u otros efectos externos: nunca ve
+ * transiciones que terminaron en rollback.
+ */
+@Component
+@Slf4j
+public class StatusTransitionAuditListener {
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentStatusChanged(PaymentStatusChangedEvent event) {
+        log.info("Pago {} (reserva {}): {} -> {}", event.paymentId(), event.reservationId(),
+                event.previousStatus(), event.newStatus());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationStatusChanged(ReservationStatusChangedEvent event) {
+        log.info("Reserva {}: {} -> {}", event.reservationId(), event.previousStatus(), event.newStatus());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationBatchStatusChanged(ReservationBatchStatusChangedEvent event) {
+        for (String reservationId : event.reservationIds()) {
+            log.info("Reserva {}: {} -> {}", reservationId, event.previousStatus(), event.newStatus());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package co.edu.uniquindio.application.exceptions;
+
+public class TooManyRequestsException extends Exception {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -11,14 +11,17 @@ import org.mapstruct.MappingConstants;
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface AccommodationMapper {
 
-    @Mapping(target = "id", expression = "java(java.util.UUID.randomUUID().toString())")
+    @Mapping(target = "id", expression = "java(co.edu.uniquindio.application.utils.UuidV7.generate())")
     @Mapping(target = "createdAt", expression = "java(java.time.LocalDateTime.now())")
     @Mapping(target = "updatedAt", expression = "java(java.time.LocalDateTime.now())")
     @Mapping(target = "averageRating", constant = "0.0")
     @Mapping(target = "ratingCount", constant = "0")
+    @Mapping(target = "favoriteCount", constant = "0")
     @Mapping(target = "status", expression = "java(co.edu.uniquindio.application.models.enums.AccommodationStatus.ACTIVE)")  // ✅ NUEVO
     @Mapping(target = "reviews", ignore = true)
     @Mapping(target = "host", ignore = true)
+    @Mapping(target = "newEntity", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Accommodation toEntity(CreateAccommodationDTO accommodationDTO);
 
     @Mapping(source = "host.id", target = "hostId")
@@ -10,9 +10,17 @@ import org.mapstruct.MappingConstants;
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface AccommodationPhotoMapper {
 
-    @Mapping(target = "id", expression = "java(java.util.UUID.randomUUID().toString())")
+    @Mapping(target = "id", expression = "java(co.edu.uniquindio.application.utils.UuidV7.generate())")
     @Mapping(target = "createdAt", expression = "java(java.time.LocalDateTime.now())")
     @Mapping(target = "accommodation", ignore = true)
+    @Mapping(target = "publicId", ignore = true)
+    @Mapping(target = "thumbnailUrl", ignore = true)
+    @Mapping(target = "thumbnailWebpUrl", ignore = true)
+    @Mapping(target = "cardUrl", ignore = true)
+    @Mapping(target = "cardWebpUrl", ignore = true)
+    @Mapping(target = "fullUrl", ignore = true)
+    @Mapping(target = "fullWebpUrl", ignore = true)
+    @Mapping(target = "newEntity", ignore = true)
     AccommodationPhoto toEntity(CreateAccommodationPhotoDTO dto);
 
     @Mapping(source = "accommodation.id", target = "accommodationId")
@@ -10,7 +10,7 @@ import org.mapstruct.MappingConstants;
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface AvailabilityMapper {
 
-    @Mapping(target = "id", expression = "java(java.util.UUID.randomUUID().toString())")
+    @Mapping(target = "id", expression = "java(co.edu.uniquindio.application.utils.UuidV7.generate())")
     @Mapping(target = "createdAt", expression = "java(java.time.LocalDateTime.now())")
     @Mapping(target = "accommodation", ignore = true)
     AvailabilityCalendar toEntity(CreateAvailabilityDTO createAvailabilityDTO);
@@ -10,12 +10,13 @@ import org.mapstruct.MappingConstants;
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface MessageMapper {
 
-    @Mapping(target = "id", expression = "java(java.util.UUID.randomUUID().toString())")
+    @Mapping(target = "id", expression = "java(co.edu.uniquindio.application.utils.UuidV7.generate())")
     @Mapping(target = "sentAt", expression = "java(java.time.LocalDateTime.now())")
     @Mapping(target = "isRead", constant = "false")
     @Mapping(target = "chat", ignore = true)
     @Mapping(target = "sender", ignore = true)
     @Mapping(target = "recipient", ignore = true)
+    @Mapping(target = "newEntity", ignore = true)
     Message toEntity(CreateMessageDTO createMessageDTO);
 
     @Mapping(source = "sender.name", target = "senderName")
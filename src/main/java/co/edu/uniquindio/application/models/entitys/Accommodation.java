@@ -3,6 +3,9 @@ package co.edu.uniquindio.application.models.entitys;
 import co.edu.uniquindio.application.models.enums.AccommodationStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -14,15 +17,25 @@ import java.util.List;
         @Index(name = "idx_rating", columnList = "average_rating"),
         @Index(name = "idx_status", columnList = "status"),
         @Index(name = "idx_city_price", columnList = "city, price_per_night"),
-        @Index(name = "idx_host", columnList = "host_id")
+        @Index(name = "idx_host", columnList = "host_id"),
+        // Más populares: filtro por estado y orden por reseñas sin ordenar en memoria
+        @Index(name = "idx_status_popularity", columnList = "status, rating_count, average_rating")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "accommodation")
 @Getter @Setter
 @Builder @AllArgsConstructor @NoArgsConstructor
-public class Accommodation {
+public class Accommodation implements Persistable<String> {
 
     @Id
     private String id;  // UUID
 
+    // Nuevo hasta que se guarda o se carga: la importación masiva inserta por lotes sin SELECT previo
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
     // Información básica
     @Column(length = 150, nullable = false)
     private String title;
@@ -70,13 +83,24 @@ public class Accommodation {
     @Column
     private Integer ratingCount;
 
+    // Contador desnormalizado de favoritos; lo mantiene FavoriteServiceImpl al agregar o quitar
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    @Builder.Default
+    private Integer favoriteCount = 0;
+
+    // Bloqueo optimista; también da el ETag del detalle, que updated_at (con precisión
+    // de segundos) no distingue entre dos ediciones dentro del mismo segundo
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     // ⭐ RELACIÓN BIDIRECCIONAL CON REVIEW
     @OneToMany(mappedBy = "accommodation", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @Builder.Default
     private List<Review> reviews = new ArrayList<>();
 
     // ⭐ RELACIÓN CON HOST (Usuario anfitrión)
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "host_id", nullable = false)
     private User host;
 
@@ -94,4 +118,15 @@ public class Accommodation {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        newEntity = false;
+    }
 }
\ No newline at end of file
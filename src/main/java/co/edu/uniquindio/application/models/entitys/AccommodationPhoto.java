@@ -2,18 +2,39 @@ package co.edu.uniquindio.application.models.entitys;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "accommodation_photo")
+@Table(name = "accommodation_photo", indexes = {
+        @Index(name = "idx_accommodation_order", columnList = "accommodation_id, display_order")
+})
 @Getter @Setter
 @Builder @AllArgsConstructor @NoArgsConstructor
-public class AccommodationPhoto {
+public class AccommodationPhoto implements Persistable<String> {
     @Id private String id;
 
+    // El ID se asigna antes de guardar; sin esta marca save() haría un SELECT por fila antes del INSERT
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
     @Column(nullable = false)
     private String imageUrl;
 
+    // Identificador de la imagen en el servicio de imágenes (public_id de Cloudinary)
+    @Column
+    private String publicId;
+
+    // Variantes generadas en segundo plano después de la subida
+    @Column(length = 500) private String thumbnailUrl;
+    @Column(length = 500) private String thumbnailWebpUrl;
+    @Column(length = 500) private String cardUrl;
+    @Column(length = 500) private String cardWebpUrl;
+    @Column(length = 500) private String fullUrl;
+    @Column(length = 500) private String fullWebpUrl;
+
     @Column(nullable = false)
     private Boolean isPrimary;
 
@@ -23,7 +44,7 @@ public class AccommodationPhoto {
     @Column(nullable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
     private LocalDateTime createdAt;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "accommodation_id", nullable = false)
     private Accommodation accommodation;
 
@@ -32,4 +53,15 @@ public class AccommodationPhoto {
         if (createdAt == null) createdAt = LocalDateTime.now();
         if (isPrimary == null) isPrimary = false;
     }
-}
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        newEntity = false;
+    }
+}
\ No newline at end of file
@@ -9,9 +9,12 @@ import java.time.LocalDateTime;
 @Table(name = "availability_calendar", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"accommodation_id", "date"})
 })
+@NamedEntityGraph(name = AvailabilityCalendar.WITH_ACCOMMODATION, attributeNodes = @NamedAttributeNode("accommodation"))
 @Getter @Setter
 @Builder @AllArgsConstructor @NoArgsConstructor
 public class AvailabilityCalendar {
+    public static final String WITH_ACCOMMODATION = "AvailabilityCalendar.withAccommodation";
+
     @Id private String id;
 
     @Column(nullable = false)
@@ -25,7 +28,7 @@ public class AvailabilityCalendar {
     @Column(nullable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
     private LocalDateTime createdAt;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "accommodation_id", nullable = false)
     private Accommodation accommodation;
 
@@ -8,19 +8,25 @@ import java.time.LocalDateTime;
 @Table(name = "favorite", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"user_id", "accommodation_id"})
 })
+@NamedEntityGraph(name = Favorite.WITH_USER_AND_ACCOMMODATION, attributeNodes = {
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode("accommodation")
+})
 @Getter @Setter
 @Builder @AllArgsConstructor @NoArgsConstructor
 public class Favorite {
+    public static final String WITH_USER_AND_ACCOMMODATION = "Favorite.withUserAndAccommodation";
+
     @Id private String id;
 
     @Column(nullable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
     private LocalDateTime createdAt;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "accommodation_id", nullable = false)
     private Accommodation accommodation;
 
@@ -2,13 +2,20 @@ package co.edu.uniquindio.application.models.entitys;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "host_profile")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "host-profile")
+@NamedEntityGraph(name = HostProfile.WITH_USER, attributeNodes = @NamedAttributeNode("user"))
 @Getter @Setter
 @Builder @AllArgsConstructor @NoArgsConstructor
 public class HostProfile {
+    public static final String WITH_USER = "HostProfile.withUser";
+
 
     @Id
     private String id;  // UUID
@@ -26,7 +33,7 @@ public class HostProfile {
     private LocalDateTime updatedAt;
 
     // Relación: Un perfil pertenece a UN usuario
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false, unique = true)
     private User user;
 
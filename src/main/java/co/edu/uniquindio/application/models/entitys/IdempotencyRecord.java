@@ -0,0 +1,51 @@
+package co.edu.uniquindio.application.models.entitys;
+
+import co.edu.uniquindio.application.models.enums.IdempotencyStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Respuesta guardada para una clave Idempotency-Key.
+ * El id es el hash de usuario + método + ruta + clave, así que la búsqueda es por llave primaria.
+ */
+@Entity
+@Table(name = "idempotency_record", indexes = {
+        @Index(name = "idx_idempotency_expires", columnList = "expires_at")
+})
+@Getter @Setter
+@Builder @AllArgsConstructor @NoArgsConstructor
+public class IdempotencyRecord {
+    @Id
+    @Column(length = 64)
+    private String id;
+
+    // Hash del cuerpo de la petición original, para detectar claves reutilizadas
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IdempotencyStatus status;
+
+    @Column
+    private Integer responseStatus;
+
+    @Column(length = 100)
+    private String contentType;
+
+    @Column(columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(nullable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) createdAt = LocalDateTime.now();
+        if (status == null) status = IdempotencyStatus.IN_PROGRESS;
+    }
+}
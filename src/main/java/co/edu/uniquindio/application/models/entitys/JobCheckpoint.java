@@ -0,0 +1,41 @@
+package co.edu.uniquindio.application.models.entitys;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Punto de control de un trabajo por lotes: permite reanudar una ejecución
+ * interrumpida desde el último id procesado y guarda métricas de la última corrida.
+ */
+@Entity
+@Table(name = "job_checkpoint")
+@Getter @Setter
+@Builder @AllArgsConstructor @NoArgsConstructor
+public class JobCheckpoint {
+    // Nombre del trabajo
+    @Id
+    @Column(length = 100)
+    private String id;
+
+    // Fecha de corte con la que se seleccionaron las filas
+    @Column
+    private LocalDate boundaryDate;
+
+    // Último id procesado; null cuando la última corrida terminó completa
+    @Column
+    private String lastProcessedId;
+
+    @Column
+    private Long rowsProcessed;
+
+    @Column
+    private Double rowsPerSecond;
+
+    @Column
+    private LocalDateTime lastRunStartedAt;
+
+    @Column
+    private LocalDateTime lastRunFinishedAt;
+}
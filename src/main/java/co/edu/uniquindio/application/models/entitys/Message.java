@@ -2,19 +2,34 @@ package co.edu.uniquindio.application.models.entitys;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "message", indexes = {
-        @Index(name = "idx_chat", columnList = "chat_id"),
+        // Conversación en orden cronológico; también sirve para filtrar solo por chat
+        @Index(name = "idx_chat_sent", columnList = "chat_id, sent_at"),
         @Index(name = "idx_sender", columnList = "sender_id"),
-        @Index(name = "idx_read", columnList = "is_read")
+        // Bandeja de no leídos: is_read solo no es selectivo, va detrás del destinatario
+        @Index(name = "idx_recipient_read", columnList = "recipient_id, is_read")
+})
+@NamedEntityGraph(name = Message.WITH_PARTICIPANTS, attributeNodes = {
+        @NamedAttributeNode("sender"),
+        @NamedAttributeNode("recipient")
 })
 @Getter @Setter
 @Builder @AllArgsConstructor @NoArgsConstructor
-public class Message {
+public class Message implements Persistable<String> {
+    public static final String WITH_PARTICIPANTS = "Message.withParticipants";
+
     @Id private String id;
 
+    // El ID se asigna antes de guardar; sin esta marca save() haría un SELECT por fila antes del INSERT
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
     @Column(nullable = false, length = 1000)
     private String content;
 
@@ -24,15 +39,15 @@ public class Message {
     @Column(nullable = false)
     private Boolean isRead;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "chat_id", nullable = false)
     private Chat chat;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sender_id", nullable = false)
     private User sender;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "recipient_id", nullable = false)
     private User recipient;
 
@@ -41,4 +56,15 @@ public class Message {
         if (sentAt == null) sentAt = LocalDateTime.now();
         if (isRead == null) isRead = false;
     }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        newEntity = false;
+    }
 }
\ No newline at end of file
@@ -27,7 +27,7 @@ public class PasswordResetCode {
     @Column(nullable = false)
     private Boolean used;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
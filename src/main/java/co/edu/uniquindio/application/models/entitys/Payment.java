@@ -4,20 +4,24 @@ import co.edu.uniquindio.application.models.enums.PaymentMethod;
 import co.edu.uniquindio.application.models.enums.PaymentStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "payment", indexes = {
         @Index(name = "idx_reservation", columnList = "reservation_id"),
-        @Index(name = "idx_status", columnList = "status")
+        @Index(name = "idx_status", columnList = "status"),
+        // Reportes de ingresos por rango de fechas
+        @Index(name = "idx_payment_created", columnList = "created_at")
 })
 @Getter @Setter
 @Builder @AllArgsConstructor @NoArgsConstructor
 public class Payment {
     @Id private String id;
 
-    @Column(nullable = false)
-    private Double amount;
+    // BigDecimal para que las sumas de ingresos sean exactas
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal amount;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -35,10 +39,15 @@ public class Payment {
     @Column(nullable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP")
     private LocalDateTime updatedAt;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "reservation_id", nullable = false, unique = true)
     private Reservation reservation;
 
+    // Bloqueo optimista: dos transiciones de estado simultáneas no se pisan
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) createdAt = LocalDateTime.now();
@@ -9,13 +9,25 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "reservation", indexes = {
         @Index(name = "idx_guest", columnList = "guest_id"),
-        @Index(name = "idx_accommodation", columnList = "accommodation_id"),
+        // Reservas de un alojamiento por estado y solapamiento de fechas
+        @Index(name = "idx_accommodation_status_checkin", columnList = "accommodation_id, status, check_in_date"),
         @Index(name = "idx_dates", columnList = "check_in_date, check_out_date"),
         @Index(name = "idx_status", columnList = "status")
 })
+// Grafo del listado de reservas: título del alojamiento y nombre del huésped en la misma consulta.
+// payment y review son el lado inverso de un @OneToOne y Hibernate no puede dejarlos como proxy,
+// así que también se incluyen para que no se lancen dos consultas extra por cada reserva
+@NamedEntityGraph(name = Reservation.WITH_ACCOMMODATION_AND_GUEST, attributeNodes = {
+        @NamedAttributeNode("accommodation"),
+        @NamedAttributeNode("guest"),
+        @NamedAttributeNode("payment"),
+        @NamedAttributeNode("review")
+})
 @Getter @Setter
 @Builder @AllArgsConstructor @NoArgsConstructor
 public class Reservation {
+    public static final String WITH_ACCOMMODATION_AND_GUEST = "Reservation.withAccommodationAndGuest";
+
     @Id private String id;
 
     @Column(nullable = false)
@@ -40,11 +52,11 @@ public class Reservation {
     @Column(nullable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP")
     private LocalDateTime updatedAt;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "accommodation_id", nullable = false)
     private Accommodation accommodation;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "guest_id", nullable = false)
     private User guest;
 
@@ -54,6 +66,11 @@ public class Reservation {
     @OneToOne(mappedBy = "reservation")
     private Review review;
 
+    // Bloqueo optimista: dos transiciones de estado simultáneas no se pisan
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) createdAt = LocalDateTime.now();
@@ -15,24 +15,26 @@ import java.time.LocalDateTime;
         @Index(name = "idx_user", columnList = "user_id"),
         @Index(name = "idx_reservation", columnList = "reservation_id")
 })
+@NamedEntityGraph(name = Review.WITH_USER, attributeNodes = @NamedAttributeNode("user"))
 public class Review {
+    public static final String WITH_USER = "Review.withUser";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     // ⭐ RELACIÓN BIDIRECCIONAL CON ACCOMMODATION - Review es propietario
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "accommodation_id", nullable = false)
     private Accommodation accommodation;
 
     // ⭐ RELACIÓN CON USER
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
     // ✅ NUEVO: RELACIÓN BIDIRECCIONAL CON RESERVATION
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "reservation_id")
     private Reservation reservation;
 
@@ -4,16 +4,22 @@ import co.edu.uniquindio.application.models.enums.Role;
 import co.edu.uniquindio.application.models.enums.UserStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "user", indexes = {
         @Index(name = "idx_email", columnList = "email", unique = true),
-        @Index(name = "idx_role", columnList = "role"),
-        @Index(name = "idx_status", columnList = "status"),
-        @Index(name = "idx_created_at", columnList = "created_at")
+        // Índices compuestos para el listado por keyset (filtro + created_at DESC, id DESC);
+        // también cubren las búsquedas solo por rol o por estado
+        @Index(name = "idx_role_created", columnList = "role, created_at, id"),
+        @Index(name = "idx_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_created_at", columnList = "created_at, id")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Getter @Setter
 @Builder @AllArgsConstructor @NoArgsConstructor
 public class User {
@@ -42,9 +48,11 @@ public class User {
     @Column(nullable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
     private LocalDateTime createdAt;
 
+    @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private Role role;
 
+    @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private UserStatus status;
 
@@ -0,0 +1,6 @@
+package co.edu.uniquindio.application.models.enums;
+
+public enum DataFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,11 @@
+package co.edu.uniquindio.application.models.enums;
+
+public enum ImageVariant {
+    ORIGINAL,        // Imagen tal como se subió
+    THUMBNAIL,       // Miniatura 160x120
+    THUMBNAIL_WEBP,
+    CARD,            // Tarjeta de listado 480x360
+    CARD_WEBP,
+    FULL,            // Ancho completo (máx. 1600px)
+    FULL_WEBP
+}
@@ -1,5 +1,15 @@
 package co.edu.uniquindio.application.models.enums;
 
 public enum PaymentStatus {
-    PENDING, COMPLETED, FAILED, REFUNDED
-}
\ No newline at end of file
+    PENDING, COMPLETED, FAILED, REFUNDED;
+
+    // Transiciones permitidas por la máquina de estados del pago.
+    // FAILED es final: un pago fallido (por ejemplo, por cancelar la reserva) no se puede completar
+    public boolean canTransitionTo(PaymentStatus next) {
+        return switch (this) {
+            case PENDING -> next == COMPLETED || next == FAILED;
+            case COMPLETED -> next == REFUNDED;
+            case FAILED, REFUNDED -> false;
+        };
+    }
+}
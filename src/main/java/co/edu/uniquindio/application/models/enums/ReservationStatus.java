@@ -4,5 +4,14 @@ public enum ReservationStatus {
     PENDING,    // Pendiente
     CONFIRMED,  // Confirmada
     CANCELLED,  // Cancelada
-    COMPLETED   // Completada
-}
\ No newline at end of file
+    COMPLETED;  // Completada
+
+    // Transiciones permitidas por la máquina de estados de la reserva
+    public boolean canTransitionTo(ReservationStatus next) {
+        return switch (this) {
+            case PENDING -> next == CONFIRMED || next == CANCELLED;
+            case CONFIRMED -> next == CANCELLED || next == COMPLETED;
+            case CANCELLED, COMPLETED -> false;
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package co.edu.uniquindio.application.models.enums;
+
+public enum RevenueGrouping {
+    STATUS,
+    PAYMENT_METHOD,
+    DAY,
+    MONTH,
+    HOST
+}
@@ -19,4 +19,7 @@ public interface AccommodationPhotoRepository extends JpaRepository<Accommodatio
 
     // Contar fotos de un alojamiento
     Long countByAccommodationId(String accommodationId);
+
+    // Contar fotos que referencian la misma imagen almacenada
+    long countByPublicId(String publicId);
 }
\ No newline at end of file
@@ -1,16 +1,23 @@
 package co.edu.uniquindio.application.repositories;
 
+import co.edu.uniquindio.application.dto.AccommodationDTO;
 import co.edu.uniquindio.application.models.entitys.Accommodation;
 import co.edu.uniquindio.application.models.enums.AccommodationStatus;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHint;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AccommodationRepository extends JpaRepository<Accommodation, String> {
@@ -67,4 +74,122 @@ public interface AccommodationRepository extends JpaRepository<Accommodation, St
             @Param("radius") Double radius,
             Pageable pageable
     );
-}
\ No newline at end of file
+
+    // ========== Listados proyectados a AccommodationDTO ==========
+    // Las mismas búsquedas de arriba, pero construyendo el DTO en la consulta: el anfitrión
+    // solo aporta su llave foránea y no se crean entidades administradas por cada fila.
+    // Las consultas paginadas declaran su conteo para no derivarlo del constructor.
+
+    String ACCOMMODATION_DTO = "SELECT new co.edu.uniquindio.application.dto.AccommodationDTO(" +
+            "a.id, a.title, a.description, a.city, a.address, a.latitude, a.longitude, a.pricePerNight, " +
+            "a.maxCapacity, a.amenities, a.averageRating, a.host.id, a.status, a.favoriteCount) " +
+            "FROM Accommodation a ";
+
+    @Query(ACCOMMODATION_DTO)
+    List<AccommodationDTO> findAllAccommodationDTOs();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(ACCOMMODATION_DTO)
+    Stream<AccommodationDTO> streamAllAccommodationDTOs();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(ACCOMMODATION_DTO + "WHERE a.status = :status")
+    Stream<AccommodationDTO> streamAccommodationDTOsByStatus(@Param("status") AccommodationStatus status);
+
+    @Query(value = ACCOMMODATION_DTO, countQuery = "SELECT COUNT(a) FROM Accommodation a")
+    Page<AccommodationDTO> findAllAccommodationDTOs(Pageable pageable);
+
+    @Query(ACCOMMODATION_DTO + "WHERE a.status = :status")
+    List<AccommodationDTO> findAccommodationDTOsByStatus(@Param("status") AccommodationStatus status);
+
+    @Query(value = ACCOMMODATION_DTO + "WHERE a.status = :status",
+            countQuery = "SELECT COUNT(a) FROM Accommodation a WHERE a.status = :status")
+    Page<AccommodationDTO> findAccommodationDTOsByStatus(@Param("status") AccommodationStatus status,
+                                                         Pageable pageable);
+
+    @Query(value = ACCOMMODATION_DTO + "WHERE a.city = :city",
+            countQuery = "SELECT COUNT(a) FROM Accommodation a WHERE a.city = :city")
+    Page<AccommodationDTO> findAccommodationDTOsByCity(@Param("city") String city, Pageable pageable);
+
+    @Query(value = ACCOMMODATION_DTO + "WHERE LOWER(a.title) LIKE LOWER(CONCAT('%', :text, '%'))",
+            countQuery = "SELECT COUNT(a) FROM Accommodation a WHERE LOWER(a.title) LIKE LOWER(CONCAT('%', :text, '%'))")
+    Page<AccommodationDTO> findAccommodationDTOsByTitleContaining(@Param("text") String text, Pageable pageable);
+
+    @Query(value = ACCOMMODATION_DTO + "WHERE a.pricePerNight BETWEEN :minPrice AND :maxPrice",
+            countQuery = "SELECT COUNT(a) FROM Accommodation a WHERE a.pricePerNight BETWEEN :minPrice AND :maxPrice")
+    Page<AccommodationDTO> findAccommodationDTOsByPriceBetween(@Param("minPrice") Double minPrice,
+                                                               @Param("maxPrice") Double maxPrice,
+                                                               Pageable pageable);
+
+    @Query(value = ACCOMMODATION_DTO + "WHERE a.city = :city AND a.pricePerNight <= :maxPrice AND a.status = 'ACTIVE'",
+            countQuery = "SELECT COUNT(a) FROM Accommodation a " +
+                    "WHERE a.city = :city AND a.pricePerNight <= :maxPrice AND a.status = 'ACTIVE'")
+    Page<AccommodationDTO> findActiveAccommodationDTOsByCityAndMaxPrice(@Param("city") String city,
+                                                                        @Param("maxPrice") Double maxPrice,
+                                                                        Pageable pageable);
+
+    @Query(value = ACCOMMODATION_DTO + "WHERE a.maxCapacity >= :minCapacity " +
+            "AND a.averageRating >= :minRating AND a.status = 'ACTIVE' ORDER BY a.averageRating DESC",
+            countQuery = "SELECT COUNT(a) FROM Accommodation a WHERE a.maxCapacity >= :minCapacity " +
+                    "AND a.averageRating >= :minRating AND a.status = 'ACTIVE'")
+    Page<AccommodationDTO> findAccommodationDTOsByCapacityAndRating(@Param("minCapacity") Integer minCapacity,
+                                                                    @Param("minRating") Double minRating,
+                                                                    Pageable pageable);
+
+    @Query(value = ACCOMMODATION_DTO + "WHERE a.status = 'ACTIVE' ORDER BY a.ratingCount DESC, a.averageRating DESC",
+            countQuery = "SELECT COUNT(a) FROM Accommodation a WHERE a.status = 'ACTIVE'")
+    Page<AccommodationDTO> findMostPopularAccommodationDTOs(Pageable pageable);
+
+    @Query(value = ACCOMMODATION_DTO + "WHERE a.pricePerNight BETWEEN :minPrice AND :maxPrice AND a.status = 'ACTIVE'",
+            countQuery = "SELECT COUNT(a) FROM Accommodation a " +
+                    "WHERE a.pricePerNight BETWEEN :minPrice AND :maxPrice AND a.status = 'ACTIVE'")
+    Page<AccommodationDTO> findActiveAccommodationDTOsByPriceRange(@Param("minPrice") Double minPrice,
+                                                                   @Param("maxPrice") Double maxPrice,
+                                                                   Pageable pageable);
+
+    @Query(value = ACCOMMODATION_DTO + "WHERE a.status = 'ACTIVE' AND " +
+            "SQRT(POWER(a.latitude - :latitude, 2) + POWER(a.longitude - :longitude, 2)) < :radius " +
+            "ORDER BY SQRT(POWER(a.latitude - :latitude, 2) + POWER(a.longitude - :longitude, 2))",
+            countQuery = "SELECT COUNT(a) FROM Accommodation a WHERE a.status = 'ACTIVE' AND " +
+                    "SQRT(POWER(a.latitude - :latitude, 2) + POWER(a.longitude - :longitude, 2)) < :radius")
+    Page<AccommodationDTO> findAccommodationDTOsNearLocation(@Param("latitude") Double latitude,
+                                                             @Param("longitude") Double longitude,
+                                                             @Param("radius") Double radius,
+                                                             Pageable pageable);
+
+    // ========== Versión para GET condicionales (ETag / Last-Modified) ==========
+
+    @Query("SELECT a.version AS version, a.updatedAt AS updatedAt, CAST(a.favoriteCount AS Long) AS favoriteCount " +
+            "FROM Accommodation a WHERE a.id = :id")
+    Optional<AccommodationVersionView> findVersionById(@Param("id") String id);
+
+    // Versión del catálogo compartida por todas las instancias (tabla catalog_version, V7).
+    // El espacio declarado es el de la propia tabla: avanzarla no invalida ninguna región.
+    // @Transactional porque algunas escrituras la avanzan después de su propio save, sin
+    // transacción abierta, y la de solo lectura por defecto del repositorio rechazaría el UPDATE
+    @Query(value = "SELECT version FROM catalog_version WHERE id = 1", nativeQuery = true)
+    long findCatalogVersion();
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "catalog_version"))
+    @Query(value = "UPDATE catalog_version SET version = version + 1 WHERE id = 1", nativeQuery = true)
+    int incrementCatalogVersion();
+
+    // Contador de favoritos: se ajusta en la base de datos para no perder incrementos concurrentes.
+    // updated_at se conserva porque marcar un favorito no modifica el alojamiento.
+    // El espacio declarado es "favorite" para no vaciar la región "accommodation" completa
+    // en cada favorito: el listener de caché expulsa solo ese alojamiento tras el commit
+    // y los resultados cacheados de consultas (IDs) no cambian con el contador.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "favorite"))
+    @Query(value = "UPDATE accommodation SET favorite_count = favorite_count + 1, updated_at = updated_at " +
+            "WHERE id = :id", nativeQuery = true)
+    int incrementFavoriteCount(@Param("id") String id);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "favorite"))
+    @Query(value = "UPDATE accommodation SET favorite_count = GREATEST(favorite_count - 1, 0), updated_at = updated_at " +
+            "WHERE id = :id", nativeQuery = true)
+    int decrementFavoriteCount(@Param("id") String id);
+}
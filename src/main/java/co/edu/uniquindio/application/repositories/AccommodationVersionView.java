@@ -0,0 +1,15 @@
+package co.edu.uniquindio.application.repositories;
+
+import java.time.LocalDateTime;
+
+/**
+ * Columnas que cambian cada vez que cambia la representación de un alojamiento,
+ * devueltas por AccommodationRepository para calcular su ETag sin cargar la entidad.
+ * La versión la avanza Hibernate en cada edición; el contador de favoritos se
+ * actualiza con UPDATE nativos que no la tocan, por eso va aparte.
+ */
+public interface AccommodationVersionView {
+    Long getVersion();
+    LocalDateTime getUpdatedAt();
+    Long getFavoriteCount();
+}
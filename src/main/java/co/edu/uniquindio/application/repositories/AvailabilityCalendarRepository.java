@@ -1,6 +1,7 @@
 package co.edu.uniquindio.application.repositories;
 
 import co.edu.uniquindio.application.models.entitys.AvailabilityCalendar;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,21 +14,29 @@ import java.util.Optional;
 @Repository
 public interface AvailabilityCalendarRepository extends JpaRepository<AvailabilityCalendar, String> {
 
+    @Override
+    @EntityGraph(AvailabilityCalendar.WITH_ACCOMMODATION)
+    List<AvailabilityCalendar> findAll();
+
     // Buscar disponibilidad por alojamiento
+    @EntityGraph(AvailabilityCalendar.WITH_ACCOMMODATION)
     List<AvailabilityCalendar> findByAccommodationId(String accommodationId);
 
     // Buscar disponibilidad por alojamiento y fecha
     Optional<AvailabilityCalendar> findByAccommodationIdAndDate(String accommodationId, LocalDate date);
 
     // Buscar disponibilidad disponibles de un alojamiento
+    @EntityGraph(AvailabilityCalendar.WITH_ACCOMMODATION)
     @Query("SELECT a FROM AvailabilityCalendar a WHERE a.accommodation.id = :accommodationId AND a.available = true")
     List<AvailabilityCalendar> findAvailableDatesByAccommodation(@Param("accommodationId") String accommodationId);
 
     // Buscar disponibilidad no disponibles de un alojamiento
+    @EntityGraph(AvailabilityCalendar.WITH_ACCOMMODATION)
     @Query("SELECT a FROM AvailabilityCalendar a WHERE a.accommodation.id = :accommodationId AND a.available = false")
     List<AvailabilityCalendar> findUnavailableDatesByAccommodation(@Param("accommodationId") String accommodationId);
 
     // Buscar disponibilidad en rango de fechas
+    @EntityGraph(AvailabilityCalendar.WITH_ACCOMMODATION)
     @Query("SELECT a FROM AvailabilityCalendar a WHERE a.accommodation.id = :accommodationId " +
            "AND a.date BETWEEN :startDate AND :endDate")
     List<AvailabilityCalendar> findByDateRange(@Param("accommodationId") String accommodationId,
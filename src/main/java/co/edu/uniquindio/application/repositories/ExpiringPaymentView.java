@@ -0,0 +1,13 @@
+package co.edu.uniquindio.application.repositories;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pago pendiente de una reserva que el ciclo de vida va a expirar, devuelto por
+ * PaymentRepository para publicar sus eventos de cambio de estado.
+ */
+public interface ExpiringPaymentView {
+    String getPaymentId();
+    String getReservationId();
+    LocalDateTime getCreatedAt();
+}
@@ -1,7 +1,12 @@
 package co.edu.uniquindio.application.repositories;
 
+import co.edu.uniquindio.application.dto.FavoriteDTO;
 import co.edu.uniquindio.application.models.entitys.Favorite;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,18 +15,67 @@ import java.util.Optional;
 @Repository
 public interface FavoriteRepository extends JpaRepository<Favorite, String> {
 
+    @Override
+    @EntityGraph(Favorite.WITH_USER_AND_ACCOMMODATION)
+    List<Favorite> findAll();
+
     // Buscar favoritos de un usuario
+    @EntityGraph(Favorite.WITH_USER_AND_ACCOMMODATION)
     List<Favorite> findByUserId(String userId);
 
+    // Favoritos proyectados directamente al DTO, sin cargar entidades
+    String FAVORITE_DTO = "SELECT new co.edu.uniquindio.application.dto.FavoriteDTO(" +
+            "f.id, u.id, u.name, a.id, a.title, a.city, a.pricePerNight, a.averageRating, f.createdAt) " +
+            "FROM Favorite f JOIN f.user u JOIN f.accommodation a ";
+
+    @Query(FAVORITE_DTO)
+    List<FavoriteDTO> findAllFavoriteDTOs();
+
+    @Query(FAVORITE_DTO + "WHERE u.id = :userId ORDER BY f.createdAt DESC")
+    List<FavoriteDTO> findFavoriteDTOsByUserId(@Param("userId") String userId);
+
+    @Query(FAVORITE_DTO + "WHERE a.id = :accommodationId")
+    List<FavoriteDTO> findFavoriteDTOsByAccommodationId(@Param("accommodationId") String accommodationId);
+
+    // Solo los IDs de los alojamientos favoritos de un usuario (caché de favoritos)
+    @Query("SELECT f.accommodation.id FROM Favorite f WHERE f.user.id = :userId")
+    List<String> findAccommodationIdsByUserId(@Param("userId") String userId);
+
     // Buscar favoritos de un alojamiento
+    @EntityGraph(Favorite.WITH_USER_AND_ACCOMMODATION)
     List<Favorite> findByAccommodationId(String accommodationId);
 
     // Verificar si un alojamiento es favorito de un usuario
     Optional<Favorite> findByUserIdAndAccommodationId(String userId, String accommodationId);
 
+    boolean existsByUserIdAndAccommodationId(String userId, String accommodationId);
+
     // Contar favoritos de un usuario
     Long countByUserId(String userId);
 
     // Contar favoritos de un alojamiento
     Long countByAccommodationId(String accommodationId);
+
+    // Estado de favorito y contador de varios alojamientos en una sola consulta (tarjetas de listados)
+    @Query("SELECT a.id AS accommodationId, " +
+            "CASE WHEN f.id IS NULL THEN false ELSE true END AS favorite, " +
+            "a.favoriteCount AS favoriteCount " +
+            "FROM Accommodation a LEFT JOIN Favorite f ON f.accommodation = a AND f.user.id = :userId " +
+            "WHERE a.id IN :accommodationIds")
+    List<FavoriteStatusView> findStatusByUserIdAndAccommodationIds(
+            @Param("userId") String userId,
+            @Param("accommodationIds") List<String> accommodationIds
+    );
+
+    // Borrados que devuelven las filas afectadas, para ajustar el contador solo si se eliminó algo
+    @Modifying
+    @Query("DELETE FROM Favorite f WHERE f.id = :id")
+    int deleteFavoriteById(@Param("id") String id);
+
+    @Modifying
+    @Query("DELETE FROM Favorite f WHERE f.user.id = :userId AND f.accommodation.id = :accommodationId")
+    int deleteByUserIdAndAccommodationId(
+            @Param("userId") String userId,
+            @Param("accommodationId") String accommodationId
+    );
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package co.edu.uniquindio.application.repositories;
+
+/**
+ * Estado de favorito de un alojamiento para un usuario, junto con el contador
+ * desnormalizado de favoritos, devuelto por FavoriteRepository.
+ */
+public interface FavoriteStatusView {
+    String getAccommodationId();
+    Boolean getFavorite();
+    Integer getFavoriteCount();
+}
@@ -1,15 +1,25 @@
 package co.edu.uniquindio.application.repositories;
 
 import co.edu.uniquindio.application.models.entitys.HostProfile;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHint;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface HostProfileRepository extends JpaRepository<HostProfile, String> {
 
-    // Buscar perfil de anfitrión por usuario
+    @Override
+    @EntityGraph(HostProfile.WITH_USER)
+    List<HostProfile> findAll();
+
+    // Buscar perfil de anfitrión por usuario (caché de consultas: la relación casi nunca cambia)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<HostProfile> findByUserId(String userId);
 
     // Verificar si un usuario tiene perfil de anfitrión
@@ -0,0 +1,9 @@
+package co.edu.uniquindio.application.repositories;
+
+import co.edu.uniquindio.application.models.entitys.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+}
@@ -1,31 +1,46 @@
 package co.edu.uniquindio.application.repositories;
 
+import co.edu.uniquindio.application.dto.MessageDTO;
 import co.edu.uniquindio.application.models.entitys.Message;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHint;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface MessageRepository extends JpaRepository<Message, String> {
 
+    @Override
+    @EntityGraph(Message.WITH_PARTICIPANTS)
+    List<Message> findAll();
+
     // Buscar mensajes de un chat
+    @EntityGraph(Message.WITH_PARTICIPANTS)
     List<Message> findByChatId(String chatId);
 
     // Buscar mensajes de un chat ordenados por fecha
+    @EntityGraph(Message.WITH_PARTICIPANTS)
     @Query("SELECT m FROM Message m WHERE m.chat.id = :chatId ORDER BY m.sentAt ASC")
     List<Message> findByChatIdOrderByDate(@Param("chatId") String chatId);
 
     // Buscar mensajes no leídos de un usuario
+    @EntityGraph(Message.WITH_PARTICIPANTS)
     List<Message> findByRecipientIdAndIsReadFalse(String recipientId);
 
     // Buscar mensajes no leídos de un chat específico
+    @EntityGraph(Message.WITH_PARTICIPANTS)
     @Query("SELECT m FROM Message m WHERE m.chat.id = :chatId AND m.isRead = false")
     List<Message> findUnreadMessagesByChat(@Param("chatId") String chatId);
 
     // Buscar mensajes entre dos usuarios
+    @EntityGraph(Message.WITH_PARTICIPANTS)
     @Query("SELECT m FROM Message m WHERE m.chat.id = :chatId AND " +
            "((m.sender.id = :userId1 AND m.recipient.id = :userId2) OR " +
            "(m.sender.id = :userId2 AND m.recipient.id = :userId1)) " +
@@ -34,7 +49,41 @@ public interface MessageRepository extends JpaRepository<Message, String> {
                                                   @Param("userId1") String userId1, 
                                                   @Param("userId2") String userId2);
 
+    // ========== Listados proyectados a MessageDTO ==========
+    // Chat, remitente y destinatario solo aportan id y nombre: no se cargan las entidades completas
+
+    String MESSAGE_DTO = "SELECT new co.edu.uniquindio.application.dto.MessageDTO(" +
+            "m.id, m.chat.id, s.id, s.name, rc.id, rc.name, m.content, m.isRead, m.sentAt) " +
+            "FROM Message m JOIN m.sender s JOIN m.recipient rc ";
+
+    @Query(MESSAGE_DTO)
+    List<MessageDTO> findAllMessageDTOs();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(MESSAGE_DTO)
+    Stream<MessageDTO> streamAllMessageDTOs();
+
+    @Query(MESSAGE_DTO + "WHERE m.chat.id = :chatId")
+    List<MessageDTO> findMessageDTOsByChatId(@Param("chatId") String chatId);
+
+    @Query(MESSAGE_DTO + "WHERE m.chat.id = :chatId ORDER BY m.sentAt ASC")
+    List<MessageDTO> findMessageDTOsByChatIdOrderByDate(@Param("chatId") String chatId);
+
+    @Query(MESSAGE_DTO + "WHERE rc.id = :recipientId AND m.isRead = false")
+    List<MessageDTO> findUnreadMessageDTOsByRecipientId(@Param("recipientId") String recipientId);
+
+    @Query(MESSAGE_DTO + "WHERE m.chat.id = :chatId AND m.isRead = false")
+    List<MessageDTO> findUnreadMessageDTOsByChat(@Param("chatId") String chatId);
+
+    @Query(MESSAGE_DTO + "WHERE m.chat.id = :chatId AND " +
+           "((s.id = :userId1 AND rc.id = :userId2) OR (s.id = :userId2 AND rc.id = :userId1)) " +
+           "ORDER BY m.sentAt ASC")
+    List<MessageDTO> findMessageDTOsBetweenUsersInChat(@Param("chatId") String chatId,
+                                                       @Param("userId1") String userId1,
+                                                       @Param("userId2") String userId2);
+
     // Buscar mensajes enviados por un usuario
+    @EntityGraph(Message.WITH_PARTICIPANTS)
     List<Message> findBySenderId(String senderId);
 
     // Contar mensajes de un chat
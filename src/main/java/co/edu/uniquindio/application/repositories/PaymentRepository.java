@@ -1,14 +1,24 @@
 package co.edu.uniquindio.application.repositories;
 
+import co.edu.uniquindio.application.dto.PaymentDTO;
 import co.edu.uniquindio.application.models.entitys.Payment;
 import co.edu.uniquindio.application.models.enums.PaymentStatus;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHint;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, String> {
@@ -23,6 +33,91 @@ public interface PaymentRepository extends JpaRepository<Payment, String> {
     @Query("SELECT p FROM Payment p WHERE p.status = 'COMPLETED'")
     List<Payment> findCompletedPayments();
 
+    String PAYMENT_DTO = "SELECT new co.edu.uniquindio.application.dto.PaymentDTO(" +
+            "p.id, r.id, p.amount, p.paymentMethod, p.status, p.transactionReference, p.createdAt, p.updatedAt) " +
+            "FROM Payment p JOIN p.reservation r ";
+
+    // Exportación por keyset sobre (created_at, id), el mismo orden de idx_payment_created
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(PAYMENT_DTO +
+            "WHERE (:hostId IS NULL OR r.accommodation.host.id = :hostId) " +
+            "AND (:status IS NULL OR p.status = :status) " +
+            "AND (:from IS NULL OR p.createdAt >= :from) " +
+            "AND (:to IS NULL OR p.createdAt < :to) " +
+            "AND (:afterCreatedAt IS NULL OR p.createdAt > :afterCreatedAt " +
+            "     OR (p.createdAt = :afterCreatedAt AND p.id > :afterId)) " +
+            "ORDER BY p.createdAt, p.id")
+    Stream<PaymentDTO> streamPaymentDTOsForExport(
+            @Param("hostId") String hostId,
+            @Param("status") PaymentStatus status,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") String afterId,
+            Limit limit);
+
+    // Clave (created_at) del cursor after, acotada al anfitrión igual que la exportación
+    @Query("SELECT p.createdAt FROM Payment p " +
+            "WHERE p.id = :id AND (:hostId IS NULL OR p.reservation.accommodation.host.id = :hostId)")
+    Optional<LocalDateTime> findExportCursor(@Param("id") String id, @Param("hostId") String hostId);
+
+    // Sumar montos por estado directamente en la base de datos
+    @Query("SELECT COALESCE(SUM(p.amount), 0) FROM Payment p WHERE p.status = :status")
+    BigDecimal sumAmountByStatus(@Param("status") PaymentStatus status);
+
+    // Fecha actual en la zona horaria de la sesión, la misma con la que DATE(created_at) agrupa por día
+    @Query(value = "SELECT CAST(CURDATE() AS CHAR)", nativeQuery = true)
+    String currentDatabaseDate();
+
+    // Ingresos por día y estado en [from, to)
+    @Query(value = "SELECT CAST(DATE(p.created_at) AS CHAR) AS day, p.status AS status, " +
+            "p.status AS groupKey, COUNT(*) AS paymentCount, SUM(p.amount) AS total " +
+            "FROM payment p WHERE p.created_at >= :from AND p.created_at < :to " +
+            "GROUP BY DATE(p.created_at), p.status", nativeQuery = true)
+    List<RevenueView> sumRevenueByDayAndStatus(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Ingresos por día, estado y método de pago en [from, to)
+    @Query(value = "SELECT CAST(DATE(p.created_at) AS CHAR) AS day, p.status AS status, " +
+            "p.payment_method AS groupKey, COUNT(*) AS paymentCount, SUM(p.amount) AS total " +
+            "FROM payment p WHERE p.created_at >= :from AND p.created_at < :to " +
+            "GROUP BY DATE(p.created_at), p.status, p.payment_method", nativeQuery = true)
+    List<RevenueView> sumRevenueByDayAndMethod(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Ingresos por día, estado y anfitrión en [from, to)
+    @Query(value = "SELECT CAST(DATE(p.created_at) AS CHAR) AS day, p.status AS status, " +
+            "a.host_id AS groupKey, COUNT(*) AS paymentCount, SUM(p.amount) AS total " +
+            "FROM payment p " +
+            "JOIN reservation r ON r.id = p.reservation_id " +
+            "JOIN accommodation a ON a.id = r.accommodation_id " +
+            "WHERE p.created_at >= :from AND p.created_at < :to " +
+            "GROUP BY DATE(p.created_at), p.status, a.host_id", nativeQuery = true)
+    List<RevenueView> sumRevenueByDayAndHost(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Pagos que failPaymentsOfExpiredReservations va a fallar en el lote; FOR UPDATE los
+    // bloquea hasta el UPDATE para que los eventos publicados coincidan con las filas cambiadas
+    @Query(value = "SELECT p.id AS paymentId, p.reservation_id AS reservationId, p.created_at AS createdAt " +
+            "FROM payment p JOIN reservation r ON r.id = p.reservation_id " +
+            "WHERE p.status = 'PENDING' AND r.status = 'PENDING' " +
+            "AND (r.created_at < :createdBefore OR r.check_in_date <= :today) " +
+            "AND r.id > :afterId AND r.id <= :upToId FOR UPDATE", nativeQuery = true)
+    List<ExpiringPaymentView> lockPaymentsOfExpiredReservations(@Param("today") LocalDate today,
+                                                                @Param("createdBefore") LocalDateTime createdBefore,
+                                                                @Param("afterId") String afterId,
+                                                                @Param("upToId") String upToId);
+
+    // Fallar los pagos pendientes de las reservas que el ciclo de vida va a expirar
+    // (mismo rango y condiciones que ReservationRepository.expireRange)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "payment"))
+    @Query(value = "UPDATE payment p JOIN reservation r ON r.id = p.reservation_id " +
+            "SET p.status = 'FAILED', p.transaction_reference = 'Reserva expirada', p.version = p.version + 1 " +
+            "WHERE p.status = 'PENDING' AND r.status = 'PENDING' " +
+            "AND (r.created_at < :createdBefore OR r.check_in_date <= :today) " +
+            "AND r.id > :afterId AND r.id <= :upToId", nativeQuery = true)
+    int failPaymentsOfExpiredReservations(@Param("today") LocalDate today,
+                                          @Param("createdBefore") LocalDateTime createdBefore,
+                                          @Param("afterId") String afterId, @Param("upToId") String upToId);
+
     // Buscar pagos fallidos
     @Query("SELECT p FROM Payment p WHERE p.status = 'FAILED'")
     List<Payment> findFailedPayments();
@@ -1,26 +1,45 @@
 package co.edu.uniquindio.application.repositories;
 
+import co.edu.uniquindio.application.dto.ReservationDTO;
 import co.edu.uniquindio.application.models.entitys.Reservation;
 import co.edu.uniquindio.application.models.enums.ReservationStatus;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHint;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, String> {
 
+    // Los listados mapean relaciones a DTO: se cargan en la misma consulta
+    @Override
+    @EntityGraph(Reservation.WITH_ACCOMMODATION_AND_GUEST)
+    List<Reservation> findAll();
+
     // ✅ EJERCICIO 3: Reportes de usuario con ordenamiento
     // Permite ordenar por fecha ascendente o descendente
+    @EntityGraph(Reservation.WITH_ACCOMMODATION_AND_GUEST)
     List<Reservation> findByGuestId(String guestId, Sort sort);
 
     // Consultas existentes
+    @EntityGraph(Reservation.WITH_ACCOMMODATION_AND_GUEST)
     List<Reservation> findByAccommodationId(String accommodationId);
+    @EntityGraph(Reservation.WITH_ACCOMMODATION_AND_GUEST)
     List<Reservation> findByGuestId(String guestId);
+    @EntityGraph(Reservation.WITH_ACCOMMODATION_AND_GUEST)
     List<Reservation> findByStatus(ReservationStatus status);
 
     @Query("SELECT r FROM Reservation r WHERE r.status IN ('PENDING', 'CONFIRMED') AND r.accommodation.id = :accommodationId")
@@ -40,6 +59,7 @@ public interface ReservationRepository extends JpaRepository<Reservation, String
     // ✅ EJERCICIO 5: Consultas personalizadas adicionales para reservas
 
     // 1. Buscar reservas por rango de fechas
+    @EntityGraph(Reservation.WITH_ACCOMMODATION_AND_GUEST)
     @Query("SELECT r FROM Reservation r WHERE r.checkInDate >= :startDate AND r.checkOutDate <= :endDate")
     List<Reservation> findByDateRange(
         @Param("startDate") LocalDate startDate,
@@ -48,22 +68,149 @@ public interface ReservationRepository extends JpaRepository<Reservation, String
     );
 
     // 2. Buscar reservas activas de un usuario (PENDING o CONFIRMED)
+    @EntityGraph(Reservation.WITH_ACCOMMODATION_AND_GUEST)
     @Query("SELECT r FROM Reservation r WHERE r.guest.id = :guestId AND r.status IN ('PENDING', 'CONFIRMED')")
     List<Reservation> findActiveReservationsByGuest(@Param("guestId") String guestId, Sort sort);
 
     // 3. Buscar reservas completadas de un usuario
+    @EntityGraph(Reservation.WITH_ACCOMMODATION_AND_GUEST)
     @Query("SELECT r FROM Reservation r WHERE r.guest.id = :guestId AND r.status = 'COMPLETED'")
     List<Reservation> findCompletedReservationsByGuest(@Param("guestId") String guestId, Sort sort);
 
     // 4. Buscar próximas reservas (check-in después de hoy)
+    @EntityGraph(Reservation.WITH_ACCOMMODATION_AND_GUEST)
     @Query("SELECT r FROM Reservation r WHERE r.checkInDate > :today AND r.status IN ('PENDING', 'CONFIRMED')")
     List<Reservation> findUpcomingReservations(@Param("today") LocalDate today, Sort sort);
 
     // 5. Buscar reservas por alojamiento y estado con ordenamiento
+    @EntityGraph(Reservation.WITH_ACCOMMODATION_AND_GUEST)
     @Query("SELECT r FROM Reservation r WHERE r.accommodation.id = :accommodationId AND r.status = :status")
     List<Reservation> findByAccommodationAndStatus(
         @Param("accommodationId") String accommodationId,
         @Param("status") ReservationStatus status,
         Sort sort
     );
-}
\ No newline at end of file
+
+    // ========== Listados proyectados a ReservationDTO ==========
+    // Solo las columnas del DTO en una consulta con JOIN: no se crean entidades
+    // administradas ni se cargan pago, reseña o el resto del alojamiento y del huésped
+
+    String RESERVATION_DTO = "SELECT new co.edu.uniquindio.application.dto.ReservationDTO(" +
+            "r.id, a.id, a.title, g.id, g.name, r.checkInDate, r.checkOutDate, r.numberOfGuests, " +
+            "r.totalPrice, r.status, r.createdAt, r.updatedAt) " +
+            "FROM Reservation r JOIN r.accommodation a JOIN r.guest g ";
+
+    @Query(RESERVATION_DTO)
+    List<ReservationDTO> findAllReservationDTOs();
+
+    // Para respuestas en streaming: MariaDB entrega las filas por bloques del fetch size
+    // en lugar de cargar todo el resultado en memoria. Requiere una transacción abierta.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(RESERVATION_DTO)
+    Stream<ReservationDTO> streamAllReservationDTOs();
+
+    // Exportación por keyset sobre (check_in_date, id): se reanuda después de la última
+    // reserva recibida sin OFFSET. Los filtros nulos se descartan al planificar.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(RESERVATION_DTO +
+            "WHERE (:hostId IS NULL OR a.host.id = :hostId) " +
+            "AND (:status IS NULL OR r.status = :status) " +
+            "AND (:from IS NULL OR r.checkInDate >= :from) " +
+            "AND (:to IS NULL OR r.checkInDate <= :to) " +
+            "AND (:afterDate IS NULL OR r.checkInDate > :afterDate " +
+            "     OR (r.checkInDate = :afterDate AND r.id > :afterId)) " +
+            "ORDER BY r.checkInDate, r.id")
+    Stream<ReservationDTO> streamReservationDTOsForExport(
+            @Param("hostId") String hostId,
+            @Param("status") ReservationStatus status,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") String afterId,
+            Limit limit);
+
+    // Clave (check_in_date) del cursor after; solo se encuentra si la reserva es del
+    // anfitrión que exporta (hostId null: cualquiera, para ADMIN)
+    @Query("SELECT r.checkInDate FROM Reservation r " +
+            "WHERE r.id = :id AND (:hostId IS NULL OR r.accommodation.host.id = :hostId)")
+    Optional<LocalDate> findExportCursor(@Param("id") String id, @Param("hostId") String hostId);
+
+    @Query(RESERVATION_DTO + "WHERE a.id = :accommodationId")
+    List<ReservationDTO> findReservationDTOsByAccommodationId(@Param("accommodationId") String accommodationId);
+
+    @Query(RESERVATION_DTO + "WHERE g.id = :guestId")
+    List<ReservationDTO> findReservationDTOsByGuestId(@Param("guestId") String guestId, Sort sort);
+
+    @Query(RESERVATION_DTO + "WHERE r.status = :status")
+    List<ReservationDTO> findReservationDTOsByStatus(@Param("status") ReservationStatus status);
+
+    @Query(RESERVATION_DTO + "WHERE r.checkInDate >= :startDate AND r.checkOutDate <= :endDate")
+    List<ReservationDTO> findReservationDTOsByDateRange(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Sort sort
+    );
+
+    @Query(RESERVATION_DTO + "WHERE g.id = :guestId AND r.status IN ('PENDING', 'CONFIRMED')")
+    List<ReservationDTO> findActiveReservationDTOsByGuest(@Param("guestId") String guestId, Sort sort);
+
+    @Query(RESERVATION_DTO + "WHERE g.id = :guestId AND r.status = 'COMPLETED'")
+    List<ReservationDTO> findCompletedReservationDTOsByGuest(@Param("guestId") String guestId, Sort sort);
+
+    @Query(RESERVATION_DTO + "WHERE r.checkInDate > :today AND r.status IN ('PENDING', 'CONFIRMED')")
+    List<ReservationDTO> findUpcomingReservationDTOs(@Param("today") LocalDate today, Sort sort);
+
+    @Query(RESERVATION_DTO + "WHERE a.id = :accommodationId AND r.status = :status")
+    List<ReservationDTO> findReservationDTOsByAccommodationAndStatus(
+            @Param("accommodationId") String accommodationId,
+            @Param("status") ReservationStatus status,
+            Sort sort
+    );
+
+    // ========== Ciclo de vida (lotes por keyset, ver ReservationLifecycleServiceImpl) ==========
+    // Los UPDATE nativos declaran la tabla que modifican; sin esa pista Hibernate vacía
+    // toda la caché de segundo nivel en cada lote
+
+    // Siguiente lote de reservas confirmadas cuyo checkout ya pasó
+    @Query(value = "SELECT r.id FROM reservation r WHERE r.status = 'CONFIRMED' " +
+            "AND r.check_out_date < :today AND r.id > :afterId ORDER BY r.id LIMIT :batchSize", nativeQuery = true)
+    List<String> findCompletableIds(@Param("today") LocalDate today, @Param("afterId") String afterId,
+                                    @Param("batchSize") int batchSize);
+
+    // Reservas del rango que completeRange va a actualizar; FOR UPDATE las bloquea hasta el
+    // UPDATE para que los eventos publicados coincidan con las filas cambiadas
+    @Query(value = "SELECT r.id FROM reservation r WHERE r.status = 'CONFIRMED' AND r.check_out_date < :today " +
+            "AND r.id > :afterId AND r.id <= :upToId ORDER BY r.id FOR UPDATE", nativeQuery = true)
+    List<String> lockCompletableRange(@Param("today") LocalDate today, @Param("afterId") String afterId,
+                                      @Param("upToId") String upToId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reservation"))
+    @Query(value = "UPDATE reservation r SET r.status = 'COMPLETED', r.version = r.version + 1 " +
+            "WHERE r.status = 'CONFIRMED' AND r.check_out_date < :today " +
+            "AND r.id > :afterId AND r.id <= :upToId", nativeQuery = true)
+    int completeRange(@Param("today") LocalDate today, @Param("afterId") String afterId,
+                      @Param("upToId") String upToId);
+
+    // Siguiente lote de reservas pendientes vencidas (muy antiguas o con check-in ya alcanzado)
+    @Query(value = "SELECT r.id FROM reservation r WHERE r.status = 'PENDING' " +
+            "AND (r.created_at < :createdBefore OR r.check_in_date <= :today) " +
+            "AND r.id > :afterId ORDER BY r.id LIMIT :batchSize", nativeQuery = true)
+    List<String> findExpirableIds(@Param("today") LocalDate today, @Param("createdBefore") LocalDateTime createdBefore,
+                                  @Param("afterId") String afterId, @Param("batchSize") int batchSize);
+
+    // Reservas del rango que expireRange va a cancelar (bloqueadas igual que lockCompletableRange)
+    @Query(value = "SELECT r.id FROM reservation r WHERE r.status = 'PENDING' " +
+            "AND (r.created_at < :createdBefore OR r.check_in_date <= :today) " +
+            "AND r.id > :afterId AND r.id <= :upToId ORDER BY r.id FOR UPDATE", nativeQuery = true)
+    List<String> lockExpirableRange(@Param("today") LocalDate today, @Param("createdBefore") LocalDateTime createdBefore,
+                                    @Param("afterId") String afterId, @Param("upToId") String upToId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reservation"))
+    @Query(value = "UPDATE reservation r SET r.status = 'CANCELLED', r.version = r.version + 1 " +
+            "WHERE r.status = 'PENDING' AND (r.created_at < :createdBefore OR r.check_in_date <= :today) " +
+            "AND r.id > :afterId AND r.id <= :upToId", nativeQuery = true)
+    int expireRange(@Param("today") LocalDate today, @Param("createdBefore") LocalDateTime createdBefore,
+                    @Param("afterId") String afterId, @Param("upToId") String upToId);
+}
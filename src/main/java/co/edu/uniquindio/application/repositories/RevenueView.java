@@ -0,0 +1,15 @@
+package co.edu.uniquindio.application.repositories;
+
+import java.math.BigDecimal;
+
+/**
+ * Fila agregada de ingresos (un día, un estado y una clave de agrupación)
+ * devuelta por las consultas de PaymentRepository.
+ */
+public interface RevenueView {
+    String getDay();
+    String getStatus();
+    String getGroupKey();
+    Long getPaymentCount();
+    BigDecimal getTotal();
+}
@@ -1,31 +1,66 @@
 package co.edu.uniquindio.application.repositories;
 
+import co.edu.uniquindio.application.dto.ReviewDTO;
 import co.edu.uniquindio.application.models.entitys.Review;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHint;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
+    @Override
+    @EntityGraph(Review.WITH_USER)
+    List<Review> findAll();
+
     // Buscar todas las reviews de un alojamiento
+    @EntityGraph(Review.WITH_USER)
     List<Review> findByAccommodationId(String accommodationId);
 
     // Buscar todas las reviews de un usuario
+    @EntityGraph(Review.WITH_USER)
     List<Review> findByUserId(String userId);
 
     // Buscar reviews por calificación
+    @EntityGraph(Review.WITH_USER)
     List<Review> findByRating(Integer rating);
 
+    // Listados proyectados a ReviewDTO: la respuesta embebida viene en la misma fila y
+    // alojamiento y reserva solo aportan su llave foránea, sin JOIN
+    String REVIEW_DTO = "SELECT new co.edu.uniquindio.application.dto.ReviewDTO(" +
+            "r.id, r.accommodation.id, u.id, u.name, r.reservation.id, r.comment, r.rating, " +
+            "r.createdAt, r.updatedAt, r.answer) " +
+            "FROM Review r JOIN r.user u ";
+
+    @Query(REVIEW_DTO)
+    List<ReviewDTO> findAllReviewDTOs();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(REVIEW_DTO)
+    Stream<ReviewDTO> streamAllReviewDTOs();
+
+    @Query(REVIEW_DTO + "WHERE r.accommodation.id = :accommodationId")
+    List<ReviewDTO> findReviewDTOsByAccommodationId(@Param("accommodationId") String accommodationId);
+
+    @Query(REVIEW_DTO + "WHERE u.id = :userId")
+    List<ReviewDTO> findReviewDTOsByUserId(@Param("userId") String userId);
+
     // Contar reviews por alojamiento
     Long countByAccommodationId(String accommodationId);
 
+    @EntityGraph(Review.WITH_USER)
     @Query("SELECT r FROM Review r WHERE r.accommodation.id = :accommodationId ORDER BY r.createdAt DESC")
     List<Review> findByAccommodationIdOrderByCreatedAtDesc(@Param("accommodationId") String accommodationId);
 
+    @EntityGraph(Review.WITH_USER)
     @Query("SELECT r FROM Review r WHERE r.user.id = :userId ORDER BY r.createdAt DESC")
     List<Review> findByUserIdOrderByCreatedAtDesc(@Param("userId") String userId);
 }
\ No newline at end of file
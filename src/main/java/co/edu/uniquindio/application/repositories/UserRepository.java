@@ -3,17 +3,25 @@ package co.edu.uniquindio.application.repositories;
 import co.edu.uniquindio.application.models.entitys.User;
 import co.edu.uniquindio.application.models.enums.Role;
 import co.edu.uniquindio.application.models.enums.UserStatus;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHint;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
 
+    // Se consulta en cada login y registro: el resultado (el ID) va a la caché de consultas
+    // y la entidad a la región "user"; cualquier escritura en user invalida la consulta
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
 
     Optional<User> findByEmailAndStatus(String email, UserStatus status);
@@ -23,4 +31,30 @@ public interface UserRepository extends JpaRepository<User, String> {
     boolean existsByEmail(String email);
     List<User> findByRole(Role role);
     Long countByStatus(UserStatus status);
+
+    // Listado de administración por keyset: ordena por (created_at, id) descendente y
+    // continúa después del último usuario de la página anterior, sin OFFSET.
+    // El cursor se expresa como created_at <= cursor (un rango sobre el índice) más el
+    // desempate por id, que solo descarta las filas con el mismo created_at del cursor.
+    // Los filtros opcionales son ":x IS NULL OR ...": el driver de MariaDB usa por defecto
+    // el protocolo de texto (useServerPrepStmts=false), el servidor recibe literales y el
+    // optimizador elimina las ramas con NULL. Con status o role se recorre idx_status_created
+    // o idx_role_created en orden; si llegan los dos, uno se usa como índice y el otro se filtra.
+    @Query("SELECT u FROM User u " +
+            "WHERE (:status IS NULL OR u.status = :status) " +
+            "AND (:role IS NULL OR u.role = :role) " +
+            "AND (:createdFrom IS NULL OR u.createdAt >= :createdFrom) " +
+            "AND (:createdTo IS NULL OR u.createdAt < :createdTo) " +
+            "AND (:cursorCreatedAt IS NULL OR (u.createdAt <= :cursorCreatedAt " +
+            "     AND (u.createdAt < :cursorCreatedAt OR u.id < :cursorId))) " +
+            "ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findPage(
+            @Param("status") UserStatus status,
+            @Param("role") Role role,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") String cursorId,
+            Pageable pageable
+    );
 }
\ No newline at end of file
@@ -0,0 +1,217 @@
+package co.edu.uniquindio.application.security;
+
+import co.edu.uniquindio.application.dto.ResponseDTO;
+import co.edu.uniquindio.application.exceptions.ValueConflictException;
+import co.edu.uniquindio.application.models.entitys.IdempotencyRecord;
+import co.edu.uniquindio.application.services.IdempotencyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Hace idempotentes las operaciones de pagos y reservas que envían el header
+ * Idempotency-Key. La primera petición se ejecuta y su respuesta se guarda;
+ * los reintentos con la misma clave reciben la respuesta guardada sin volver
+ * a ejecutar la lógica de negocio.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    // 401 token vencido, 408 timeout, 409 conflicto, 423 bloqueado, 425 demasiado pronto, 429 límite
+    private static final Set<Integer> RETRYABLE_CLIENT_ERRORS = Set.of(401, 408, 409, 423, 425, 429);
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getRequestURI();
+        return request.getHeader(HEADER) == null
+                || !("POST".equals(method) || "PUT".equals(method))
+                || !(path.startsWith("/api/payments") || path.startsWith("/api/reservations"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+
+        String idempotencyKey = request.getHeader(HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpServletResponse.SC_BAD_REQUEST, "El header " + HEADER + " no es válido.");
+            return;
+        }
+
+        // Los cuerpos de pagos y reservas son pequeños: se leen completos para calcular el hash
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String key = sha256((currentUser() + "|" + request.getMethod() + "|" + request.getRequestURI() + "|" + idempotencyKey)
+                .getBytes(StandardCharsets.UTF_8));
+        String requestHash = sha256(cachedRequest.body);
+
+        Optional<IdempotencyRecord> stored;
+        try {
+            stored = idempotencyService.reserve(key, requestHash);
+        } catch (ValueConflictException e) {
+            writeError(response, HttpServletResponse.SC_CONFLICT, e.getMessage());
+            return;
+        } catch (Exception e) {
+            writeError(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e.getMessage());
+            return;
+        }
+
+        if (stored.isPresent()) {
+            replay(stored.get(), response);
+            return;
+        }
+
+        ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(cachedRequest, cachedResponse);
+        } catch (IOException | ServletException | RuntimeException e) {
+            idempotencyService.release(key);
+            throw e;
+        }
+
+        if (isFinal(cachedResponse.getStatus())) {
+            idempotencyService.complete(key, cachedResponse.getStatus(), cachedResponse.getContentType(),
+                    new String(cachedResponse.getContentAsByteArray(), StandardCharsets.UTF_8));
+        } else {
+            idempotencyService.release(key);
+        }
+        cachedResponse.copyBodyToResponse();
+    }
+
+    /**
+     * Solo se guardan las respuestas que se repetirían igual con el mismo cuerpo:
+     * los 2xx y los 4xx de validación, permisos o recursos inexistentes. Los errores
+     * del servidor, los conflictos (409, incluidos los de versión optimista) y los
+     * de autenticación o límite de peticiones dependen del momento, así que se libera
+     * la clave y el cliente puede reintentar con ella.
+     */
+    static boolean isFinal(int status) {
+        if (status >= 200 && status < 300) {
+            return true;
+        }
+        return status >= 400 && status < 500 && !RETRYABLE_CLIENT_ERRORS.contains(status);
+    }
+
+    private void replay(IdempotencyRecord record, HttpServletResponse response) throws IOException {
+        response.setStatus(record.getResponseStatus());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.getContentType() != null) {
+            response.setContentType(record.getContentType());
+        }
+        if (record.getResponseBody() != null) {
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write(record.getResponseBody());
+        }
+    }
+
+    private void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), new ResponseDTO<>(true, message));
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "anonymous";
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Permite leer el cuerpo una vez para el hash y otra vez en el controlador.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // El cuerpo ya está en memoria: todo está disponible desde el principio
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package co.edu.uniquindio.application.services;
+
+import co.edu.uniquindio.application.dto.BatchAccommodationImportDTO;
+import co.edu.uniquindio.application.models.enums.DataFormat;
+
+import java.io.InputStream;
+
+public interface AccommodationImportService {
+
+    // Importa alojamientos del anfitrión autenticado desde un CSV (con encabezado) o
+    // NDJSON; las filas inválidas se reportan por línea sin detener la importación
+    BatchAccommodationImportDTO importAccommodations(InputStream input, DataFormat format) throws Exception;
+}
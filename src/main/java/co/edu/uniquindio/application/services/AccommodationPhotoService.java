@@ -1,11 +1,17 @@
 package co.edu.uniquindio.application.services;
 
+import co.edu.uniquindio.application.dto.AccommodationPhotoDTO;
+import co.edu.uniquindio.application.dto.BatchPhotoUploadDTO;
+import co.edu.uniquindio.application.models.enums.ImageVariant;
 import org.springframework.web.multipart.MultipartFile;
 import java.util.List;
 
 public interface AccommodationPhotoService {
     String uploadPhoto(String accommodationId, MultipartFile photo, boolean isPrimary) throws Exception;
+    BatchPhotoUploadDTO uploadPhotos(String accommodationId, List<MultipartFile> photos, Integer primaryIndex) throws Exception;
     void deletePhoto(String photoId) throws Exception;
     List<String> getPhotosByAccommodation(String accommodationId) throws Exception;
+    List<String> getPhotosByAccommodation(String accommodationId, ImageVariant variant) throws Exception;
+    List<AccommodationPhotoDTO> getPhotoDetailsByAccommodation(String accommodationId) throws Exception;
     void setPrimaryPhoto(String photoId) throws Exception;
 }
\ No newline at end of file
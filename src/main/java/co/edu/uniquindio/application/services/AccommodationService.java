@@ -1,6 +1,7 @@
 package co.edu.uniquindio.application.services;
 
 import co.edu.uniquindio.application.dto.AccommodationDTO;
+import co.edu.uniquindio.application.dto.ResourceVersionDTO;
 import co.edu.uniquindio.application.dto.create.CreateAccommodationDTO;
 import co.edu.uniquindio.application.dto.edit.EditAccommodationDTO;
 import co.edu.uniquindio.application.models.enums.AccommodationStatus;
@@ -8,6 +9,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface AccommodationService {
 
@@ -16,6 +18,10 @@ public interface AccommodationService {
     void delete(String id) throws Exception;
     void edit(String id, EditAccommodationDTO accommodationDTO) throws Exception;
 
+    // Validadores para GET condicionales, sin cargar ni mapear los alojamientos
+    ResourceVersionDTO getVersion(String id) throws Exception;
+    ResourceVersionDTO getCatalogVersion();
+
     // Gestión de status
     void activate(String id) throws Exception;
     void deactivate(String id) throws Exception;
@@ -24,6 +30,8 @@ public interface AccommodationService {
 
     // ✅ Métodos SIN paginación (para listas simples)
     List<AccommodationDTO> listAll();
+    Stream<AccommodationDTO> streamAll();
+    Stream<AccommodationDTO> streamByStatus(AccommodationStatus status);
     List<AccommodationDTO> listByStatus(AccommodationStatus status);
     List<AccommodationDTO> listActive();
     List<AccommodationDTO> listByCity(String city);
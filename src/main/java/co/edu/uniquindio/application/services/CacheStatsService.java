@@ -0,0 +1,14 @@
+package co.edu.uniquindio.application.services;
+
+import co.edu.uniquindio.application.dto.CacheRegionStatsDTO;
+
+import java.util.List;
+
+public interface CacheStatsService {
+
+    // Aciertos, fallos y tamaño de cada región de la caché de segundo nivel
+    List<CacheRegionStatsDTO> getRegionStats() throws Exception;
+
+    // Reinicia los contadores de estadísticas de Hibernate
+    void resetStats() throws Exception;
+}
@@ -0,0 +1,20 @@
+package co.edu.uniquindio.application.services;
+
+import co.edu.uniquindio.application.exceptions.NotFoundException;
+
+/**
+ * Validaciones de existencia sin cargar entidades: consultan solo la clave primaria
+ * y recuerdan los IDs ya confirmados durante la petición HTTP en curso.
+ */
+public interface ExistenceService {
+
+    boolean userExists(String userId);
+
+    boolean accommodationExists(String accommodationId);
+
+    // Lanza NotFoundException con el mensaje estándar si el usuario no existe
+    void requireUser(String userId) throws NotFoundException;
+
+    // Lanza NotFoundException con el mensaje estándar si el alojamiento no existe
+    void requireAccommodation(String accommodationId) throws NotFoundException;
+}
@@ -0,0 +1,21 @@
+package co.edu.uniquindio.application.services;
+
+import co.edu.uniquindio.application.dto.ExportFilterDTO;
+import co.edu.uniquindio.application.dto.PaymentDTO;
+import co.edu.uniquindio.application.dto.ReservationDTO;
+import co.edu.uniquindio.application.models.enums.PaymentStatus;
+import co.edu.uniquindio.application.models.enums.ReservationStatus;
+
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public interface ExportService {
+
+    // Valida el filtro y lo restringe a lo que puede exportar el usuario autenticado
+    // (un HOST solo sus alojamientos). Las filas se leen al invocar el Supplier,
+    // que debe ejecutarse dentro de una transacción y cerrar el Stream.
+    Supplier<Stream<ReservationDTO>> exportReservations(ExportFilterDTO filter, ReservationStatus status) throws Exception;
+
+    // Igual que las reservas, filtrando por la fecha de creación del pago
+    Supplier<Stream<PaymentDTO>> exportPayments(ExportFilterDTO filter, PaymentStatus status) throws Exception;
+}
@@ -2,8 +2,10 @@ package co.edu.uniquindio.application.services;
 
 import co.edu.uniquindio.application.dto.create.CreateFavoriteDTO;
 import co.edu.uniquindio.application.dto.FavoriteDTO;
+import co.edu.uniquindio.application.dto.FavoriteStatusDTO;
 
 import java.util.List;
+import java.util.Set;
 
 public interface FavoriteService {
 
@@ -25,12 +27,18 @@ public interface FavoriteService {
     // Listar favoritos de un usuario
     List<FavoriteDTO> listByUser(String userId) throws Exception;
 
+    // IDs de los alojamientos favoritos de un usuario (servidos desde caché)
+    Set<String> listFavoriteAccommodationIds(String userId) throws Exception;
+
     // Listar favoritos de un alojamiento
     List<FavoriteDTO> listByAccommodation(String accommodationId) throws Exception;
 
     // Verificar si un alojamiento es favorito de un usuario
     boolean isFavorite(String userId, String accommodationId) throws Exception;
 
+    // Estado de favorito y contador de varios alojamientos (tarjetas de un listado)
+    List<FavoriteStatusDTO> getFavoriteStatus(String userId, List<String> accommodationIds) throws Exception;
+
     // Contar favoritos de un usuario
     Long countFavoritesByUser(String userId) throws Exception;
 
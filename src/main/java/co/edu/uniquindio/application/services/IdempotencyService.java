@@ -0,0 +1,24 @@
+package co.edu.uniquindio.application.services;
+
+import co.edu.uniquindio.application.models.entitys.IdempotencyRecord;
+
+import java.util.Optional;
+
+public interface IdempotencyService {
+
+    /**
+     * Reserva la clave para una nueva ejecución. Si la clave ya tiene una respuesta
+     * guardada la devuelve; si está en curso o se usó con otro cuerpo lanza
+     * ValueConflictException.
+     */
+    Optional<IdempotencyRecord> reserve(String key, String requestHash) throws Exception;
+
+    // Guarda la respuesta final asociada a la clave
+    void complete(String key, int responseStatus, String contentType, String responseBody);
+
+    // Libera la clave para que un reintento vuelva a ejecutar la operación
+    void release(String key);
+
+    // Elimina las claves expiradas
+    void cleanupExpired();
+}
@@ -1,9 +1,13 @@
 package co.edu.uniquindio.application.services;
 
+import co.edu.uniquindio.application.dto.ImageVariantsDTO;
 import org.springframework.web.multipart.MultipartFile;
 import java.util.Map;
 
 public interface ImageService {
     Map upload(MultipartFile image) throws Exception;
     Map delete(String imageId) throws Exception;
+
+    // Genera las variantes (miniatura, tarjeta, ancho completo y WebP) de una imagen ya subida
+    ImageVariantsDTO createVariants(String imageId) throws Exception;
 }
@@ -4,6 +4,7 @@ import co.edu.uniquindio.application.dto.create.CreateMessageDTO;
 import co.edu.uniquindio.application.dto.MessageDTO;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface MessageService {
 
@@ -18,6 +19,7 @@ public interface MessageService {
 
     // Listar todos los mensajes
     List<MessageDTO> listAll();
+    Stream<MessageDTO> streamAll();
 
     // Listar mensajes de un chat
     List<MessageDTO> listByChat(String chatId) throws Exception;
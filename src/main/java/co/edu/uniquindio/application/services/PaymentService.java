@@ -2,8 +2,12 @@ package co.edu.uniquindio.application.services;
 
 import co.edu.uniquindio.application.dto.create.CreatePaymentDTO;
 import co.edu.uniquindio.application.dto.PaymentDTO;
+import co.edu.uniquindio.application.dto.RevenueReportDTO;
 import co.edu.uniquindio.application.models.enums.PaymentStatus;
+import co.edu.uniquindio.application.models.enums.RevenueGrouping;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 public interface PaymentService {
@@ -36,7 +40,11 @@ public interface PaymentService {
     void refundPayment(String paymentId) throws Exception;
 
     // Obtener total de pagos completados
-    Double getTotalCompletedPayments();
+    BigDecimal getTotalCompletedPayments();
+
+    // Reporte de ingresos agregado en SQL; status null incluye todos los estados
+    RevenueReportDTO getRevenueReport(RevenueGrouping groupBy, PaymentStatus status,
+                                      LocalDate from, LocalDate to) throws Exception;
 
     // Contar pagos por estado
     Long countByStatus(PaymentStatus status);
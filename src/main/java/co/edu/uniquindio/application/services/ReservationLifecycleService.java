@@ -0,0 +1,16 @@
+package co.edu.uniquindio.application.services;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface ReservationLifecycleService {
+
+    // Ejecuta todas las etapas del ciclo de vida (programado)
+    void runLifecycle();
+
+    // Pasa a COMPLETED las reservas confirmadas cuyo checkout es anterior a today
+    long completeFinishedReservations(LocalDate today);
+
+    // Cancela las reservas pendientes creadas antes de createdBefore o con check-in alcanzado
+    long expirePendingReservations(LocalDate today, LocalDateTime createdBefore);
+}
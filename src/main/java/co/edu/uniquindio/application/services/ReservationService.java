@@ -8,6 +8,7 @@ import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ReservationService {
 
@@ -22,6 +23,8 @@ public interface ReservationService {
 
     // Listar todas las reservas
     List<ReservationDTO> listAll();
+    // Listado completo para respuestas en streaming: se consume dentro de una transacción
+    Stream<ReservationDTO> streamAll();
 
     // Listar reservas de un alojamiento
     List<ReservationDTO> listByAccommodation(String accommodationId) throws Exception;
@@ -5,6 +5,7 @@ import co.edu.uniquindio.application.dto.edit.EditReviewDTO;
 import co.edu.uniquindio.application.dto.ReviewDTO;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ReviewService {
 
@@ -19,6 +20,7 @@ public interface ReviewService {
 
     // Listar todas las reseñas
     List<ReviewDTO> listAll();
+    Stream<ReviewDTO> streamAll();
 
     // Listar reseñas de un alojamiento
     List<ReviewDTO> listByAccommodation(String accommodationId) throws Exception;
@@ -3,7 +3,11 @@ package co.edu.uniquindio.application.services;
 import co.edu.uniquindio.application.dto.create.CreateUserDTO;
 import co.edu.uniquindio.application.dto.edit.EditUserDTO;
 import co.edu.uniquindio.application.dto.UserDTO;
+import co.edu.uniquindio.application.dto.UserPageDTO;
+import co.edu.uniquindio.application.models.enums.Role;
 import co.edu.uniquindio.application.models.enums.UserStatus;
+
+import java.time.LocalDate;
 import java.util.List;
 
 public interface UserService {
@@ -11,15 +15,19 @@ public interface UserService {
     void create(CreateUserDTO userDTO) throws Exception;
     UserDTO get(String id) throws Exception;
     void delete(String id) throws Exception;
-    List<UserDTO> listAll();
+
+    // Listado paginado por cursor (keyset) para la consola de administración
+    UserPageDTO listPage(UserStatus status, Role role, LocalDate createdFrom, LocalDate createdTo,
+                         String cursor, int size) throws Exception;
     void edit(String id, EditUserDTO userDTO) throws Exception;
 
     // Gestión de status
     void activateUser(String id) throws Exception;
     void deactivateUser(String id) throws Exception;
     void softDeleteUser(String id) throws Exception;
-    List<UserDTO> listByStatus(UserStatus status);
-    List<UserDTO> listActiveUsers();
+    // Atajos de listPage con solo el filtro de estado (paginados igual, por cursor)
+    UserPageDTO listByStatus(UserStatus status, String cursor, int size) throws Exception;
+    UserPageDTO listActiveUsers(String cursor, int size) throws Exception;
     boolean emailExists(String email);
     UserDTO getByEmail(String email) throws Exception;
 
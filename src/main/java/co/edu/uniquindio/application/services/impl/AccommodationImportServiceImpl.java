@@ -0,0 +1,378 @@
+package co.edu.uniquindio.application.services.impl;
+
+import co.edu.uniquindio.application.dto.BatchAccommodationImportDTO;
+import co.edu.uniquindio.application.dto.ImportRowErrorDTO;
+import co.edu.uniquindio.application.dto.create.CreateAccommodationDTO;
+import co.edu.uniquindio.application.events.AccommodationChangedEvent;
+import co.edu.uniquindio.application.exceptions.InvalidOperationException;
+import co.edu.uniquindio.application.exceptions.NotFoundException;
+import co.edu.uniquindio.application.mappers.AccommodationMapper;
+import co.edu.uniquindio.application.models.entitys.Accommodation;
+import co.edu.uniquindio.application.models.entitys.User;
+import co.edu.uniquindio.application.models.enums.DataFormat;
+import co.edu.uniquindio.application.models.enums.Role;
+import co.edu.uniquindio.application.repositories.AccommodationRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.services.AccommodationImportService;
+import co.edu.uniquindio.application.services.AuthService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Importación masiva de alojamientos.
+ *
+ * La entrada se lee por bloques de chunk-size filas, así que la memoria no depende
+ * del tamaño del archivo. Cada bloque se parsea y valida en paralelo en el
+ * importExecutor y las filas válidas se insertan en una transacción propia con
+ * saveAll: los IDs son UUID v7 asignados antes de guardar y Accommodation es
+ * Persistable, así que Hibernate agrupa los INSERT en lotes JDBC sin un SELECT
+ * por fila. Si un bloque falla al guardarse, solo sus filas se reportan como
+ * fallidas; los bloques anteriores ya quedaron confirmados.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccommodationImportServiceImpl implements AccommodationImportService {
+
+    private final AccommodationRepository accommodationRepository;
+    private final UserRepository userRepository;
+    private final AccommodationMapper accommodationMapper;
+    private final AuthService authService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    @Qualifier("importExecutor")
+    private final Executor importExecutor;
+
+    @Value("${accommodation.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${accommodation.import.max-rows:100000}")
+    private int maxRows;
+
+    @Value("${accommodation.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Override
+    public BatchAccommodationImportDTO importAccommodations(InputStream input, DataFormat format) throws Exception {
+        String hostId = authService.getAuthenticatedUserId();
+        User host = userRepository.findById(hostId)
+                .orElseThrow(() -> new NotFoundException("El usuario anfitrión con ID '" + hostId + "' no fue encontrado."));
+
+        // Mismas reglas que la creación individual, comprobadas una sola vez para todo el archivo
+        if (host.getRole() != Role.HOST && host.getRole() != Role.ADMIN) {
+            throw new InvalidOperationException("Solo los usuarios con rol HOST o ADMIN pueden crear alojamientos.");
+        }
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        RowReader rows = format == DataFormat.CSV ? new CsvRowReader(reader) : new NdjsonRowReader(reader);
+
+        ImportProgress progress = new ImportProgress();
+        List<RawRow> chunk = new ArrayList<>(chunkSize);
+        long total = 0;
+        RawRow row;
+        while ((row = rows.next()) != null) {
+            if (++total > maxRows) {
+                progress.fail(row.line(), "Se alcanzó el máximo de " + maxRows
+                        + " filas por importación; esta fila y las siguientes no se procesaron.");
+                break;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, hostId, progress);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, hostId, progress);
+        }
+
+        return new BatchAccommodationImportDTO(progress.imported, progress.failed, progress.errors);
+    }
+
+    private void importChunk(List<RawRow> chunk, String hostId, ImportProgress progress) {
+        List<ParsedRow> parsed = parseInParallel(chunk);
+
+        List<Accommodation> valid = new ArrayList<>(parsed.size());
+        List<Long> validLines = new ArrayList<>(parsed.size());
+        for (ParsedRow row : parsed) {
+            if (row.error() != null) {
+                progress.fail(row.line(), row.error());
+            } else {
+                valid.add(row.accommodation());
+                validLines.add(row.line());
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                User host = userRepository.getReferenceById(hostId);
+                valid.forEach(accommodation -> accommodation.setHost(host));
+                accommodationRepository.saveAll(valid);
+                eventPublisher.publishEvent(new AccommodationChangedEvent(null));
+            });
+            progress.imported += valid.size();
+        } catch (RuntimeException e) {
+            log.warn("No se pudo guardar un bloque de {} alojamientos importados", valid.size(), e);
+            String message = "No se pudo guardar el bloque de filas: " + e.getMessage();
+            validLines.forEach(line -> progress.fail(line, message));
+        }
+    }
+
+    // Reparte el bloque en tantas porciones como núcleos y conserva el orden de las filas
+    private List<ParsedRow> parseInParallel(List<RawRow> chunk) {
+        int slices = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), chunk.size()));
+        int sliceSize = (chunk.size() + slices - 1) / slices;
+
+        List<CompletableFuture<List<ParsedRow>>> futures = new ArrayList<>();
+        for (int start = 0; start < chunk.size(); start += sliceSize) {
+            List<RawRow> slice = chunk.subList(start, Math.min(start + sliceSize, chunk.size()));
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> slice.stream().map(this::parse).collect(Collectors.toList()), importExecutor));
+        }
+
+        List<ParsedRow> parsed = new ArrayList<>(chunk.size());
+        futures.forEach(future -> parsed.addAll(future.join()));
+        return parsed;
+    }
+
+    private ParsedRow parse(RawRow row) {
+        if (row.error() != null) {
+            return new ParsedRow(row.line(), null, row.error());
+        }
+
+        CreateAccommodationDTO dto;
+        try {
+            dto = row.json() != null
+                    // Igual que las columnas del CSV: un campo desconocido no se descarta en silencio
+                    ? objectMapper.readerFor(CreateAccommodationDTO.class)
+                            .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                            .readValue(row.json())
+                    : objectMapper.convertValue(row.fields(), CreateAccommodationDTO.class);
+        } catch (JsonProcessingException e) {
+            return new ParsedRow(row.line(), null, "Formato inválido: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            // convertValue envuelve el error de Jackson
+            String message = e.getCause() instanceof JsonProcessingException json ? json.getOriginalMessage() : e.getMessage();
+            return new ParsedRow(row.line(), null, "Formato inválido: " + message);
+        }
+
+        Set<ConstraintViolation<CreateAccommodationDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            return new ParsedRow(row.line(), null, message);
+        }
+
+        return new ParsedRow(row.line(), accommodationMapper.toEntity(dto), null);
+    }
+
+    // Fila tal como se leyó: un objeto JSON (NDJSON) o las columnas por nombre (CSV)
+    private record RawRow(long line, String json, Map<String, String> fields, String error) {
+    }
+
+    private record ParsedRow(long line, Accommodation accommodation, String error) {
+    }
+
+    private final class ImportProgress {
+        private long imported;
+        private long failed;
+        private final List<ImportRowErrorDTO> errors = new ArrayList<>();
+
+        void fail(long line, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportRowErrorDTO(line, message));
+            }
+        }
+    }
+
+    private interface RowReader {
+        // Siguiente fila o null al final de la entrada
+        RawRow next() throws IOException, InvalidOperationException;
+    }
+
+    // Un objeto JSON por línea; las líneas vacías se ignoran
+    private static final class NdjsonRowReader implements RowReader {
+        private final BufferedReader reader;
+        private long line;
+
+        NdjsonRowReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public RawRow next() throws IOException {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (!text.isBlank()) {
+                    return new RawRow(line, text, null, null);
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * CSV según RFC 4180 con encabezado: los nombres de columna son los campos de
+     * CreateAccommodationDTO y el orden es libre. Un campo entre comillas puede
+     * contener comas, comillas dobles ("") y saltos de línea; la línea reportada
+     * es la primera del registro. Un encabezado con columnas desconocidas o repetidas
+     * rechaza el archivo completo: sus valores se perderían sin aviso en cada fila.
+     */
+    private static final class CsvRowReader implements RowReader {
+        private static final Set<String> COLUMNS = Arrays.stream(CreateAccommodationDTO.class.getRecordComponents())
+                .map(RecordComponent::getName)
+                .collect(Collectors.toUnmodifiableSet());
+
+        private final BufferedReader reader;
+        private List<String> header;
+        private long line;
+        private long lastRecordLine;
+        private boolean unterminated;
+
+        CsvRowReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public RawRow next() throws IOException, InvalidOperationException {
+            if (header == null) {
+                header = readRecord();
+                if (header == null) {
+                    return null;
+                }
+                // Sin el BOM que agregan algunas hojas de cálculo al exportar en UTF-8
+                header.replaceAll(name -> name.replace("\uFEFF", "").trim());
+                validateHeader();
+            }
+
+            List<String> values;
+            do {
+                values = readRecord();
+                if (values == null) {
+                    return null;
+                }
+            } while (values.size() == 1 && values.get(0).isBlank());
+
+            long recordLine = lastRecordLine;
+            if (unterminated) {
+                return new RawRow(recordLine, null, null,
+                        "El campo entre comillas que empieza en esta línea no se cierra antes del final del archivo.");
+            }
+            if (values.size() != header.size()) {
+                return new RawRow(recordLine, null, null, "La fila tiene " + values.size()
+                        + " columnas y el encabezado " + header.size() + ".");
+            }
+
+            Map<String, String> fields = new LinkedHashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                fields.put(header.get(i), values.get(i).isEmpty() ? null : values.get(i));
+            }
+            return new RawRow(recordLine, null, fields, null);
+        }
+
+        private void validateHeader() throws InvalidOperationException {
+            if (unterminated) {
+                throw new InvalidOperationException("El encabezado tiene un campo entre comillas sin cerrar.");
+            }
+            List<String> unknown = header.stream().filter(name -> !COLUMNS.contains(name)).toList();
+            if (!unknown.isEmpty()) {
+                throw new InvalidOperationException("Columnas desconocidas en el encabezado: " + unknown
+                        + ". Las columnas válidas son " + COLUMNS.stream().sorted().toList() + ".");
+            }
+            Set<String> seen = new HashSet<>();
+            List<String> repeated = header.stream().filter(name -> !seen.add(name)).distinct().toList();
+            if (!repeated.isEmpty()) {
+                throw new InvalidOperationException("Columnas repetidas en el encabezado: " + repeated + ".");
+            }
+        }
+
+        private List<String> readRecord() throws IOException {
+            String text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+            lastRecordLine = line;
+
+            List<String> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            int i = 0;
+            while (true) {
+                if (i == text.length()) {
+                    if (!quoted) {
+                        break;
+                    }
+                    // Salto de línea dentro de un campo entre comillas: el registro sigue
+                    String nextLine = reader.readLine();
+                    if (nextLine == null) {
+                        unterminated = true;
+                        break;
+                    }
+                    line++;
+                    value.append('\n');
+                    text = nextLine;
+                    i = 0;
+                    continue;
+                }
+
+                char c = text.charAt(i++);
+                if (quoted) {
+                    if (c == '"' && i < text.length() && text.charAt(i) == '"') {
+                        value.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        value.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else {
+                    value.append(c);
+                }
+            }
+            values.add(value.toString());
+            return values;
+        }
+    }
+}
@@ -1,30 +1,56 @@
 package co.edu.uniquindio.application.services.impl;
 
+import co.edu.uniquindio.application.dto.AccommodationPhotoDTO;
+import co.edu.uniquindio.application.dto.BatchPhotoUploadDTO;
+import co.edu.uniquindio.application.dto.PhotoUploadErrorDTO;
+import co.edu.uniquindio.application.events.AccommodationPhotoDeletedEvent;
+import co.edu.uniquindio.application.events.AccommodationPhotoUploadedEvent;
+import co.edu.uniquindio.application.exceptions.InvalidOperationException;
 import co.edu.uniquindio.application.exceptions.NotFoundException;
+import co.edu.uniquindio.application.mappers.AccommodationPhotoMapper;
 import co.edu.uniquindio.application.models.entitys.Accommodation;
 import co.edu.uniquindio.application.models.entitys.AccommodationPhoto;
+import co.edu.uniquindio.application.models.enums.ImageVariant;
 import co.edu.uniquindio.application.repositories.AccommodationPhotoRepository;
 import co.edu.uniquindio.application.repositories.AccommodationRepository;
 import co.edu.uniquindio.application.services.AccommodationPhotoService;
 import co.edu.uniquindio.application.services.ImageService;
+import co.edu.uniquindio.application.utils.UuidV7;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AccommodationPhotoServiceImpl implements AccommodationPhotoService {
 
     private final AccommodationPhotoRepository photoRepository;
     private final AccommodationRepository accommodationRepository;
     private final ImageService imageService;
+    private final AccommodationPhotoMapper photoMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    @Qualifier("imageExecutor")
+    private final Executor imageExecutor;
+
+    @Value("${accommodation.photos.max-batch-size:30}")
+    private int maxBatchSize;
 
     @Override
     @Transactional
@@ -38,6 +64,7 @@ public class AccommodationPhotoServiceImpl implements AccommodationPhotoService
         // Subir imagen a Cloudinary
         Map uploadResult = imageService.upload(photo);
         String imageUrl = uploadResult.get("url").toString();
+        Object publicId = uploadResult.get("public_id");
 
         // Si es primaria, desmarcar otras fotos primarias
         if (isPrimary) {
@@ -55,17 +82,127 @@ public class AccommodationPhotoServiceImpl implements AccommodationPhotoService
 
         // Crear registro de foto
         AccommodationPhoto newPhoto = AccommodationPhoto.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UuidV7.generate())
                 .imageUrl(imageUrl)
+                .publicId(publicId != null ? publicId.toString() : null)
                 .isPrimary(isPrimary)
                 .accommodation(accommodation.get())
                 .displayOrder(displayOrder)
                 .build();
 
         photoRepository.save(newPhoto);
+
+        // Las variantes se generan en segundo plano cuando se confirma la transacción
+        eventPublisher.publishEvent(new AccommodationPhotoUploadedEvent(newPhoto.getId()));
         return imageUrl;
     }
 
+    /**
+     * Sube varias fotos en paralelo (acotado por el executor de imágenes) y las
+     * registra en una sola transacción. Las fotos que fallan al subirse se
+     * reportan por índice sin afectar a las demás; si falla el registro en base
+     * de datos, se eliminan las imágenes ya subidas y no se guarda ninguna.
+     */
+    @Override
+    public BatchPhotoUploadDTO uploadPhotos(String accommodationId, List<MultipartFile> photos,
+                                           Integer primaryIndex) throws Exception {
+        if (photos == null || photos.isEmpty()) {
+            throw new InvalidOperationException("Debes enviar al menos una foto.");
+        }
+
+        if (photos.size() > maxBatchSize) {
+            throw new InvalidOperationException("No puedes subir más de " + maxBatchSize + " fotos a la vez.");
+        }
+
+        if (primaryIndex != null && (primaryIndex < 0 || primaryIndex >= photos.size())) {
+            throw new InvalidOperationException("El índice de la foto principal no es válido.");
+        }
+
+        Optional<Accommodation> accommodation = accommodationRepository.findById(accommodationId);
+        if (accommodation.isEmpty()) {
+            throw new NotFoundException("Alojamiento no encontrado");
+        }
+
+        // Subir todas las imágenes en paralelo, fuera de la transacción
+        List<CompletableFuture<Map>> uploads = new ArrayList<>();
+        for (MultipartFile photo : photos) {
+            uploads.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return imageService.upload(photo);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, imageExecutor));
+        }
+
+        List<AccommodationPhoto> newPhotos = new ArrayList<>();
+        List<PhotoUploadErrorDTO> failed = new ArrayList<>();
+        // Solo las imágenes que esta petición guardó por primera vez; las que ya
+        // existían (almacenamiento por contenido) pueden estar en uso por otras fotos
+        List<String> createdImages = new ArrayList<>();
+        boolean primaryUploaded = false;
+
+        for (int i = 0; i < uploads.size(); i++) {
+            try {
+                Map uploadResult = uploads.get(i).join();
+                Object publicId = uploadResult.get("public_id");
+                if (publicId != null && !Boolean.TRUE.equals(uploadResult.get("existing"))) {
+                    createdImages.add(publicId.toString());
+                }
+                boolean isPrimary = primaryIndex != null && primaryIndex == i;
+                primaryUploaded |= isPrimary;
+
+                newPhotos.add(AccommodationPhoto.builder()
+                        .id(UuidV7.generate())
+                        .imageUrl(uploadResult.get("url").toString())
+                        .publicId(publicId != null ? publicId.toString() : null)
+                        .isPrimary(isPrimary)
+                        .accommodation(accommodation.get())
+                        .build());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                failed.add(new PhotoUploadErrorDTO(i, photos.get(i).getOriginalFilename(), cause.getMessage()));
+            }
+        }
+
+        if (newPhotos.isEmpty()) {
+            return new BatchPhotoUploadDTO(List.of(), failed);
+        }
+
+        boolean swapPrimary = primaryUploaded;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (swapPrimary) {
+                    AccommodationPhoto currentPrimary = photoRepository
+                            .findByAccommodationIdAndIsPrimaryTrue(accommodationId);
+                    if (currentPrimary != null) {
+                        currentPrimary.setIsPrimary(false);
+                        photoRepository.save(currentPrimary);
+                    }
+                }
+
+                // Un solo conteo para asignar el orden de todas las fotos del lote
+                Long photoCount = photoRepository.countByAccommodationId(accommodationId);
+                int displayOrder = photoCount != null ? photoCount.intValue() : 0;
+                for (AccommodationPhoto newPhoto : newPhotos) {
+                    newPhoto.setDisplayOrder(displayOrder++);
+                }
+
+                photoRepository.saveAll(newPhotos);
+                newPhotos.forEach(newPhoto ->
+                        eventPublisher.publishEvent(new AccommodationPhotoUploadedEvent(newPhoto.getId())));
+            });
+        } catch (RuntimeException e) {
+            discardUploadedImages(createdImages);
+            throw e;
+        }
+
+        List<AccommodationPhotoDTO> uploaded = newPhotos.stream()
+                .map(photoMapper::toDTO)
+                .collect(Collectors.toList());
+        return new BatchPhotoUploadDTO(uploaded, failed);
+    }
+
     @Override
     @Transactional
     public void deletePhoto(String photoId) throws Exception {
@@ -74,22 +211,19 @@ public class AccommodationPhotoServiceImpl implements AccommodationPhotoService
             throw new NotFoundException("Foto no encontrada");
         }
 
-        // Extraer public_id de la URL para eliminar de Cloudinary
-        String imageUrl = photo.get().getImageUrl();
-        String publicId = extractPublicId(imageUrl);
-        
-        // Solo intentar eliminar de Cloudinary si se pudo extraer el publicId
-        if (publicId != null && !publicId.isEmpty()) {
-            try {
-                imageService.delete(publicId);
-            } catch (Exception e) {
-                System.err.println("⚠️ Error al eliminar imagen de Cloudinary: " + e.getMessage());
-                // Continuar con la eliminación de la base de datos aunque falle Cloudinary
-            }
+        // Usar el public_id guardado; las fotos antiguas lo extraen de la URL
+        String publicId = photo.get().getPublicId();
+        if (publicId == null) {
+            publicId = extractPublicId(photo.get().getImageUrl());
         }
 
-        // Eliminar de base de datos
         photoRepository.deleteById(photoId);
+
+        // Con almacenamiento por contenido varias fotos pueden compartir la misma imagen:
+        // si quedan referencias se decide después del commit (AccommodationPhotoCleanupListener)
+        if (publicId != null && !publicId.isEmpty()) {
+            eventPublisher.publishEvent(new AccommodationPhotoDeletedEvent(publicId));
+        }
     }
 
     @Override
@@ -100,6 +234,22 @@ public class AccommodationPhotoServiceImpl implements AccommodationPhotoService
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<String> getPhotosByAccommodation(String accommodationId, ImageVariant variant) throws Exception {
+        return photoRepository.findByAccommodationIdOrderByDisplayOrderAsc(accommodationId)
+                .stream()
+                .map(photo -> resolveVariantUrl(photo, variant))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<AccommodationPhotoDTO> getPhotoDetailsByAccommodation(String accommodationId) throws Exception {
+        return photoRepository.findByAccommodationIdOrderByDisplayOrderAsc(accommodationId)
+                .stream()
+                .map(photoMapper::toDTO)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional
     public void setPrimaryPhoto(String photoId) throws Exception {
@@ -124,6 +274,35 @@ public class AccommodationPhotoServiceImpl implements AccommodationPhotoService
         photoRepository.save(targetPhoto);
     }
 
+    // Mientras la variante no exista (o falle su generación) se sirve la imagen original
+    private String resolveVariantUrl(AccommodationPhoto photo, ImageVariant variant) {
+        String url = switch (variant) {
+            case ORIGINAL -> photo.getImageUrl();
+            case THUMBNAIL -> photo.getThumbnailUrl();
+            case THUMBNAIL_WEBP -> photo.getThumbnailWebpUrl();
+            case CARD -> photo.getCardUrl();
+            case CARD_WEBP -> photo.getCardWebpUrl();
+            case FULL -> photo.getFullUrl();
+            case FULL_WEBP -> photo.getFullWebpUrl();
+        };
+        return url != null ? url : photo.getImageUrl();
+    }
+
+    // Compensación: las imágenes subidas no deben quedar huérfanas en el servicio de imágenes
+    private void discardUploadedImages(List<String> publicIds) {
+        for (String publicId : publicIds) {
+            try {
+                // Otra petición pudo registrar la misma imagen mientras tanto
+                if (photoRepository.countByPublicId(publicId) > 0) {
+                    continue;
+                }
+                imageService.delete(publicId);
+            } catch (Exception e) {
+                log.error("No se pudo eliminar la imagen {}: {}", publicId, e.getMessage());
+            }
+        }
+    }
+
     private String extractPublicId(String imageUrl) {
         if (imageUrl == null || imageUrl.isEmpty()) {
             return "";
@@ -1,8 +1,11 @@
 package co.edu.uniquindio.application.services.impl;
 
 import co.edu.uniquindio.application.dto.AccommodationDTO;
+import co.edu.uniquindio.application.dto.ResourceVersionDTO;
 import co.edu.uniquindio.application.dto.create.CreateAccommodationDTO;
 import co.edu.uniquindio.application.dto.edit.EditAccommodationDTO;
+import co.edu.uniquindio.application.events.AccommodationChangedEvent;
+import co.edu.uniquindio.application.events.FavoriteChangedEvent;
 import co.edu.uniquindio.application.exceptions.InvalidOperationException;
 import co.edu.uniquindio.application.exceptions.NotFoundException;
 import co.edu.uniquindio.application.mappers.AccommodationMapper;
@@ -11,18 +14,23 @@ import co.edu.uniquindio.application.models.entitys.User;
 import co.edu.uniquindio.application.models.enums.AccommodationStatus;
 import co.edu.uniquindio.application.models.enums.Role;
 import co.edu.uniquindio.application.repositories.AccommodationRepository;
+import co.edu.uniquindio.application.repositories.AccommodationVersionView;
 import co.edu.uniquindio.application.repositories.UserRepository;
 import co.edu.uniquindio.application.services.AccommodationService;
 import co.edu.uniquindio.application.services.AuthService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -32,6 +40,7 @@ public class AccommodationServiceImpl implements AccommodationService {
     private final AccommodationMapper accommodationMapper;
     private final UserRepository userRepository;
     private final AuthService authService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ========================================
     // GESTIÓN DE ESTADO - CON VALIDACIONES DE PROPIETARIO
@@ -90,6 +99,7 @@ public class AccommodationServiceImpl implements AccommodationService {
         // Cambiar el estado
         accommodation.setStatus(newStatus);
         accommodationRepository.save(accommodation);
+        eventPublisher.publishEvent(new AccommodationChangedEvent(id));
     }
 
     @Override
@@ -120,6 +130,7 @@ public class AccommodationServiceImpl implements AccommodationService {
         Accommodation newAccommodation = accommodationMapper.toEntity(accommodationDTO);
         newAccommodation.setHost(host.get());
         accommodationRepository.save(newAccommodation);
+        eventPublisher.publishEvent(new AccommodationChangedEvent(newAccommodation.getId()));
     }
 
     @Override
@@ -132,6 +143,42 @@ public class AccommodationServiceImpl implements AccommodationService {
         return accommodationMapper.toAccommodationDTO(accommodationOptional.get());
     }
 
+    @Override
+    public ResourceVersionDTO getVersion(String id) throws Exception {
+        AccommodationVersionView version = accommodationRepository.findVersionById(id)
+                .orElseThrow(() -> new NotFoundException("El alojamiento con ID '" + id + "' no fue encontrado."));
+
+        return new ResourceVersionDTO("W/\"a" + version.getVersion() + "-" + version.getFavoriteCount() + "\"",
+                toEpochMillis(version.getUpdatedAt()));
+    }
+
+    /**
+     * Versión del catálogo completo para los listados: cambia con cualquier alta,
+     * baja, edición o favorito. Es más conservadora que una por filtro, pero se lee
+     * por llave primaria. Vive en la base de datos para que una escritura hecha en
+     * otra instancia también cambie el ETag.
+     */
+    @Override
+    public ResourceVersionDTO getCatalogVersion() {
+        return new ResourceVersionDTO("W/\"c" + accommodationRepository.findCatalogVersion() + "\"", -1);
+    }
+
+    // Se avanza dentro de la transacción de la escritura (o justo después si no tiene):
+    // ninguna lectura ve la versión nueva antes que el contenido nuevo
+    @EventListener
+    public void onAccommodationChanged(AccommodationChangedEvent event) {
+        accommodationRepository.incrementCatalogVersion();
+    }
+
+    @EventListener
+    public void onFavoriteChanged(FavoriteChangedEvent event) {
+        accommodationRepository.incrementCatalogVersion();
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0;
+    }
+
     @Override
     public void edit(String id, EditAccommodationDTO accommodationDTO) throws Exception {
         // OBTENER USUARIO AUTENTICADO
@@ -162,6 +209,7 @@ public class AccommodationServiceImpl implements AccommodationService {
         accommodation.setMaxCapacity(accommodationDTO.maxCapacity());
         accommodation.setAmenities(accommodationDTO.amenities());
         accommodationRepository.save(accommodation);
+        eventPublisher.publishEvent(new AccommodationChangedEvent(id));
     }
 
     @Override
@@ -184,6 +232,7 @@ public class AccommodationServiceImpl implements AccommodationService {
         }
 
         accommodationRepository.deleteById(id);
+        eventPublisher.publishEvent(new AccommodationChangedEvent(id));
     }
 
     // ========================================
@@ -193,10 +242,17 @@ public class AccommodationServiceImpl implements AccommodationService {
     @Override
     @Transactional(readOnly = true) // ✅ OPTIMIZACIÓN
     public List<AccommodationDTO> listAll() {
-        return accommodationRepository.findAll()
-                .stream()
-                .map(accommodationMapper::toAccommodationDTO)
-                .collect(Collectors.toList());
+        return accommodationRepository.findAllAccommodationDTOs();
+    }
+
+    @Override
+    public Stream<AccommodationDTO> streamAll() {
+        return accommodationRepository.streamAllAccommodationDTOs();
+    }
+
+    @Override
+    public Stream<AccommodationDTO> streamByStatus(AccommodationStatus status) {
+        return accommodationRepository.streamAccommodationDTOsByStatus(status);
     }
 
     @Override
@@ -206,28 +262,18 @@ public class AccommodationServiceImpl implements AccommodationService {
 
     @Override
     public List<AccommodationDTO> listByStatus(AccommodationStatus status) {
-        return accommodationRepository.findByStatusEquals(status)
-                .stream()
-                .map(accommodationMapper::toAccommodationDTO)
-                .collect(Collectors.toList());
+        return accommodationRepository.findAccommodationDTOsByStatus(status);
     }
 
     @Override
     public List<AccommodationDTO> listByCity(String city) {
-        Page<Accommodation> page = accommodationRepository.findByCity(city, Pageable.unpaged());
-        return page.getContent()
-                .stream()
-                .map(accommodationMapper::toAccommodationDTO)
-                .collect(Collectors.toList());
+        return accommodationRepository.findAccommodationDTOsByCity(city, Pageable.unpaged()).getContent();
     }
 
     @Override
     public List<AccommodationDTO> listByPriceRange(Double minPrice, Double maxPrice) {
-        Page<Accommodation> page = accommodationRepository.findByPricePerNightBetween(minPrice, maxPrice, Pageable.unpaged());
-        return page.getContent()
-                .stream()
-                .map(accommodationMapper::toAccommodationDTO)
-                .collect(Collectors.toList());
+        return accommodationRepository.findAccommodationDTOsByPriceBetween(minPrice, maxPrice, Pageable.unpaged())
+                .getContent();
     }
 
     // ========================================
@@ -236,26 +282,22 @@ public class AccommodationServiceImpl implements AccommodationService {
 
     @Override
     public Page<AccommodationDTO> listAllPaginated(Pageable pageable) {
-        Page<Accommodation> page = accommodationRepository.findAll(pageable);
-        return page.map(accommodationMapper::toAccommodationDTO);
+        return accommodationRepository.findAllAccommodationDTOs(pageable);
     }
 
     @Override
     public Page<AccommodationDTO> listByStatusPaginated(AccommodationStatus status, Pageable pageable) {
-        Page<Accommodation> page = accommodationRepository.findByStatusEquals(status, pageable);
-        return page.map(accommodationMapper::toAccommodationDTO);
+        return accommodationRepository.findAccommodationDTOsByStatus(status, pageable);
     }
 
     @Override
     public Page<AccommodationDTO> listByCityPaginated(String city, Pageable pageable) throws Exception {
-        Page<Accommodation> page = accommodationRepository.findByCity(city, pageable);
-        return page.map(accommodationMapper::toAccommodationDTO);
+        return accommodationRepository.findAccommodationDTOsByCity(city, pageable);
     }
 
     @Override
     public Page<AccommodationDTO> listByPriceRangePaginated(Double minPrice, Double maxPrice, Pageable pageable) {
-        Page<Accommodation> page = accommodationRepository.findByPricePerNightBetween(minPrice, maxPrice, pageable);
-        return page.map(accommodationMapper::toAccommodationDTO);
+        return accommodationRepository.findAccommodationDTOsByPriceBetween(minPrice, maxPrice, pageable);
     }
 
     // ========================================
@@ -264,8 +306,7 @@ public class AccommodationServiceImpl implements AccommodationService {
 
     @Override
     public Page<AccommodationDTO> searchByNamePaginated(String text, Pageable pageable) throws Exception {
-        Page<Accommodation> page = accommodationRepository.findByTitleContainingIgnoreCase(text, pageable);
-        return page.map(accommodationMapper::toAccommodationDTO);
+        return accommodationRepository.findAccommodationDTOsByTitleContaining(text, pageable);
     }
 
     // ========================================
@@ -274,33 +315,28 @@ public class AccommodationServiceImpl implements AccommodationService {
 
     @Override
     public Page<AccommodationDTO> findActiveByCityAndMaxPrice(String city, Double maxPrice, Pageable pageable) {
-        Page<Accommodation> page = accommodationRepository.findActiveByCityAndMaxPrice(city, maxPrice, pageable);
-        return page.map(accommodationMapper::toAccommodationDTO);
+        return accommodationRepository.findActiveAccommodationDTOsByCityAndMaxPrice(city, maxPrice, pageable);
     }
 
     @Override
     public Page<AccommodationDTO> findByCapacityAndRating(Integer minCapacity, Double minRating, Pageable pageable) {
-        Page<Accommodation> page = accommodationRepository.findByCapacityAndRating(minCapacity, minRating, pageable);
-        return page.map(accommodationMapper::toAccommodationDTO);
+        return accommodationRepository.findAccommodationDTOsByCapacityAndRating(minCapacity, minRating, pageable);
     }
 
     @Override
     public Page<AccommodationDTO> findMostPopular(Pageable pageable) {
-        Page<Accommodation> page = accommodationRepository.findMostPopular(pageable);
-        return page.map(accommodationMapper::toAccommodationDTO);
+        return accommodationRepository.findMostPopularAccommodationDTOs(pageable);
     }
 
     @Override
     public Page<AccommodationDTO> findByPriceRangeActive(Double minPrice, Double maxPrice, Pageable pageable) {
-        Page<Accommodation> page = accommodationRepository.findByPriceRangeActive(minPrice, maxPrice, pageable);
-        return page.map(accommodationMapper::toAccommodationDTO);
+        return accommodationRepository.findActiveAccommodationDTOsByPriceRange(minPrice, maxPrice, pageable);
     }
 
     @Override
     public Page<AccommodationDTO> findNearLocation(Double latitude, Double longitude, Double radiusKm, Pageable pageable) {
         // Convertir km a grados aproximados (1 grado ≈ 111 km)
         Double radiusDegrees = radiusKm / 111.0;
-        Page<Accommodation> page = accommodationRepository.findNearLocation(latitude, longitude, radiusDegrees, pageable);
-        return page.map(accommodationMapper::toAccommodationDTO);
+        return accommodationRepository.findAccommodationDTOsNearLocation(latitude, longitude, radiusDegrees, pageable);
     }
 }
\ No newline at end of file
@@ -6,13 +6,14 @@ import co.edu.uniquindio.application.dto.AvailabilityDTO;
 import co.edu.uniquindio.application.exceptions.InvalidOperationException;
 import co.edu.uniquindio.application.exceptions.NotFoundException;
 import co.edu.uniquindio.application.mappers.AvailabilityMapper;
-import co.edu.uniquindio.application.models.entitys.Accommodation;
 import co.edu.uniquindio.application.models.entitys.AvailabilityCalendar;
 import co.edu.uniquindio.application.repositories.AccommodationRepository;
 import co.edu.uniquindio.application.repositories.AvailabilityCalendarRepository;
 import co.edu.uniquindio.application.services.AvailabilityService;
+import co.edu.uniquindio.application.services.ExistenceService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -26,14 +27,12 @@ public class AvailabilityServiceImpl implements AvailabilityService {
     private final AvailabilityCalendarRepository availabilityCalendarRepository;
     private final AvailabilityMapper availabilityMapper;
     private final AccommodationRepository accommodationRepository;
+    private final ExistenceService existenceService;
 
     @Override
     public void create(CreateAvailabilityDTO availabilityDTO) throws Exception {
         // Validar que el alojamiento existe
-        Optional<Accommodation> accommodation = accommodationRepository.findById(availabilityDTO.accommodationId());
-        if (accommodation.isEmpty()) {
-            throw new NotFoundException("El alojamiento con ID '" + availabilityDTO.accommodationId() + "' no fue encontrado.");
-        }
+        existenceService.requireAccommodation(availabilityDTO.accommodationId());
 
         // Validar que la fecha no sea en el pasado
         if (availabilityDTO.date().isBefore(LocalDate.now())) {
@@ -52,13 +51,14 @@ public class AvailabilityServiceImpl implements AvailabilityService {
 
         // Crear la disponibilidad
         AvailabilityCalendar newAvailability = availabilityMapper.toEntity(availabilityDTO);
-        newAvailability.setAccommodation(accommodation.get());
+        newAvailability.setAccommodation(accommodationRepository.getReferenceById(availabilityDTO.accommodationId()));
 
         // Guardar
         availabilityCalendarRepository.save(newAvailability);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public AvailabilityDTO get(String id) throws Exception {
         Optional<AvailabilityCalendar> availabilityOptional = availabilityCalendarRepository.findById(id);
 
@@ -81,6 +81,7 @@ public class AvailabilityServiceImpl implements AvailabilityService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<AvailabilityDTO> listAll() {
         return availabilityCalendarRepository.findAll()
                 .stream()
@@ -89,10 +90,9 @@ public class AvailabilityServiceImpl implements AvailabilityService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<AvailabilityDTO> listByAccommodation(String accommodationId) throws Exception {
-        if (accommodationRepository.findById(accommodationId).isEmpty()) {
-            throw new NotFoundException("El alojamiento con ID '" + accommodationId + "' no fue encontrado.");
-        }
+        existenceService.requireAccommodation(accommodationId);
 
         return availabilityCalendarRepository.findByAccommodationId(accommodationId)
                 .stream()
@@ -101,10 +101,9 @@ public class AvailabilityServiceImpl implements AvailabilityService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<AvailabilityDTO> listAvailableDates(String accommodationId) throws Exception {
-        if (accommodationRepository.findById(accommodationId).isEmpty()) {
-            throw new NotFoundException("El alojamiento con ID '" + accommodationId + "' no fue encontrado.");
-        }
+        existenceService.requireAccommodation(accommodationId);
 
         return availabilityCalendarRepository.findAvailableDatesByAccommodation(accommodationId)
                 .stream()
@@ -113,10 +112,9 @@ public class AvailabilityServiceImpl implements AvailabilityService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<AvailabilityDTO> listUnavailableDates(String accommodationId) throws Exception {
-        if (accommodationRepository.findById(accommodationId).isEmpty()) {
-            throw new NotFoundException("El alojamiento con ID '" + accommodationId + "' no fue encontrado.");
-        }
+        existenceService.requireAccommodation(accommodationId);
 
         return availabilityCalendarRepository.findUnavailableDatesByAccommodation(accommodationId)
                 .stream()
@@ -125,10 +123,9 @@ public class AvailabilityServiceImpl implements AvailabilityService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<AvailabilityDTO> listByDateRange(String accommodationId, LocalDate startDate, LocalDate endDate) throws Exception {
-        if (accommodationRepository.findById(accommodationId).isEmpty()) {
-            throw new NotFoundException("El alojamiento con ID '" + accommodationId + "' no fue encontrado.");
-        }
+        existenceService.requireAccommodation(accommodationId);
 
         if (startDate.isAfter(endDate)) {
             throw new InvalidOperationException("La fecha de inicio no puede ser posterior a la fecha de fin.");
@@ -157,18 +154,14 @@ public class AvailabilityServiceImpl implements AvailabilityService {
 
     @Override
     public boolean isDateAvailable(String accommodationId, LocalDate date) throws Exception {
-        if (accommodationRepository.findById(accommodationId).isEmpty()) {
-            throw new NotFoundException("El alojamiento con ID '" + accommodationId + "' no fue encontrado.");
-        }
+        existenceService.requireAccommodation(accommodationId);
 
         return availabilityCalendarRepository.isDateAvailable(accommodationId, date);
     }
 
     @Override
     public void blockDate(String accommodationId, LocalDate date, String reason) throws Exception {
-        if (accommodationRepository.findById(accommodationId).isEmpty()) {
-            throw new NotFoundException("El alojamiento con ID '" + accommodationId + "' no fue encontrado.");
-        }
+        existenceService.requireAccommodation(accommodationId);
 
         Optional<AvailabilityCalendar> existingAvailability = 
             availabilityCalendarRepository.findByAccommodationIdAndDate(accommodationId, date);
@@ -186,9 +179,7 @@ public class AvailabilityServiceImpl implements AvailabilityService {
 
     @Override
     public void unblockDate(String accommodationId, LocalDate date) throws Exception {
-        if (accommodationRepository.findById(accommodationId).isEmpty()) {
-            throw new NotFoundException("El alojamiento con ID '" + accommodationId + "' no fue encontrado.");
-        }
+        existenceService.requireAccommodation(accommodationId);
 
         Optional<AvailabilityCalendar> existingAvailability = 
             availabilityCalendarRepository.findByAccommodationIdAndDate(accommodationId, date);
@@ -203,18 +194,14 @@ public class AvailabilityServiceImpl implements AvailabilityService {
 
     @Override
     public Long countAvailableDates(String accommodationId) throws Exception {
-        if (accommodationRepository.findById(accommodationId).isEmpty()) {
-            throw new NotFoundException("El alojamiento con ID '" + accommodationId + "' no fue encontrado.");
-        }
+        existenceService.requireAccommodation(accommodationId);
 
         return availabilityCalendarRepository.countByAccommodationIdAndAvailableTrue(accommodationId);
     }
 
     @Override
     public Long countUnavailableDates(String accommodationId) throws Exception {
-        if (accommodationRepository.findById(accommodationId).isEmpty()) {
-            throw new NotFoundException("El alojamiento con ID '" + accommodationId + "' no fue encontrado.");
-        }
+        existenceService.requireAccommodation(accommodationId);
 
         return availabilityCalendarRepository.countByAccommodationIdAndAvailableFalse(accommodationId);
     }
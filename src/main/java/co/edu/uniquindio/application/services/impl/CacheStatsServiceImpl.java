@@ -0,0 +1,64 @@
+package co.edu.uniquindio.application.services.impl;
+
+import co.edu.uniquindio.application.dto.CacheRegionStatsDTO;
+import co.edu.uniquindio.application.exceptions.InvalidOperationException;
+import co.edu.uniquindio.application.services.CacheStatsService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class CacheStatsServiceImpl implements CacheStatsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public List<CacheRegionStatsDTO> getRegionStats() throws Exception {
+        Statistics statistics = statistics();
+
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> toDTO(region, statistics.getCacheRegionStatistics(region)))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public void resetStats() throws Exception {
+        statistics().clear();
+    }
+
+    private Statistics statistics() throws InvalidOperationException {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            throw new InvalidOperationException(
+                    "Las estadísticas de Hibernate están desactivadas (hibernate.generate_statistics).");
+        }
+        return statistics;
+    }
+
+    private CacheRegionStatsDTO toDTO(String region, CacheRegionStatistics stats) {
+        if (stats == null) {
+            return null;
+        }
+        long reads = stats.getHitCount() + stats.getMissCount();
+        double hitRatio = reads == 0 ? 0.0 : (double) stats.getHitCount() / reads;
+        return new CacheRegionStatsDTO(
+                region,
+                stats.getHitCount(),
+                stats.getMissCount(),
+                stats.getPutCount(),
+                Math.round(hitRatio * 1000) / 1000.0,
+                stats.getElementCountInMemory() == CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN
+                        ? -1 : stats.getElementCountInMemory()
+        );
+    }
+}
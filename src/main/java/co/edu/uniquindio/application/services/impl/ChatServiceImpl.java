@@ -10,8 +10,10 @@ import co.edu.uniquindio.application.models.entitys.User;
 import co.edu.uniquindio.application.repositories.ChatRepository;
 import co.edu.uniquindio.application.repositories.UserRepository;
 import co.edu.uniquindio.application.services.ChatService;
+import co.edu.uniquindio.application.services.ExistenceService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,6 +27,7 @@ public class ChatServiceImpl implements ChatService {
     private final ChatRepository chatRepository;
     private final ChatMapper chatMapper;
     private final UserRepository userRepository;
+    private final ExistenceService existenceService;
 
     @Override
     public void create(CreateChatDTO chatDTO) throws Exception {
@@ -38,14 +41,11 @@ public class ChatServiceImpl implements ChatService {
             throw new InvalidOperationException("No puede haber participantes duplicados en un chat.");
         }
 
-        // Validar que todos los usuarios existen
+        // Validar que todos los usuarios existen; para la relación basta una referencia por ID
         List<User> users = new ArrayList<>();
         for (String userId : chatDTO.participantIds()) {
-            Optional<User> user = userRepository.findById(userId);
-            if (user.isEmpty()) {
-                throw new NotFoundException("El usuario con ID '" + userId + "' no fue encontrado.");
-            }
-            users.add(user.get());
+            existenceService.requireUser(userId);
+            users.add(userRepository.getReferenceById(userId));
         }
 
         // Crear el chat
@@ -57,6 +57,7 @@ public class ChatServiceImpl implements ChatService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ChatDTO get(String id) throws Exception {
         Optional<Chat> chatOptional = chatRepository.findById(id);
 
@@ -79,6 +80,7 @@ public class ChatServiceImpl implements ChatService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ChatDTO> listAll() {
         return chatRepository.findAll()
                 .stream()
@@ -87,6 +89,7 @@ public class ChatServiceImpl implements ChatService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ChatDTO> listActive() {
         return chatRepository.findByActiveTrue()
                 .stream()
@@ -95,11 +98,10 @@ public class ChatServiceImpl implements ChatService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ChatDTO> listByUser(String userId) throws Exception {
         // Validar que el usuario existe
-        if (userRepository.findById(userId).isEmpty()) {
-            throw new NotFoundException("El usuario con ID '" + userId + "' no fue encontrado.");
-        }
+        existenceService.requireUser(userId);
 
         return chatRepository.findByUserId(userId)
                 .stream()
@@ -108,11 +110,10 @@ public class ChatServiceImpl implements ChatService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ChatDTO> listActiveChatsForUser(String userId) throws Exception {
         // Validar que el usuario existe
-        if (userRepository.findById(userId).isEmpty()) {
-            throw new NotFoundException("El usuario con ID '" + userId + "' no fue encontrado.");
-        }
+        existenceService.requireUser(userId);
 
         return chatRepository.findActiveChatsForUser(userId)
                 .stream()
@@ -121,15 +122,12 @@ public class ChatServiceImpl implements ChatService {
     }
 
     @Override
+    @Transactional
     public ChatDTO getOrCreateChatBetweenUsers(String userId1, String userId2) throws Exception {
         // Validar que ambos usuarios existen
-        if (userRepository.findById(userId1).isEmpty()) {
-            throw new NotFoundException("El usuario con ID '" + userId1 + "' no fue encontrado.");
-        }
+        existenceService.requireUser(userId1);
 
-        if (userRepository.findById(userId2).isEmpty()) {
-            throw new NotFoundException("El usuario con ID '" + userId2 + "' no fue encontrado.");
-        }
+        existenceService.requireUser(userId2);
 
         // Validar que no sean el mismo usuario
         if (userId1.equals(userId2)) {
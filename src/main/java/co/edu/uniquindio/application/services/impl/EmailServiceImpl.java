@@ -27,7 +27,7 @@ public class EmailServiceImpl implements EmailService {
     private String smtpPassword;
 
     @Override
-    @Async
+    @Async("mailExecutor")
     public void sendMail(EmailDTO emailDTO) throws Exception {
         try {
             Email email = EmailBuilder.startingBlank()
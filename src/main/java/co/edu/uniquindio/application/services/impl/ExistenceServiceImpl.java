@@ -0,0 +1,84 @@
+package co.edu.uniquindio.application.services.impl;
+
+import co.edu.uniquindio.application.exceptions.NotFoundException;
+import co.edu.uniquindio.application.repositories.AccommodationRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.services.ExistenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+@Service
+@RequiredArgsConstructor
+public class ExistenceServiceImpl implements ExistenceService {
+
+    private static final String REQUEST_ATTRIBUTE = ExistenceServiceImpl.class.getName() + ".confirmed";
+
+    private final UserRepository userRepository;
+    private final AccommodationRepository accommodationRepository;
+
+    @Override
+    public boolean userExists(String userId) {
+        return exists("user", userId, userRepository::existsById);
+    }
+
+    @Override
+    public boolean accommodationExists(String accommodationId) {
+        return exists("accommodation", accommodationId, accommodationRepository::existsById);
+    }
+
+    @Override
+    public void requireUser(String userId) throws NotFoundException {
+        if (!userExists(userId)) {
+            throw new NotFoundException("El usuario con ID '" + userId + "' no fue encontrado.");
+        }
+    }
+
+    @Override
+    public void requireAccommodation(String accommodationId) throws NotFoundException {
+        if (!accommodationExists(accommodationId)) {
+            throw new NotFoundException("El alojamiento con ID '" + accommodationId + "' no fue encontrado.");
+        }
+    }
+
+    // existsById consulta solo la clave primaria, sin hidratar la entidad ni sus @ManyToOne.
+    // Solo se recuerdan los resultados positivos: un ID inexistente termina la petición con 404
+    private boolean exists(String type, String id, Predicate<String> query) {
+        if (id == null) {
+            return false;
+        }
+
+        Set<String> confirmed = confirmedInCurrentRequest();
+        String key = type + ":" + id;
+        if (confirmed != null && confirmed.contains(key)) {
+            return true;
+        }
+
+        boolean exists = query.test(id);
+        if (exists && confirmed != null) {
+            confirmed.add(key);
+        }
+        return exists;
+    }
+
+    // Fuera de una petición HTTP (tareas programadas, @Async) no se memoriza nada
+    @SuppressWarnings("unchecked")
+    private Set<String> confirmedInCurrentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+
+        Set<String> confirmed = (Set<String>) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (confirmed == null) {
+            confirmed = new HashSet<>();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, confirmed, RequestAttributes.SCOPE_REQUEST);
+        }
+        return confirmed;
+    }
+}
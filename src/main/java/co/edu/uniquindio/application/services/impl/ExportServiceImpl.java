@@ -0,0 +1,106 @@
+package co.edu.uniquindio.application.services.impl;
+
+import co.edu.uniquindio.application.dto.ExportFilterDTO;
+import co.edu.uniquindio.application.dto.PaymentDTO;
+import co.edu.uniquindio.application.dto.ReservationDTO;
+import co.edu.uniquindio.application.exceptions.InvalidOperationException;
+import co.edu.uniquindio.application.exceptions.NotFoundException;
+import co.edu.uniquindio.application.models.entitys.User;
+import co.edu.uniquindio.application.models.enums.PaymentStatus;
+import co.edu.uniquindio.application.models.enums.ReservationStatus;
+import co.edu.uniquindio.application.models.enums.Role;
+import co.edu.uniquindio.application.repositories.PaymentRepository;
+import co.edu.uniquindio.application.repositories.ReservationRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.services.AuthService;
+import co.edu.uniquindio.application.services.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class ExportServiceImpl implements ExportService {
+
+    private final ReservationRepository reservationRepository;
+    private final PaymentRepository paymentRepository;
+    private final UserRepository userRepository;
+    private final AuthService authService;
+
+    @Override
+    public Supplier<Stream<ReservationDTO>> exportReservations(ExportFilterDTO filter, ReservationStatus status)
+            throws Exception {
+        validate(filter);
+        String hostId = resolveHost(filter.hostId());
+        Limit limit = toLimit(filter.limit());
+
+        // Punto de reanudación: la clave (check_in_date, id) de la última reserva recibida.
+        // Una reserva de otro anfitrión se responde como inexistente
+        LocalDate afterDate = null;
+        if (filter.after() != null) {
+            afterDate = reservationRepository.findExportCursor(filter.after(), hostId)
+                    .orElseThrow(() -> new NotFoundException(
+                            "La reserva '" + filter.after() + "' desde la que se quiere reanudar no existe."));
+        }
+
+        LocalDate cursorDate = afterDate;
+        return () -> reservationRepository.streamReservationDTOsForExport(
+                hostId, status, filter.from(), filter.to(), cursorDate, filter.after(), limit);
+    }
+
+    @Override
+    public Supplier<Stream<PaymentDTO>> exportPayments(ExportFilterDTO filter, PaymentStatus status)
+            throws Exception {
+        validate(filter);
+        String hostId = resolveHost(filter.hostId());
+        Limit limit = toLimit(filter.limit());
+
+        LocalDateTime afterCreatedAt = null;
+        if (filter.after() != null) {
+            afterCreatedAt = paymentRepository.findExportCursor(filter.after(), hostId)
+                    .orElseThrow(() -> new NotFoundException(
+                            "El pago '" + filter.after() + "' desde el que se quiere reanudar no existe."));
+        }
+
+        // created_at es un instante: el rango de días se convierte a [from, to + 1)
+        LocalDateTime from = filter.from() != null ? filter.from().atStartOfDay() : null;
+        LocalDateTime to = filter.to() != null ? filter.to().plusDays(1).atStartOfDay() : null;
+        LocalDateTime cursorCreatedAt = afterCreatedAt;
+        return () -> paymentRepository.streamPaymentDTOsForExport(
+                hostId, status, from, to, cursorCreatedAt, filter.after(), limit);
+    }
+
+    private void validate(ExportFilterDTO filter) throws InvalidOperationException {
+        if (filter.from() != null && filter.to() != null && filter.to().isBefore(filter.from())) {
+            throw new InvalidOperationException("La fecha final no puede ser anterior a la fecha inicial.");
+        }
+        if (filter.limit() != null && filter.limit() < 1) {
+            throw new InvalidOperationException("El límite de filas debe ser mayor que cero.");
+        }
+    }
+
+    // ADMIN exporta cualquier anfitrión (o todos); HOST solo lo suyo
+    private String resolveHost(String hostId) throws Exception {
+        String authenticatedUserId = authService.getAuthenticatedUserId();
+        User user = userRepository.findById(authenticatedUserId)
+                .orElseThrow(() -> new NotFoundException("Usuario con ID '" + authenticatedUserId + "' no encontrado."));
+
+        if (user.getRole() == Role.ADMIN) {
+            return hostId;
+        }
+
+        if (user.getRole() != Role.HOST || (hostId != null && !hostId.equals(authenticatedUserId))) {
+            throw new InvalidOperationException("Solo puedes exportar las reservas y pagos de tus propios alojamientos.");
+        }
+        return authenticatedUserId;
+    }
+
+    private Limit toLimit(Integer limit) {
+        return limit != null ? Limit.of(limit) : Limit.unlimited();
+    }
+}
@@ -2,22 +2,36 @@ package co.edu.uniquindio.application.services.impl;
 
 import co.edu.uniquindio.application.dto.create.CreateFavoriteDTO;
 import co.edu.uniquindio.application.dto.FavoriteDTO;
+import co.edu.uniquindio.application.dto.FavoriteStatusDTO;
+import co.edu.uniquindio.application.events.FavoriteChangedEvent;
 import co.edu.uniquindio.application.exceptions.InvalidOperationException;
 import co.edu.uniquindio.application.exceptions.NotFoundException;
 import co.edu.uniquindio.application.mappers.FavoriteMapper;
 import co.edu.uniquindio.application.models.entitys.Accommodation;
 import co.edu.uniquindio.application.models.entitys.Favorite;
-import co.edu.uniquindio.application.models.entitys.User;
 import co.edu.uniquindio.application.repositories.AccommodationRepository;
 import co.edu.uniquindio.application.repositories.FavoriteRepository;
+import co.edu.uniquindio.application.repositories.FavoriteStatusView;
 import co.edu.uniquindio.application.repositories.UserRepository;
 import co.edu.uniquindio.application.services.AuthService;
 import co.edu.uniquindio.application.services.FavoriteService;
+import co.edu.uniquindio.application.services.ExistenceService;
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,9 +42,17 @@ public class FavoriteServiceImpl implements FavoriteService {
     private final FavoriteMapper favoriteMapper;
     private final UserRepository userRepository;
     private final AccommodationRepository accommodationRepository;
+    private final ExistenceService existenceService;
     private final AuthService authService;
+    private final ApplicationEventPublisher eventPublisher;
+    @Qualifier("favoriteIdsCache")
+    private final Cache<String, Set<String>> favoriteIdsCache;
+
+    @Value("${favorites.max-status-lookup:100}")
+    private int maxStatusLookup;
 
     @Override
+    @Transactional
     public void addFavorite(CreateFavoriteDTO favoriteDTO) throws Exception {
         // OBTENER USUARIO AUTENTICADO
         String authenticatedUserId = authService.getAuthenticatedUserId();
@@ -42,37 +64,29 @@ public class FavoriteServiceImpl implements FavoriteService {
             );
         }
 
-        // Validar que el usuario existe
-        Optional<User> user = userRepository.findById(favoriteDTO.userId());
-        if (user.isEmpty()) {
-            throw new NotFoundException("El usuario con ID '" + favoriteDTO.userId() + "' no fue encontrado.");
-        }
-
-        // Validar que el alojamiento existe
-        Optional<Accommodation> accommodation = accommodationRepository.findById(favoriteDTO.accommodationId());
-        if (accommodation.isEmpty()) {
-            throw new NotFoundException("El alojamiento con ID '" + favoriteDTO.accommodationId() + "' no fue encontrado.");
-        }
+        // Validar que el usuario y el alojamiento existen
+        existenceService.requireUser(favoriteDTO.userId());
+        existenceService.requireAccommodation(favoriteDTO.accommodationId());
 
         // Validar que no sea un favorito duplicado
-        Optional<Favorite> existingFavorite = favoriteRepository.findByUserIdAndAccommodationId(
-                favoriteDTO.userId(),
-                favoriteDTO.accommodationId()
-        );
-        if (existingFavorite.isPresent()) {
+        if (favoriteRepository.existsByUserIdAndAccommodationId(favoriteDTO.userId(), favoriteDTO.accommodationId())) {
             throw new InvalidOperationException("Este alojamiento ya está en los favoritos del usuario.");
         }
 
         // Crear el favorito
         Favorite newFavorite = favoriteMapper.toEntity(favoriteDTO);
-        newFavorite.setUser(user.get());
-        newFavorite.setAccommodation(accommodation.get());
+        newFavorite.setUser(userRepository.getReferenceById(favoriteDTO.userId()));
+        newFavorite.setAccommodation(accommodationRepository.getReferenceById(favoriteDTO.accommodationId()));
 
-        // Guardar el favorito
+        // Guardar el favorito y sumar al contador en la misma transacción; si la
+        // restricción única rechaza un duplicado concurrente, el incremento se revierte
         favoriteRepository.save(newFavorite);
+        accommodationRepository.incrementFavoriteCount(favoriteDTO.accommodationId());
+        eventPublisher.publishEvent(new FavoriteChangedEvent(favoriteDTO.userId(), favoriteDTO.accommodationId(), true));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public FavoriteDTO get(String id) throws Exception {
         Optional<Favorite> favoriteOptional = favoriteRepository.findById(id);
 
@@ -84,6 +98,7 @@ public class FavoriteServiceImpl implements FavoriteService {
     }
 
     @Override
+    @Transactional
     public void removeFavorite(String id) throws Exception {
         Optional<Favorite> favoriteOptional = favoriteRepository.findById(id);
 
@@ -91,80 +106,135 @@ public class FavoriteServiceImpl implements FavoriteService {
             throw new NotFoundException("El favorito con ID '" + id + "' no fue encontrado.");
         }
 
-        favoriteRepository.deleteById(id);
+        // Solo se descuenta si este borrado eliminó la fila (dos borrados simultáneos no restan dos veces)
+        if (favoriteRepository.deleteFavoriteById(id) > 0) {
+            Favorite favorite = favoriteOptional.get();
+            accommodationRepository.decrementFavoriteCount(favorite.getAccommodation().getId());
+            eventPublisher.publishEvent(new FavoriteChangedEvent(
+                    favorite.getUser().getId(), favorite.getAccommodation().getId(), false));
+        }
     }
 
     @Override
+    @Transactional
     public void removeFavoriteByUserAndAccommodation(String userId, String accommodationId) throws Exception {
-        Optional<Favorite> favoriteOptional = favoriteRepository.findByUserIdAndAccommodationId(userId, accommodationId);
-
-        if (favoriteOptional.isEmpty()) {
+        if (favoriteRepository.deleteByUserIdAndAccommodationId(userId, accommodationId) == 0) {
             throw new NotFoundException("Este alojamiento no está en los favoritos del usuario.");
         }
 
-        favoriteRepository.delete(favoriteOptional.get());
+        accommodationRepository.decrementFavoriteCount(accommodationId);
+        eventPublisher.publishEvent(new FavoriteChangedEvent(userId, accommodationId, false));
     }
 
     @Override
     public List<FavoriteDTO> listAll() {
-        return favoriteRepository.findAll()
-                .stream()
-                .map(favoriteMapper::toFavoriteDTO)
-                .collect(Collectors.toList());
+        return favoriteRepository.findAllFavoriteDTOs();
     }
 
     @Override
     public List<FavoriteDTO> listByUser(String userId) throws Exception {
-        if (userRepository.findById(userId).isEmpty()) {
+        existenceService.requireUser(userId);
+
+        // Proyección directa al DTO: no se cargan las entidades Favorite, User ni Accommodation
+        return favoriteRepository.findFavoriteDTOsByUserId(userId);
+    }
+
+    @Override
+    public Set<String> listFavoriteAccommodationIds(String userId) throws Exception {
+        Set<String> ids = favoriteIdsOf(userId);
+        if (ids == null) {
             throw new NotFoundException("El usuario con ID '" + userId + "' no fue encontrado.");
         }
-
-        return favoriteRepository.findByUserId(userId)
-                .stream()
-                .map(favoriteMapper::toFavoriteDTO)
-                .collect(Collectors.toList());
+        return ids;
     }
 
     @Override
     public List<FavoriteDTO> listByAccommodation(String accommodationId) throws Exception {
-        if (accommodationRepository.findById(accommodationId).isEmpty()) {
-            throw new NotFoundException("El alojamiento con ID '" + accommodationId + "' no fue encontrado.");
-        }
+        existenceService.requireAccommodation(accommodationId);
 
-        return favoriteRepository.findByAccommodationId(accommodationId)
-                .stream()
-                .map(favoriteMapper::toFavoriteDTO)
-                .collect(Collectors.toList());
+        return favoriteRepository.findFavoriteDTOsByAccommodationId(accommodationId);
     }
 
     @Override
     public boolean isFavorite(String userId, String accommodationId) throws Exception {
-        if (userRepository.findById(userId).isEmpty()) {
-            throw new NotFoundException("El usuario con ID '" + userId + "' no fue encontrado.");
+        Set<String> ids = favoriteIdsOf(userId);
+        if (ids != null && ids.contains(accommodationId)) {
+            return true;
         }
 
-        if (accommodationRepository.findById(accommodationId).isEmpty()) {
-            throw new NotFoundException("El alojamiento con ID '" + accommodationId + "' no fue encontrado.");
-        }
+        // Solo se consulta la base de datos cuando no es favorito, para conservar los 404
+        existenceService.requireUser(userId);
 
-        return favoriteRepository.findByUserIdAndAccommodationId(userId, accommodationId).isPresent();
+        existenceService.requireAccommodation(accommodationId);
+
+        return false;
     }
 
     @Override
-    public Long countFavoritesByUser(String userId) throws Exception {
-        if (userRepository.findById(userId).isEmpty()) {
-            throw new NotFoundException("El usuario con ID '" + userId + "' no fue encontrado.");
+    public List<FavoriteStatusDTO> getFavoriteStatus(String userId, List<String> accommodationIds) throws Exception {
+        // Se conservan el orden de la página y los IDs únicos
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(accommodationIds));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        if (ids.size() > maxStatusLookup) {
+            throw new InvalidOperationException("Solo se pueden consultar hasta " + maxStatusLookup + " alojamientos a la vez.");
         }
 
-        return favoriteRepository.countByUserId(userId);
+        existenceService.requireUser(userId);
+
+        // Una sola consulta para todas las tarjetas; los IDs inexistentes se omiten
+        Map<String, FavoriteStatusView> statusById = favoriteRepository
+                .findStatusByUserIdAndAccommodationIds(userId, ids)
+                .stream()
+                .collect(Collectors.toMap(FavoriteStatusView::getAccommodationId, Function.identity()));
+
+        return ids.stream()
+                .map(statusById::get)
+                .filter(status -> status != null)
+                .map(status -> new FavoriteStatusDTO(
+                        status.getAccommodationId(),
+                        Boolean.TRUE.equals(status.getFavorite()),
+                        status.getFavoriteCount()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Long countFavoritesByUser(String userId) throws Exception {
+        return (long) listFavoriteAccommodationIds(userId).size();
     }
 
     @Override
     public Long countFavoritesByAccommodation(String accommodationId) throws Exception {
-        if (accommodationRepository.findById(accommodationId).isEmpty()) {
+        Optional<Accommodation> accommodation = accommodationRepository.findById(accommodationId);
+        if (accommodation.isEmpty()) {
             throw new NotFoundException("El alojamiento con ID '" + accommodationId + "' no fue encontrado.");
         }
 
-        return favoriteRepository.countByAccommodationId(accommodationId);
+        // Se lee el contador desnormalizado en lugar de contar las filas de favorite
+        return accommodation.get().getFavoriteCount().longValue();
+    }
+
+    // Se descarta la entrada del usuario después del commit y la próxima lectura la carga
+    // completa. No basta con aplicar el cambio a la entrada: una carga que leyó la base de
+    // datos antes del commit la guardaría después sin el cambio. invalidate espera a que
+    // termine una carga en curso de esa clave, así que también descarta ese conjunto viejo
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoriteChanged(FavoriteChangedEvent event) {
+        favoriteIdsCache.invalidate(event.userId());
+    }
+
+    // Conjunto inmutable de IDs; se carga con una consulta que solo lee la columna accommodation_id.
+    // Devuelve null si el usuario no existe: Caffeine no guarda los null, así que un ID
+    // inexistente no ocupa la caché con un conjunto vacío
+    private Set<String> favoriteIdsOf(String userId) {
+        return favoriteIdsCache.get(userId, id -> {
+            List<String> ids = favoriteRepository.findAccommodationIdsByUserId(id);
+            if (ids.isEmpty() && !existenceService.userExists(id)) {
+                return null;
+            }
+            return Set.copyOf(ids);
+        });
     }
-}
\ No newline at end of file
+}
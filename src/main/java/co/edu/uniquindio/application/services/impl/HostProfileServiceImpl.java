@@ -13,6 +13,7 @@ import co.edu.uniquindio.application.repositories.UserRepository;
 import co.edu.uniquindio.application.services.HostProfileService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -48,6 +49,7 @@ public class HostProfileServiceImpl implements HostProfileService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public HostProfileDTO get(String id) throws Exception {
         Optional<HostProfile> hostProfileOptional = hostProfileRepository.findById(id);
 
@@ -59,6 +61,7 @@ public class HostProfileServiceImpl implements HostProfileService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public HostProfileDTO getByUser(String userId) throws Exception {
         Optional<HostProfile> hostProfileOptional = hostProfileRepository.findByUserId(userId);
 
@@ -81,6 +84,7 @@ public class HostProfileServiceImpl implements HostProfileService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<HostProfileDTO> listAll() {
         return hostProfileRepository.findAll()
                 .stream()
@@ -115,6 +119,7 @@ public class HostProfileServiceImpl implements HostProfileService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public HostProfileDTO getHostInfo(String userId) throws Exception {
         // Validar que el usuario existe
         if (userRepository.findById(userId).isEmpty()) {
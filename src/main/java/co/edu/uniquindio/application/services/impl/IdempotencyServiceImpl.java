@@ -0,0 +1,88 @@
+package co.edu.uniquindio.application.services.impl;
+
+import co.edu.uniquindio.application.exceptions.ValueConflictException;
+import co.edu.uniquindio.application.models.entitys.IdempotencyRecord;
+import co.edu.uniquindio.application.models.enums.IdempotencyStatus;
+import co.edu.uniquindio.application.repositories.IdempotencyRecordRepository;
+import co.edu.uniquindio.application.services.IdempotencyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Value("${idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Override
+    public Optional<IdempotencyRecord> reserve(String key, String requestHash) throws Exception {
+        Optional<IdempotencyRecord> existing = idempotencyRecordRepository.findById(key);
+
+        if (existing.isPresent()) {
+            IdempotencyRecord record = existing.get();
+
+            if (record.getExpiresAt().isBefore(LocalDateTime.now())) {
+                idempotencyRecordRepository.delete(record);
+            } else {
+                if (!record.getRequestHash().equals(requestHash)) {
+                    throw new ValueConflictException("La clave de idempotencia ya se usó con una petición diferente.");
+                }
+                if (record.getStatus() == IdempotencyStatus.IN_PROGRESS) {
+                    throw new ValueConflictException("La petición original con esta clave aún se está procesando.");
+                }
+                return existing;
+            }
+        }
+
+        // La llave primaria garantiza que solo una de dos peticiones simultáneas gane
+        try {
+            idempotencyRecordRepository.saveAndFlush(IdempotencyRecord.builder()
+                    .id(key)
+                    .requestHash(requestHash)
+                    .status(IdempotencyStatus.IN_PROGRESS)
+                    .expiresAt(LocalDateTime.now().plusHours(ttlHours))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            throw new ValueConflictException("La petición original con esta clave aún se está procesando.");
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void complete(String key, int responseStatus, String contentType, String responseBody) {
+        idempotencyRecordRepository.findById(key).ifPresent(record -> {
+            record.setStatus(IdempotencyStatus.COMPLETED);
+            record.setResponseStatus(responseStatus);
+            record.setContentType(contentType);
+            record.setResponseBody(responseBody);
+            idempotencyRecordRepository.save(record);
+        });
+    }
+
+    @Override
+    public void release(String key) {
+        idempotencyRecordRepository.deleteById(key);
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "0 30 * * * *") // Ejecutar cada hora
+    public void cleanupExpired() {
+        int deleted = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Claves de idempotencia expiradas eliminadas: {}", deleted);
+        }
+    }
+}
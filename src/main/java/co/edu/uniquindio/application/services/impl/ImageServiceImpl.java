@@ -1,42 +1,85 @@
 package co.edu.uniquindio.application.services.impl;
 
+import co.edu.uniquindio.application.dto.ImageVariantsDTO;
+import co.edu.uniquindio.application.exceptions.InvalidOperationException;
 import co.edu.uniquindio.application.services.ImageService;
 import com.cloudinary.Cloudinary;
+import com.cloudinary.EagerTransformation;
+import com.cloudinary.Transformation;
 import com.cloudinary.utils.ObjectUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 @Service
+@ConditionalOnProperty(name = "images.storage", havingValue = "cloudinary", matchIfMissing = true)
 public class ImageServiceImpl implements ImageService {
 
+    // Cloudinary exige fragmentos de al menos 5 MB en las subidas por partes
+    private static final int UPLOAD_CHUNK_SIZE = 6 * 1024 * 1024;
+
+    // Transformaciones de las variantes: miniatura, tarjeta de listado y ancho completo
+    private static final String THUMBNAIL = "w_160,h_120,c_fill,q_auto";
+    private static final String CARD = "w_480,h_360,c_fill,q_auto";
+    private static final String FULL = "w_1600,c_limit,q_auto";
+
     private final Cloudinary cloudinary;
+    private final Semaphore uploadPermits;
 
     @Value("${cloudinary.folder}")
     private String cloudinaryFolder;
 
+    @Value("${cloudinary.max-file-size:10485760}")
+    private long maxFileSize;
+
+    @Value("${cloudinary.upload-wait-seconds:10}")
+    private long uploadWaitSeconds;
+
     public ImageServiceImpl(
             @Value("${cloudinary.cloud-name}") String cloudName,
             @Value("${cloudinary.api-key}") String apiKey,
-            @Value("${cloudinary.api-secret}") String apiSecret) {
+            @Value("${cloudinary.api-secret}") String apiSecret,
+            @Value("${cloudinary.max-concurrent-uploads:8}") int maxConcurrentUploads) {
         Map<String, String> config = new HashMap<>();
         config.put("cloud_name", cloudName);
         config.put("api_key", apiKey);
         config.put("api_secret", apiSecret);
         cloudinary = new Cloudinary(config);
+        uploadPermits = new Semaphore(maxConcurrentUploads, true);
     }
 
     @Override
     public Map upload(MultipartFile image) throws Exception {
-        File file = convert(image);
+        if (image == null || image.isEmpty()) {
+            throw new InvalidOperationException("La imagen está vacía.");
+        }
+
+        if (image.getSize() > maxFileSize) {
+            throw new InvalidOperationException("La imagen supera el tamaño máximo permitido (" + maxFileSize + " bytes).");
+        }
 
-        return cloudinary.uploader().upload(file,
-                ObjectUtils.asMap("folder", cloudinaryFolder));
+        // Limitar las subidas simultáneas: cada una retiene un buffer de UPLOAD_CHUNK_SIZE
+        if (!uploadPermits.tryAcquire(uploadWaitSeconds, TimeUnit.SECONDS)) {
+            throw new InvalidOperationException("Hay demasiadas subidas de imágenes en curso. Intenta de nuevo.");
+        }
+
+        // Se envía directamente desde el stream del multipart, sin copiar a heap ni a /tmp
+        try (InputStream input = new SizeLimitedInputStream(image.getInputStream(), maxFileSize)) {
+            return cloudinary.uploader().uploadLarge(input,
+                    ObjectUtils.asMap("folder", cloudinaryFolder, "resource_type", "image"),
+                    UPLOAD_CHUNK_SIZE);
+        } finally {
+            uploadPermits.release();
+        }
     }
 
     @Override
@@ -44,11 +87,83 @@ public class ImageServiceImpl implements ImageService {
         return cloudinary.uploader().destroy(imageId, ObjectUtils.emptyMap());
     }
 
-    private File convert(MultipartFile image) throws IOException {
-        File file = File.createTempFile(image.getOriginalFilename(), null);
-        FileOutputStream fos = new FileOutputStream(file);
-        fos.write(image.getBytes());
-        fos.close();
-        return file;
+    @Override
+    public ImageVariantsDTO createVariants(String imageId) throws Exception {
+        // Pre-generar las derivadas en segundo plano en Cloudinary para que la primera
+        // petición de un listado no pague la transformación
+        List<EagerTransformation> eager = List.of(
+                eager(THUMBNAIL, "jpg"), eager(THUMBNAIL, "webp"),
+                eager(CARD, "jpg"), eager(CARD, "webp"),
+                eager(FULL, "jpg"), eager(FULL, "webp")
+        );
+        cloudinary.uploader().explicit(imageId, ObjectUtils.asMap(
+                "type", "upload",
+                "eager", eager,
+                "eager_async", true
+        ));
+
+        return new ImageVariantsDTO(
+                variantUrl(imageId, THUMBNAIL, "jpg"),
+                variantUrl(imageId, THUMBNAIL, "webp"),
+                variantUrl(imageId, CARD, "jpg"),
+                variantUrl(imageId, CARD, "webp"),
+                variantUrl(imageId, FULL, "jpg"),
+                variantUrl(imageId, FULL, "webp")
+        );
+    }
+
+    private EagerTransformation eager(String transformation, String format) {
+        EagerTransformation eager = new EagerTransformation();
+        eager.rawTransformation(transformation);
+        eager.format(format);
+        return eager;
+    }
+
+    private String variantUrl(String imageId, String transformation, String format) {
+        return cloudinary.url()
+                .secure(true)
+                .transformation(new Transformation().rawTransformation(transformation))
+                .format(format)
+                .generate(imageId);
+    }
+
+    /**
+     * Corta la lectura en cuanto se superan maxBytes, aunque el tamaño
+     * declarado por el cliente en el multipart sea menor.
+     */
+    private static class SizeLimitedInputStream extends FilterInputStream {
+
+        private final long maxBytes;
+        private long bytesRead;
+
+        SizeLimitedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value != -1) {
+                count(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        private void count(long read) throws IOException {
+            bytesRead += read;
+            if (bytesRead > maxBytes) {
+                throw new IOException("La imagen supera el tamaño máximo permitido (" + maxBytes + " bytes).");
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,258 @@
+package co.edu.uniquindio.application.services.impl;
+
+import co.edu.uniquindio.application.dto.ImageVariantsDTO;
+import co.edu.uniquindio.application.exceptions.InvalidOperationException;
+import co.edu.uniquindio.application.exceptions.NotFoundException;
+import co.edu.uniquindio.application.services.ImageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Almacenamiento de imágenes en disco, direccionado por contenido.
+ * El nombre de cada archivo es el SHA-256 de sus bytes, así que subir dos veces
+ * la misma foto no la guarda dos veces y las URLs nunca cambian de contenido,
+ * lo que permite servirlas con caché inmutable (ver ImageStorageConfig).
+ * Sirve para pruebas, instalaciones on-premise o un bucket S3 montado como disco.
+ */
+@Service
+@ConditionalOnProperty(name = "images.storage", havingValue = "local")
+public class LocalImageServiceImpl implements ImageService {
+
+    private static final String STAGING_DIR = ".staging";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // Bytes iniciales necesarios para reconocer el formato (RIFF....WEBP)
+    private static final int HEADER_SIZE = 12;
+
+    private final Path rootDirectory;
+    private final String baseUrl;
+    private final long maxFileSize;
+
+    public LocalImageServiceImpl(
+            @Value("${images.local.directory:./uploads/images}") String directory,
+            @Value("${images.local.base-url:http://localhost:8080/images}") String baseUrl,
+            @Value("${images.max-file-size:10485760}") long maxFileSize) throws IOException {
+        this.rootDirectory = Path.of(directory).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.maxFileSize = maxFileSize;
+        Files.createDirectories(rootDirectory.resolve(STAGING_DIR));
+    }
+
+    @Override
+    public Map upload(MultipartFile image) throws Exception {
+        if (image == null || image.isEmpty()) {
+            throw new InvalidOperationException("La imagen está vacía.");
+        }
+
+        if (image.getSize() > maxFileSize) {
+            throw new InvalidOperationException("La imagen supera el tamaño máximo permitido (" + maxFileSize + " bytes).");
+        }
+
+        // Se calcula el hash mientras se copia; el archivo de staging vive en el mismo
+        // disco que el destino para que el enlace final sea atómico
+        Path staging = rootDirectory.resolve(STAGING_DIR).resolve(UUID.randomUUID() + ".part");
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        byte[] header = new byte[HEADER_SIZE];
+        int headerLength = 0;
+        long size = 0;
+
+        try {
+            try (InputStream input = image.getInputStream();
+                 OutputStream output = Files.newOutputStream(staging)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxFileSize) {
+                        throw new InvalidOperationException("La imagen supera el tamaño máximo permitido (" + maxFileSize + " bytes).");
+                    }
+                    if (headerLength < HEADER_SIZE) {
+                        int copied = Math.min(read, HEADER_SIZE - headerLength);
+                        System.arraycopy(buffer, 0, header, headerLength, copied);
+                        headerLength += copied;
+                    }
+                    digest.update(buffer, 0, read);
+                    output.write(buffer, 0, read);
+                }
+            }
+
+            // La clave depende solo del contenido: la extensión se deduce de los bytes y
+            // no del nombre del archivo, así .jpg y .jpeg (o un nombre equivocado) coinciden
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String publicId = hash.substring(0, 2) + "/" + hash + "." + extension(header, headerLength);
+            Path target = resolve(publicId);
+            Files.createDirectories(target.getParent());
+            boolean existing = !store(staging, target);
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("public_id", publicId);
+            result.put("url", baseUrl + "/" + publicId);
+            result.put("secure_url", baseUrl + "/" + publicId);
+            result.put("bytes", size);
+            result.put("existing", existing);
+            return result;
+        } finally {
+            Files.deleteIfExists(staging);
+        }
+    }
+
+    @Override
+    public Map delete(String imageId) throws Exception {
+        Path target = resolve(imageId);
+        if (!Files.deleteIfExists(target)) {
+            throw new NotFoundException("Imagen no encontrada");
+        }
+
+        for (String variant : new String[]{"thumbnail", "card", "full"}) {
+            Files.deleteIfExists(variantPath(imageId, variant));
+        }
+        return Map.of("result", "ok");
+    }
+
+    @Override
+    public ImageVariantsDTO createVariants(String imageId) throws Exception {
+        BufferedImage original = ImageIO.read(resolve(imageId).toFile());
+        if (original == null) {
+            throw new InvalidOperationException("El archivo no es una imagen que se pueda procesar.");
+        }
+
+        // ImageIO no codifica WebP: las variantes WebP apuntan a la versión JPEG
+        String thumbnail = writeVariant(imageId, "thumbnail", fill(original, 160, 120));
+        String card = writeVariant(imageId, "card", fill(original, 480, 360));
+        String full = writeVariant(imageId, "full", limitWidth(original, 1600));
+        return new ImageVariantsDTO(thumbnail, thumbnail, card, card, full, full);
+    }
+
+    private String writeVariant(String imageId, String variant, BufferedImage image) throws IOException {
+        Path target = variantPath(imageId, variant);
+        // El nombre deriva del hash del original, así que una variante existente es válida
+        if (!Files.exists(target)) {
+            Path staging = rootDirectory.resolve(STAGING_DIR).resolve(UUID.randomUUID() + ".part");
+            try {
+                ImageIO.write(image, "jpg", staging.toFile());
+                Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(staging);
+            }
+        }
+        return baseUrl + "/" + rootDirectory.relativize(target).toString().replace('\\', '/');
+    }
+
+    private Path variantPath(String imageId, String variant) throws InvalidOperationException {
+        Path original = resolve(imageId);
+        String name = original.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return original.resolveSibling(base + "-" + variant + ".jpg");
+    }
+
+    // Recorta al centro para llenar exactamente width x height (equivale a c_fill)
+    private BufferedImage fill(BufferedImage source, int width, int height) {
+        double scale = Math.max((double) width / source.getWidth(), (double) height / source.getHeight());
+        int scaledWidth = (int) Math.ceil(source.getWidth() * scale);
+        int scaledHeight = (int) Math.ceil(source.getHeight() * scale);
+        return draw(source, width, height, (width - scaledWidth) / 2, (height - scaledHeight) / 2,
+                scaledWidth, scaledHeight);
+    }
+
+    // Reduce solo si la imagen es más ancha que maxWidth (equivale a c_limit)
+    private BufferedImage limitWidth(BufferedImage source, int maxWidth) {
+        if (source.getWidth() <= maxWidth) {
+            return draw(source, source.getWidth(), source.getHeight(), 0, 0, source.getWidth(), source.getHeight());
+        }
+        int height = (int) Math.round(source.getHeight() * ((double) maxWidth / source.getWidth()));
+        return draw(source, maxWidth, height, 0, 0, maxWidth, height);
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height, int x, int y,
+                               int drawWidth, int drawHeight) {
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = result.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(source, x, y, drawWidth, drawHeight, null);
+        graphics.dispose();
+        return result;
+    }
+
+    // Evita que un public_id manipulado salga del directorio de imágenes
+    private Path resolve(String publicId) throws InvalidOperationException {
+        if (publicId == null || publicId.isBlank()) {
+            throw new InvalidOperationException("El identificador de la imagen es obligatorio.");
+        }
+        Path target = rootDirectory.resolve(publicId).normalize();
+        if (!target.startsWith(rootDirectory) || target.startsWith(rootDirectory.resolve(STAGING_DIR))) {
+            throw new InvalidOperationException("Identificador de imagen inválido.");
+        }
+        return target;
+    }
+
+    /**
+     * Publica el archivo de staging en target solo si aún no existe. El enlace duro
+     * falla de forma atómica si otra subida del mismo contenido ganó la carrera, así
+     * que solo una petición reporta la imagen como creada por ella.
+     * Devuelve false si el contenido ya estaba guardado.
+     */
+    private boolean store(Path staging, Path target) throws IOException {
+        try {
+            Files.createLink(target, staging);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return false;
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            // Sistemas de archivos sin enlaces duros (p. ej. algunos buckets montados)
+            if (Files.exists(target)) {
+                return false;
+            }
+            Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        }
+    }
+
+    // Formato según la firma del archivo; el nombre que envía el cliente no se usa
+    private static String extension(byte[] header, int length) {
+        if (startsWith(header, length, 0, 0xFF, 0xD8, 0xFF)) {
+            return "jpg";
+        }
+        if (startsWith(header, length, 0, 0x89, 'P', 'N', 'G')) {
+            return "png";
+        }
+        if (startsWith(header, length, 0, 'G', 'I', 'F', '8')) {
+            return "gif";
+        }
+        if (startsWith(header, length, 0, 'R', 'I', 'F', 'F') && startsWith(header, length, 8, 'W', 'E', 'B', 'P')) {
+            return "webp";
+        }
+        return "img";
+    }
+
+    private static boolean startsWith(byte[] header, int length, int offset, int... signature) {
+        if (length < offset + signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((header[offset + i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -14,10 +14,11 @@ import co.edu.uniquindio.application.repositories.UserRepository;
 import co.edu.uniquindio.application.services.MessageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -28,7 +29,10 @@ public class MessageServiceImpl implements MessageService {
     private final ChatRepository chatRepository;
     private final UserRepository userRepository;
 
+    // También se invoca desde el WebSocket, donde no hay sesión abierta en la vista:
+    // los participantes del chat se recorren dentro de la transacción
     @Override
+    @Transactional
     public void create(CreateMessageDTO messageDTO) throws Exception {
         // Validar que el chat existe
         Optional<Chat> chat = chatRepository.findById(messageDTO.chatId());
@@ -74,6 +78,7 @@ public class MessageServiceImpl implements MessageService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public MessageDTO get(String id) throws Exception {
         Optional<Message> messageOptional = messageRepository.findById(id);
 
@@ -97,10 +102,12 @@ public class MessageServiceImpl implements MessageService {
 
     @Override
     public List<MessageDTO> listAll() {
-        return messageRepository.findAll()
-                .stream()
-                .map(messageMapper::toMessageDTO)
-                .collect(Collectors.toList());
+        return messageRepository.findAllMessageDTOs();
+    }
+
+    @Override
+    public Stream<MessageDTO> streamAll() {
+        return messageRepository.streamAllMessageDTOs();
     }
 
     @Override
@@ -110,10 +117,7 @@ public class MessageServiceImpl implements MessageService {
             throw new NotFoundException("El chat con ID '" + chatId + "' no fue encontrado.");
         }
 
-        return messageRepository.findByChatId(chatId)
-                .stream()
-                .map(messageMapper::toMessageDTO)
-                .collect(Collectors.toList());
+        return messageRepository.findMessageDTOsByChatId(chatId);
     }
 
     @Override
@@ -123,10 +127,7 @@ public class MessageServiceImpl implements MessageService {
             throw new NotFoundException("El chat con ID '" + chatId + "' no fue encontrado.");
         }
 
-        return messageRepository.findByChatIdOrderByDate(chatId)
-                .stream()
-                .map(messageMapper::toMessageDTO)
-                .collect(Collectors.toList());
+        return messageRepository.findMessageDTOsByChatIdOrderByDate(chatId);
     }
 
     @Override
@@ -136,10 +137,7 @@ public class MessageServiceImpl implements MessageService {
             throw new NotFoundException("El usuario con ID '" + userId + "' no fue encontrado.");
         }
 
-        return messageRepository.findByRecipientIdAndIsReadFalse(userId)
-                .stream()
-                .map(messageMapper::toMessageDTO)
-                .collect(Collectors.toList());
+        return messageRepository.findUnreadMessageDTOsByRecipientId(userId);
     }
 
     @Override
@@ -149,10 +147,7 @@ public class MessageServiceImpl implements MessageService {
             throw new NotFoundException("El chat con ID '" + chatId + "' no fue encontrado.");
         }
 
-        return messageRepository.findUnreadMessagesByChat(chatId)
-                .stream()
-                .map(messageMapper::toMessageDTO)
-                .collect(Collectors.toList());
+        return messageRepository.findUnreadMessageDTOsByChat(chatId);
     }
 
     @Override
@@ -171,13 +166,11 @@ public class MessageServiceImpl implements MessageService {
             throw new NotFoundException("El usuario con ID '" + userId2 + "' no fue encontrado.");
         }
 
-        return messageRepository.findMessagesBetweenUsersInChat(chatId, userId1, userId2)
-                .stream()
-                .map(messageMapper::toMessageDTO)
-                .collect(Collectors.toList());
+        return messageRepository.findMessageDTOsBetweenUsersInChat(chatId, userId1, userId2);
     }
 
     @Override
+    @Transactional
     public void markAsRead(String messageId) throws Exception {
         Optional<Message> messageOptional = messageRepository.findById(messageId);
 
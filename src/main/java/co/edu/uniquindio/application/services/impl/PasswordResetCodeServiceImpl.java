@@ -11,6 +11,7 @@ import co.edu.uniquindio.application.repositories.PasswordResetCodeRepository;
 import co.edu.uniquindio.application.repositories.UserRepository;
 import co.edu.uniquindio.application.services.EmailService;
 import co.edu.uniquindio.application.services.PasswordResetCodeService;
+import co.edu.uniquindio.application.utils.UuidV7;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -21,7 +22,6 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -55,7 +55,7 @@ public class PasswordResetCodeServiceImpl implements PasswordResetCodeService {
 
         // Crear el registro del código
         PasswordResetCode resetCode = PasswordResetCode.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UuidV7.generate())
                 .code(code)
                 .user(user)
                 .createdAt(LocalDateTime.now())
@@ -2,20 +2,44 @@ package co.edu.uniquindio.application.services.impl;
 
 import co.edu.uniquindio.application.dto.create.CreatePaymentDTO;
 import co.edu.uniquindio.application.dto.PaymentDTO;
+import co.edu.uniquindio.application.dto.RevenueReportDTO;
+import co.edu.uniquindio.application.dto.RevenueRowDTO;
+import co.edu.uniquindio.application.events.PaymentStatusChangedEvent;
+import co.edu.uniquindio.application.events.ReservationStatusChangedEvent;
 import co.edu.uniquindio.application.exceptions.InvalidOperationException;
 import co.edu.uniquindio.application.exceptions.NotFoundException;
 import co.edu.uniquindio.application.mappers.PaymentMapper;
 import co.edu.uniquindio.application.models.entitys.Payment;
 import co.edu.uniquindio.application.models.entitys.Reservation;
 import co.edu.uniquindio.application.models.enums.PaymentStatus;
+import co.edu.uniquindio.application.models.enums.ReservationStatus;
+import co.edu.uniquindio.application.models.enums.RevenueGrouping;
 import co.edu.uniquindio.application.repositories.PaymentRepository;
 import co.edu.uniquindio.application.repositories.ReservationRepository;
+import co.edu.uniquindio.application.repositories.RevenueView;
 import co.edu.uniquindio.application.services.PaymentService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,6 +49,25 @@ public class PaymentServiceImpl implements PaymentService {
     private final PaymentRepository paymentRepository;
     private final PaymentMapper paymentMapper;
     private final ReservationRepository reservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Máximo de días que abarca un reporte de ingresos
+    private static final long MAX_REPORT_DAYS = 366;
+
+    // Días cerrados en caché: cubre las tres dimensiones durante unos tres años de reportes
+    private static final long MAX_CACHED_REVENUE_DAYS = 3_500;
+
+    @Value("${payments.revenue-cache-ttl-minutes:60}")
+    private long revenueCacheTtlMinutes;
+
+    // Agregados por día ya consultados; los días cerrados solo cambian si cambia
+    // el estado de un pago de ese día, y en ese caso se invalida solo ese día.
+    // El TTL se lee al insertar cada entrada porque el campo se inyecta después de construir el servicio
+    private final Cache<RevenueCacheKey, List<RevenueBucket>> revenueCache = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_REVENUE_DAYS)
+            .expireAfter(Expiry.<RevenueCacheKey, List<RevenueBucket>>creating(
+                    (key, buckets) -> Duration.ofMinutes(revenueCacheTtlMinutes)))
+            .build();
 
     @Override
     public void create(CreatePaymentDTO paymentDTO) throws Exception {
@@ -35,7 +78,7 @@ public class PaymentServiceImpl implements PaymentService {
         }
 
         // Validar que el monto coincida con el precio total de la reserva
-        if (!paymentDTO.amount().equals(reservation.get().getTotalPrice())) {
+        if (paymentDTO.amount().compareTo(BigDecimal.valueOf(reservation.get().getTotalPrice())) != 0) {
             throw new InvalidOperationException("El monto (" + paymentDTO.amount() +
                     ") no coincide con el precio total de la reserva (" + reservation.get().getTotalPrice() + ").");
         }
@@ -93,6 +136,7 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     @Override
+    @Transactional
     public void processPayment(String paymentId) throws Exception {
         Optional<Payment> paymentOptional = paymentRepository.findById(paymentId);
 
@@ -106,12 +150,14 @@ public class PaymentServiceImpl implements PaymentService {
             throw new InvalidOperationException("Solo se pueden procesar pagos en estado PENDING.");
         }
 
+        requireReservationAccepts(payment, ReservationStatus.CONFIRMED);
+
         // Simular procesamiento de pago (en producción, integrar con proveedor de pagos)
-        payment.setStatus(PaymentStatus.COMPLETED);
-        paymentRepository.save(payment);
+        changeStatus(payment, PaymentStatus.COMPLETED);
     }
 
     @Override
+    @Transactional
     public void completePayment(String paymentId) throws Exception {
         Optional<Payment> paymentOptional = paymentRepository.findById(paymentId);
 
@@ -129,11 +175,16 @@ public class PaymentServiceImpl implements PaymentService {
             throw new InvalidOperationException("No se puede completar un pago reembolsado.");
         }
 
-        payment.setStatus(PaymentStatus.COMPLETED);
-        paymentRepository.save(payment);
+        if (payment.getStatus() == PaymentStatus.FAILED) {
+            throw new InvalidOperationException("No se puede completar un pago fallido.");
+        }
+
+        requireReservationAccepts(payment, ReservationStatus.CONFIRMED);
+        changeStatus(payment, PaymentStatus.COMPLETED);
     }
 
     @Override
+    @Transactional
     public void failPayment(String paymentId, String reason) throws Exception {
         Optional<Payment> paymentOptional = paymentRepository.findById(paymentId);
 
@@ -147,14 +198,14 @@ public class PaymentServiceImpl implements PaymentService {
             throw new InvalidOperationException("Solo se pueden fallar pagos en estado PENDING.");
         }
 
-        payment.setStatus(PaymentStatus.FAILED);
         if (reason != null && !reason.isEmpty()) {
             payment.setTransactionReference(reason);
         }
-        paymentRepository.save(payment);
+        changeStatus(payment, PaymentStatus.FAILED);
     }
 
     @Override
+    @Transactional
     public void refundPayment(String paymentId) throws Exception {
         Optional<Payment> paymentOptional = paymentRepository.findById(paymentId);
 
@@ -168,18 +219,190 @@ public class PaymentServiceImpl implements PaymentService {
             throw new InvalidOperationException("Solo se pueden reembolsar pagos completados.");
         }
 
-        payment.setStatus(PaymentStatus.REFUNDED);
-        paymentRepository.save(payment);
+        requireReservationAccepts(payment, ReservationStatus.CANCELLED);
+        changeStatus(payment, PaymentStatus.REFUNDED);
     }
 
     @Override
-    public Double getTotalCompletedPayments() {
-        return paymentRepository.findCompletedPayments()
-                .stream()
-                .mapToDouble(Payment::getAmount)
-                .sum();
+    public BigDecimal getTotalCompletedPayments() {
+        return paymentRepository.sumAmountByStatus(PaymentStatus.COMPLETED);
     }
 
+    @Override
+    public RevenueReportDTO getRevenueReport(RevenueGrouping groupBy, PaymentStatus status,
+                                             LocalDate from, LocalDate to) throws Exception {
+        if (groupBy == null || from == null || to == null || to.isBefore(from)) {
+            throw new InvalidOperationException("El rango de fechas del reporte no es válido.");
+        }
+
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_REPORT_DAYS) {
+            throw new InvalidOperationException("El reporte no puede abarcar más de " + MAX_REPORT_DAYS + " días.");
+        }
+
+        RevenueDimension dimension = switch (groupBy) {
+            case STATUS, DAY, MONTH -> RevenueDimension.STATUS;
+            case PAYMENT_METHOD -> RevenueDimension.PAYMENT_METHOD;
+            case HOST -> RevenueDimension.HOST;
+        };
+
+        // Agrupar las filas diarias según lo pedido; BigDecimal mantiene los centavos exactos
+        Map<String, RevenueRowDTO> grouped = new TreeMap<>();
+        long count = 0;
+        BigDecimal total = BigDecimal.ZERO;
+
+        for (RevenueBucket bucket : loadRevenueBuckets(dimension, from, to)) {
+            if (status != null && bucket.status() != status) {
+                continue;
+            }
+
+            String key = switch (groupBy) {
+                case DAY -> bucket.day().toString();
+                case MONTH -> YearMonth.from(bucket.day()).toString();
+                default -> bucket.key();
+            };
+            grouped.merge(key, new RevenueRowDTO(key, bucket.count(), bucket.total()),
+                    (a, b) -> new RevenueRowDTO(key, a.count() + b.count(), a.total().add(b.total())));
+            count += bucket.count();
+            total = total.add(bucket.total());
+        }
+
+        return new RevenueReportDTO(groupBy, status, from, to, count, total, new ArrayList<>(grouped.values()));
+    }
+
+    /**
+     * Devuelve los agregados diarios de [from, to]. Los días anteriores a hoy se
+     * toman de la caché y solo se consulta en SQL el tramo de días que falta
+     * (siempre incluye el día actual, que nunca se guarda en caché).
+     *
+     * "Hoy" es la fecha de la base de datos y no la de la JVM: DATE(created_at)
+     * agrupa en la zona horaria de la sesión de MariaDB, y si las dos zonas no
+     * coinciden el día en curso se guardaría en caché como si estuviera cerrado.
+     */
+    private List<RevenueBucket> loadRevenueBuckets(RevenueDimension dimension, LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.parse(paymentRepository.currentDatabaseDate());
+        Map<LocalDate, List<RevenueBucket>> byDay = new TreeMap<>();
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            List<RevenueBucket> cached = day.isBefore(today)
+                    ? revenueCache.getIfPresent(new RevenueCacheKey(dimension, day)) : null;
+            if (cached != null) {
+                byDay.put(day, cached);
+            } else {
+                if (firstMissing == null) {
+                    firstMissing = day;
+                }
+                lastMissing = day;
+            }
+        }
+
+        if (firstMissing != null) {
+            LocalDateTime start = firstMissing.atStartOfDay();
+            LocalDateTime end = lastMissing.plusDays(1).atStartOfDay();
+            List<RevenueView> rows = switch (dimension) {
+                case STATUS -> paymentRepository.sumRevenueByDayAndStatus(start, end);
+                case PAYMENT_METHOD -> paymentRepository.sumRevenueByDayAndMethod(start, end);
+                case HOST -> paymentRepository.sumRevenueByDayAndHost(start, end);
+            };
+
+            Map<LocalDate, List<RevenueBucket>> fresh = rows.stream()
+                    .map(row -> new RevenueBucket(
+                            LocalDate.parse(row.getDay()),
+                            PaymentStatus.valueOf(row.getStatus()),
+                            row.getGroupKey(),
+                            row.getPaymentCount(),
+                            row.getTotal()))
+                    .collect(Collectors.groupingBy(RevenueBucket::day));
+
+            for (LocalDate day = firstMissing; !day.isAfter(lastMissing); day = day.plusDays(1)) {
+                List<RevenueBucket> buckets = fresh.getOrDefault(day, List.of());
+                byDay.put(day, buckets);
+                if (day.isBefore(today)) {
+                    revenueCache.put(new RevenueCacheKey(dimension, day), buckets);
+                }
+            }
+        }
+
+        return byDay.values().stream().flatMap(List::stream).collect(Collectors.toList());
+    }
+
+    /**
+     * Aplica una transición de la máquina de estados del pago y la publica.
+     * La reserva asociada se actualiza en la misma transacción (ReservationServiceImpl).
+     */
+    private void changeStatus(Payment payment, PaymentStatus newStatus) throws InvalidOperationException {
+        PaymentStatus previousStatus = payment.getStatus();
+        if (!previousStatus.canTransitionTo(newStatus)) {
+            throw new InvalidOperationException("No se puede pasar un pago de " + previousStatus + " a " + newStatus + ".");
+        }
+
+        payment.setStatus(newStatus);
+        paymentRepository.save(payment);
+        eventPublisher.publishEvent(new PaymentStatusChangedEvent(
+                payment.getId(),
+                payment.getReservation() != null ? payment.getReservation().getId() : null,
+                previousStatus,
+                newStatus,
+                payment.getCreatedAt()));
+    }
+
+    /**
+     * Completar un pago confirma su reserva y reembolsarlo la cancela. Se rechaza el
+     * cambio si la reserva no está ya en ese estado ni puede pasar a él, por ejemplo
+     * al completar el pago de una reserva cancelada.
+     */
+    private void requireReservationAccepts(Payment payment, ReservationStatus target) throws InvalidOperationException {
+        Reservation reservation = payment.getReservation();
+        if (reservation == null || reservation.getStatus() == target) {
+            return;
+        }
+        if (!reservation.getStatus().canTransitionTo(target)) {
+            throw new InvalidOperationException("La reserva del pago está en estado " + reservation.getStatus()
+                    + " y no puede pasar a " + target + ".");
+        }
+    }
+
+    // Cancelar una reserva anula su pago: el pendiente falla y el completado se reembolsa
+    @EventListener
+    public void onReservationStatusChanged(ReservationStatusChangedEvent event) throws Exception {
+        if (event.newStatus() != ReservationStatus.CANCELLED) {
+            return;
+        }
+
+        Optional<Payment> paymentOptional = paymentRepository.findByReservationId(event.reservationId());
+        if (paymentOptional.isEmpty()) {
+            return;
+        }
+
+        Payment payment = paymentOptional.get();
+        if (payment.getStatus() == PaymentStatus.PENDING) {
+            payment.setTransactionReference("Reserva cancelada");
+            changeStatus(payment, PaymentStatus.FAILED);
+        } else if (payment.getStatus() == PaymentStatus.COMPLETED) {
+            changeStatus(payment, PaymentStatus.REFUNDED);
+        }
+    }
+
+    // Un cambio de estado solo afecta a los agregados del día en que se creó el pago.
+    // Se invalida después del commit para que un reporte concurrente no cachee datos viejos
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentStatusChanged(PaymentStatusChangedEvent event) {
+        if (event.paymentCreatedAt() == null) {
+            return;
+        }
+        LocalDate day = event.paymentCreatedAt().toLocalDate();
+        for (RevenueDimension dimension : RevenueDimension.values()) {
+            revenueCache.invalidate(new RevenueCacheKey(dimension, day));
+        }
+    }
+
+    private enum RevenueDimension { STATUS, PAYMENT_METHOD, HOST }
+
+    private record RevenueCacheKey(RevenueDimension dimension, LocalDate day) { }
+
+    private record RevenueBucket(LocalDate day, PaymentStatus status, String key, long count, BigDecimal total) { }
+
     @Override
     public Long countByStatus(PaymentStatus status) {
         return paymentRepository.countByStatus(status);
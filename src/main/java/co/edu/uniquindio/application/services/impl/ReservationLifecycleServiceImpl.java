@@ -0,0 +1,171 @@
+package co.edu.uniquindio.application.services.impl;
+
+import co.edu.uniquindio.application.events.PaymentStatusChangedEvent;
+import co.edu.uniquindio.application.events.ReservationBatchStatusChangedEvent;
+import co.edu.uniquindio.application.models.entitys.JobCheckpoint;
+import co.edu.uniquindio.application.models.enums.PaymentStatus;
+import co.edu.uniquindio.application.models.enums.ReservationStatus;
+import co.edu.uniquindio.application.repositories.ExpiringPaymentView;
+import co.edu.uniquindio.application.repositories.JobCheckpointRepository;
+import co.edu.uniquindio.application.repositories.PaymentRepository;
+import co.edu.uniquindio.application.repositories.ReservationRepository;
+import co.edu.uniquindio.application.services.ReservationLifecycleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Mueve las reservas por su ciclo de vida sin cargarlas como entidades:
+ * cada lote se elige por keyset (id > último id) y se actualiza con un UPDATE
+ * por rango que repite las condiciones de fecha, así que volver a ejecutarlo
+ * no cambia nada (idempotente). El avance se guarda en job_checkpoint dentro de
+ * la misma transacción del lote para poder reanudar una corrida interrumpida.
+ *
+ * Los UPDATE no pasan por changeStatus de los servicios, así que cada lote bloquea
+ * antes las filas que va a cambiar y publica por ellas un solo evento con sus IDs
+ * (y uno por pago fallido): tras el commit del lote quedan auditadas y se invalidan
+ * los días afectados de la caché de ingresos.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationLifecycleServiceImpl implements ReservationLifecycleService {
+
+    private static final String COMPLETE_JOB = "reservation-complete";
+    private static final String EXPIRE_JOB = "reservation-expire";
+
+    private final ReservationRepository reservationRepository;
+    private final PaymentRepository paymentRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Evita que dos corridas se solapen si una tarda más que el intervalo
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${reservations.lifecycle.batch-size:500}")
+    private int batchSize;
+
+    @Value("${reservations.lifecycle.pending-ttl-hours:48}")
+    private long pendingTtlHours;
+
+    @Override
+    @Async("lifecycleExecutor") // Fuera del hilo del scheduler para no bloquear otras tareas @Scheduled
+    @Scheduled(cron = "${reservations.lifecycle.cron:0 15 * * * *}")
+    public void runLifecycle() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("El ciclo de vida de reservas ya se está ejecutando; se omite esta corrida");
+            return;
+        }
+
+        try {
+            LocalDate today = LocalDate.now();
+            completeFinishedReservations(today);
+            expirePendingReservations(today, LocalDateTime.now().minusHours(pendingTtlHours));
+        } catch (Exception e) {
+            log.error("Error en el ciclo de vida de reservas: {}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public long completeFinishedReservations(LocalDate today) {
+        return runInBatches(COMPLETE_JOB, today,
+                afterId -> reservationRepository.findCompletableIds(today, afterId, batchSize),
+                (afterId, upToId) -> {
+                    List<String> reservationIds = reservationRepository.lockCompletableRange(today, afterId, upToId);
+                    int updated = reservationRepository.completeRange(today, afterId, upToId);
+                    publishReservationEvents(reservationIds, ReservationStatus.CONFIRMED, ReservationStatus.COMPLETED);
+                    return updated;
+                });
+    }
+
+    @Override
+    public long expirePendingReservations(LocalDate today, LocalDateTime createdBefore) {
+        return runInBatches(EXPIRE_JOB, today,
+                afterId -> reservationRepository.findExpirableIds(today, createdBefore, afterId, batchSize),
+                (afterId, upToId) -> {
+                    List<ExpiringPaymentView> payments =
+                            paymentRepository.lockPaymentsOfExpiredReservations(today, createdBefore, afterId, upToId);
+                    List<String> reservationIds =
+                            reservationRepository.lockExpirableRange(today, createdBefore, afterId, upToId);
+
+                    // Primero los pagos: el UPDATE de pagos filtra por reservas aún PENDING
+                    paymentRepository.failPaymentsOfExpiredReservations(today, createdBefore, afterId, upToId);
+                    int updated = reservationRepository.expireRange(today, createdBefore, afterId, upToId);
+
+                    for (ExpiringPaymentView payment : payments) {
+                        eventPublisher.publishEvent(new PaymentStatusChangedEvent(payment.getPaymentId(),
+                                payment.getReservationId(), PaymentStatus.PENDING, PaymentStatus.FAILED,
+                                payment.getCreatedAt()));
+                    }
+                    publishReservationEvents(reservationIds, ReservationStatus.PENDING, ReservationStatus.CANCELLED);
+                    return updated;
+                });
+    }
+
+    private void publishReservationEvents(List<String> reservationIds, ReservationStatus previousStatus,
+                                          ReservationStatus newStatus) {
+        if (!reservationIds.isEmpty()) {
+            eventPublisher.publishEvent(new ReservationBatchStatusChangedEvent(reservationIds, previousStatus, newStatus));
+        }
+    }
+
+    private long runInBatches(String jobName, LocalDate boundary,
+                              Function<String, List<String>> nextBatch,
+                              BiFunction<String, String, Integer> updateRange) {
+        JobCheckpoint checkpoint = checkpointRepository.findById(jobName)
+                .orElseGet(() -> JobCheckpoint.builder().id(jobName).build());
+
+        // Solo se reanuda una corrida interrumpida con la misma fecha de corte
+        String afterId = boundary.equals(checkpoint.getBoundaryDate()) && checkpoint.getLastProcessedId() != null
+                ? checkpoint.getLastProcessedId()
+                : "";
+
+        checkpoint.setBoundaryDate(boundary);
+        checkpoint.setLastRunStartedAt(LocalDateTime.now());
+        long startedAt = System.nanoTime();
+        long rows = 0;
+
+        List<String> ids = nextBatch.apply(afterId);
+        while (!ids.isEmpty()) {
+            String fromId = afterId;
+            String upToId = ids.get(ids.size() - 1);
+
+            Integer updated = transactionTemplate.execute(status -> {
+                int count = updateRange.apply(fromId, upToId);
+                checkpoint.setLastProcessedId(upToId);
+                checkpointRepository.save(checkpoint);
+                return count;
+            });
+
+            rows += updated != null ? updated : 0;
+            afterId = upToId;
+            ids = ids.size() < batchSize ? List.of() : nextBatch.apply(afterId);
+        }
+
+        double seconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+        checkpoint.setLastProcessedId(null);
+        checkpoint.setRowsProcessed(rows);
+        checkpoint.setRowsPerSecond(rows / seconds);
+        checkpoint.setLastRunFinishedAt(LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+
+        log.info("Trabajo {}: {} filas en {} ms ({} filas/s)", jobName, rows,
+                Math.round(seconds * 1000), Math.round(rows / seconds));
+        return rows;
+    }
+}
@@ -3,26 +3,33 @@ package co.edu.uniquindio.application.services.impl;
 import co.edu.uniquindio.application.dto.create.CreateReservationDTO;
 import co.edu.uniquindio.application.dto.edit.EditReservationDTO;
 import co.edu.uniquindio.application.dto.ReservationDTO;
+import co.edu.uniquindio.application.events.PaymentStatusChangedEvent;
+import co.edu.uniquindio.application.events.ReservationStatusChangedEvent;
 import co.edu.uniquindio.application.exceptions.InvalidOperationException;
 import co.edu.uniquindio.application.exceptions.NotFoundException;
 import co.edu.uniquindio.application.mappers.ReservationMapper;
 import co.edu.uniquindio.application.models.entitys.Accommodation;
 import co.edu.uniquindio.application.models.entitys.Reservation;
 import co.edu.uniquindio.application.models.entitys.User;
+import co.edu.uniquindio.application.models.enums.PaymentStatus;
 import co.edu.uniquindio.application.models.enums.ReservationStatus;
 import co.edu.uniquindio.application.repositories.AccommodationRepository;
 import co.edu.uniquindio.application.repositories.ReservationRepository;
 import co.edu.uniquindio.application.repositories.UserRepository;
 import co.edu.uniquindio.application.services.AuthService;
 import co.edu.uniquindio.application.services.ReservationService;
+import co.edu.uniquindio.application.services.ExistenceService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -32,7 +39,9 @@ public class ReservationServiceImpl implements ReservationService {
     private final ReservationMapper reservationMapper;
     private final AccommodationRepository accommodationRepository;
     private final UserRepository userRepository;
+    private final ExistenceService existenceService;
     private final AuthService authService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void create(CreateReservationDTO reservationDTO) throws Exception {
@@ -88,6 +97,7 @@ public class ReservationServiceImpl implements ReservationService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ReservationDTO get(String id) throws Exception {
         Optional<Reservation> reservationOptional = reservationRepository.findById(id);
         if (reservationOptional.isEmpty()) {
@@ -107,45 +117,37 @@ public class ReservationServiceImpl implements ReservationService {
 
     @Override
     public List<ReservationDTO> listAll() {
-        return reservationRepository.findAll()
-                .stream()
-                .map(reservationMapper::toReservationDTO)
-                .collect(Collectors.toList());
+        return reservationRepository.findAllReservationDTOs();
+    }
+
+    @Override
+    public Stream<ReservationDTO> streamAll() {
+        return reservationRepository.streamAllReservationDTOs();
     }
 
     @Override
     public List<ReservationDTO> listByAccommodation(String accommodationId) throws Exception {
-        if (accommodationRepository.findById(accommodationId).isEmpty()) {
-            throw new NotFoundException("El alojamiento con ID '" + accommodationId + "' no fue encontrado.");
-        }
+        existenceService.requireAccommodation(accommodationId);
 
-        return reservationRepository.findByAccommodationId(accommodationId)
-                .stream()
-                .map(reservationMapper::toReservationDTO)
-                .collect(Collectors.toList());
+        return reservationRepository.findReservationDTOsByAccommodationId(accommodationId);
     }
 
     @Override
     public List<ReservationDTO> listByGuest(String guestId) throws Exception {
-        if (userRepository.findById(guestId).isEmpty()) {
+        if (!existenceService.userExists(guestId)) {
             throw new NotFoundException("El huésped con ID '" + guestId + "' no fue encontrado.");
         }
 
-        return reservationRepository.findByGuestId(guestId)
-                .stream()
-                .map(reservationMapper::toReservationDTO)
-                .collect(Collectors.toList());
+        return reservationRepository.findReservationDTOsByGuestId(guestId, Sort.unsorted());
     }
 
     @Override
     public List<ReservationDTO> listByStatus(ReservationStatus status) {
-        return reservationRepository.findByStatus(status)
-                .stream()
-                .map(reservationMapper::toReservationDTO)
-                .collect(Collectors.toList());
+        return reservationRepository.findReservationDTOsByStatus(status);
     }
 
     @Override
+    @Transactional
     public void edit(String id, EditReservationDTO reservationDTO) throws Exception {
         //OBTENER USUARIO AUTENTICADO
         String authenticatedUserId = authService.getAuthenticatedUserId();
@@ -183,7 +185,14 @@ public class ReservationServiceImpl implements ReservationService {
         reservation.setCheckInDate(reservationDTO.checkInDate());
         reservation.setCheckOutDate(reservationDTO.checkOutDate());
         reservation.setNumberOfGuests(reservationDTO.numberOfGuests());
-        reservation.setStatus(reservationDTO.status());
+        ReservationStatus previousStatus = reservation.getStatus();
+        if (reservationDTO.status() != null && reservationDTO.status() != previousStatus) {
+            if (!previousStatus.canTransitionTo(reservationDTO.status())) {
+                throw new InvalidOperationException("No se puede pasar una reserva de " + previousStatus +
+                        " a " + reservationDTO.status() + ".");
+            }
+            reservation.setStatus(reservationDTO.status());
+        }
 
         long nights = java.time.temporal.ChronoUnit.DAYS.between(
                 reservationDTO.checkInDate(),
@@ -193,9 +202,14 @@ public class ReservationServiceImpl implements ReservationService {
         reservation.setTotalPrice(totalPrice);
 
         reservationRepository.save(reservation);
+        if (reservation.getStatus() != previousStatus) {
+            eventPublisher.publishEvent(new ReservationStatusChangedEvent(
+                    reservation.getId(), previousStatus, reservation.getStatus()));
+        }
     }
 
     @Override
+    @Transactional
     public void confirm(String id) throws Exception {
         Optional<Reservation> reservationOptional = reservationRepository.findById(id);
         if (reservationOptional.isEmpty()) {
@@ -207,12 +221,12 @@ public class ReservationServiceImpl implements ReservationService {
             throw new InvalidOperationException("Solo se pueden confirmar reservas en estado PENDING.");
         }
 
-        reservation.setStatus(ReservationStatus.CONFIRMED);
-        reservationRepository.save(reservation);
+        changeStatus(reservation, ReservationStatus.CONFIRMED);
     }
 
 
     @Override
+    @Transactional
     public void cancel(String id) throws Exception {
         // ✅ OBTENER USUARIO AUTENTICADO
         String authenticatedUserId = authService.getAuthenticatedUserId();
@@ -236,15 +250,61 @@ public class ReservationServiceImpl implements ReservationService {
             throw new InvalidOperationException("No se puede cancelar una reserva que ya ha iniciado.");
         }
 
-        reservation.setStatus(ReservationStatus.CANCELLED);
+        // El pago asociado se anula en la misma transacción (PaymentServiceImpl)
+        changeStatus(reservation, ReservationStatus.CANCELLED);
+    }
+
+    // Un pago completado confirma la reserva; un reembolso la cancela.
+    // PaymentServiceImpl valida antes el estado de la reserva; si aun así no admite la transición
+    // se lanza la excepción: el listener corre en la transacción del pago, así que el cambio del
+    // pago se revierte y los dos quedan consistentes
+    @EventListener
+    public void onPaymentStatusChanged(PaymentStatusChangedEvent event) throws Exception {
+        if (event.reservationId() == null) {
+            return;
+        }
+
+        ReservationStatus target;
+        if (event.newStatus() == PaymentStatus.COMPLETED) {
+            target = ReservationStatus.CONFIRMED;
+        } else if (event.newStatus() == PaymentStatus.REFUNDED) {
+            target = ReservationStatus.CANCELLED;
+        } else {
+            return;
+        }
+
+        Optional<Reservation> reservationOptional = reservationRepository.findById(event.reservationId());
+        if (reservationOptional.isEmpty()) {
+            return;
+        }
+
+        Reservation reservation = reservationOptional.get();
+        // La reserva ya está en el estado que pide el pago (por ejemplo, un reembolso por cancelación)
+        if (reservation.getStatus() == target) {
+            return;
+        }
+        if (!reservation.getStatus().canTransitionTo(target)) {
+            throw new IllegalStateException("No se puede pasar el pago a " + event.newStatus()
+                    + " porque la reserva '" + reservation.getId() + "' está en estado " + reservation.getStatus() + ".");
+        }
+        changeStatus(reservation, target);
+    }
+
+    // Aplica una transición de la máquina de estados de la reserva y la publica
+    private void changeStatus(Reservation reservation, ReservationStatus newStatus) throws InvalidOperationException {
+        ReservationStatus previousStatus = reservation.getStatus();
+        if (!previousStatus.canTransitionTo(newStatus)) {
+            throw new InvalidOperationException("No se puede pasar una reserva de " + previousStatus + " a " + newStatus + ".");
+        }
+
+        reservation.setStatus(newStatus);
         reservationRepository.save(reservation);
+        eventPublisher.publishEvent(new ReservationStatusChangedEvent(reservation.getId(), previousStatus, newStatus));
     }
 
     @Override
     public boolean isAvailable(String accommodationId, LocalDate checkInDate, LocalDate checkOutDate) throws Exception {
-        if (accommodationRepository.findById(accommodationId).isEmpty()) {
-            throw new NotFoundException("El alojamiento con ID '" + accommodationId + "' no fue encontrado.");
-        }
+        existenceService.requireAccommodation(accommodationId);
 
         List<Reservation> overlappingReservations = reservationRepository.findOverlappingReservations(
                 accommodationId,
@@ -258,66 +318,46 @@ public class ReservationServiceImpl implements ReservationService {
     // ✅ EJERCICIO 3: Reportes de usuario con ordenamiento
     @Override
     public List<ReservationDTO> listByGuestSorted(String guestId, Sort sort) throws Exception {
-        if (userRepository.findById(guestId).isEmpty()) {
+        if (!existenceService.userExists(guestId)) {
             throw new NotFoundException("El huésped con ID '" + guestId + "' no fue encontrado.");
         }
 
-        return reservationRepository.findByGuestId(guestId, sort)
-                .stream()
-                .map(reservationMapper::toReservationDTO)
-                .collect(Collectors.toList());
+        return reservationRepository.findReservationDTOsByGuestId(guestId, sort);
     }
 
     // ✅ EJERCICIO 5: Consultas personalizadas
     @Override
     public List<ReservationDTO> listByDateRange(LocalDate startDate, LocalDate endDate, Sort sort) {
-        return reservationRepository.findByDateRange(startDate, endDate, sort)
-                .stream()
-                .map(reservationMapper::toReservationDTO)
-                .collect(Collectors.toList());
+        return reservationRepository.findReservationDTOsByDateRange(startDate, endDate, sort);
     }
 
     @Override
     public List<ReservationDTO> listActiveReservationsByGuest(String guestId, Sort sort) throws Exception {
-        if (userRepository.findById(guestId).isEmpty()) {
+        if (!existenceService.userExists(guestId)) {
             throw new NotFoundException("El huésped con ID '" + guestId + "' no fue encontrado.");
         }
 
-        return reservationRepository.findActiveReservationsByGuest(guestId, sort)
-                .stream()
-                .map(reservationMapper::toReservationDTO)
-                .collect(Collectors.toList());
+        return reservationRepository.findActiveReservationDTOsByGuest(guestId, sort);
     }
 
     @Override
     public List<ReservationDTO> listCompletedReservationsByGuest(String guestId, Sort sort) throws Exception {
-        if (userRepository.findById(guestId).isEmpty()) {
+        if (!existenceService.userExists(guestId)) {
             throw new NotFoundException("El huésped con ID '" + guestId + "' no fue encontrado.");
         }
 
-        return reservationRepository.findCompletedReservationsByGuest(guestId, sort)
-                .stream()
-                .map(reservationMapper::toReservationDTO)
-                .collect(Collectors.toList());
+        return reservationRepository.findCompletedReservationDTOsByGuest(guestId, sort);
     }
 
     @Override
     public List<ReservationDTO> listUpcomingReservations(Sort sort) {
-        return reservationRepository.findUpcomingReservations(LocalDate.now(), sort)
-                .stream()
-                .map(reservationMapper::toReservationDTO)
-                .collect(Collectors.toList());
+        return reservationRepository.findUpcomingReservationDTOs(LocalDate.now(), sort);
     }
 
     @Override
     public List<ReservationDTO> listByAccommodationAndStatus(String accommodationId, ReservationStatus status, Sort sort) throws Exception {
-        if (accommodationRepository.findById(accommodationId).isEmpty()) {
-            throw new NotFoundException("El alojamiento con ID '" + accommodationId + "' no fue encontrado.");
-        }
+        existenceService.requireAccommodation(accommodationId);
 
-        return reservationRepository.findByAccommodationAndStatus(accommodationId, status, sort)
-                .stream()
-                .map(reservationMapper::toReservationDTO)
-                .collect(Collectors.toList());
+        return reservationRepository.findReservationDTOsByAccommodationAndStatus(accommodationId, status, sort);
     }
 }
\ No newline at end of file
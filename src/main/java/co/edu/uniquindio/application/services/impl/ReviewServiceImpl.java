@@ -3,25 +3,28 @@ package co.edu.uniquindio.application.services.impl;
 import co.edu.uniquindio.application.dto.create.CreateReviewDTO;
 import co.edu.uniquindio.application.dto.edit.EditReviewDTO;
 import co.edu.uniquindio.application.dto.ReviewDTO;
+import co.edu.uniquindio.application.events.AccommodationChangedEvent;
 import co.edu.uniquindio.application.exceptions.InvalidOperationException;
 import co.edu.uniquindio.application.exceptions.NotFoundException;
 import co.edu.uniquindio.application.mappers.ReviewMapper;
 import co.edu.uniquindio.application.models.entitys.Accommodation;
 import co.edu.uniquindio.application.models.entitys.Reservation;
 import co.edu.uniquindio.application.models.entitys.Review;
-import co.edu.uniquindio.application.models.entitys.User;
 import co.edu.uniquindio.application.repositories.AccommodationRepository;
 import co.edu.uniquindio.application.repositories.ReservationRepository;
 import co.edu.uniquindio.application.repositories.ReviewRepository;
 import co.edu.uniquindio.application.repositories.UserRepository;
 import co.edu.uniquindio.application.services.AuthService;
 import co.edu.uniquindio.application.services.ReviewService;
+import co.edu.uniquindio.application.services.ExistenceService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -32,7 +35,9 @@ public class ReviewServiceImpl implements ReviewService {
     private final AccommodationRepository accommodationRepository;
     private final UserRepository userRepository;
     private final ReservationRepository reservationRepository;
+    private final ExistenceService existenceService;
     private final AuthService authService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void create(CreateReviewDTO reviewDTO) throws Exception {
@@ -47,17 +52,9 @@ public class ReviewServiceImpl implements ReviewService {
             );
         }
 
-        // Validar que el alojamiento existe
-        Optional<Accommodation> accommodation = accommodationRepository.findById(reviewDTO.accommodationId());
-        if (accommodation.isEmpty()) {
-            throw new NotFoundException("El alojamiento con ID '" + reviewDTO.accommodationId() + "' no fue encontrado.");
-        }
-
-        // Validar que el usuario existe
-        Optional<User> user = userRepository.findById(reviewDTO.userId());
-        if (user.isEmpty()) {
-            throw new NotFoundException("El usuario con ID '" + reviewDTO.userId() + "' no fue encontrado.");
-        }
+        // Validar que el alojamiento y el usuario existen
+        existenceService.requireAccommodation(reviewDTO.accommodationId());
+        existenceService.requireUser(reviewDTO.userId());
 
         // NUEVO: Validar reserva si se proporciona
         Reservation reservation = null;
@@ -88,8 +85,8 @@ public class ReviewServiceImpl implements ReviewService {
 
         // Crear la reseña
         Review newReview = reviewMapper.toEntity(reviewDTO);
-        newReview.setAccommodation(accommodation.get());
-        newReview.setUser(user.get());
+        newReview.setAccommodation(accommodationRepository.getReferenceById(reviewDTO.accommodationId()));
+        newReview.setUser(userRepository.getReferenceById(reviewDTO.userId()));
         newReview.setReservation(reservation);  // ✅ Asignar reserva si existe
 
         // Guardar la reseña
@@ -100,6 +97,7 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ReviewDTO get(Long id) throws Exception {
         Optional<Review> reviewOptional = reviewRepository.findById(id);
 
@@ -136,36 +134,28 @@ public class ReviewServiceImpl implements ReviewService {
 
     @Override
     public List<ReviewDTO> listAll() {
-        return reviewRepository.findAll()
-                .stream()
-                .map(reviewMapper::toReviewDTO)
-                .collect(Collectors.toList());
+        return reviewRepository.findAllReviewDTOs();
+    }
+
+    @Override
+    public Stream<ReviewDTO> streamAll() {
+        return reviewRepository.streamAllReviewDTOs();
     }
 
     @Override
     public List<ReviewDTO> listByAccommodation(String accommodationId) throws Exception {
         // Validar que el alojamiento existe
-        if (accommodationRepository.findById(accommodationId).isEmpty()) {
-            throw new NotFoundException("El alojamiento con ID '" + accommodationId + "' no fue encontrado.");
-        }
+        existenceService.requireAccommodation(accommodationId);
 
-        return reviewRepository.findByAccommodationId(accommodationId)
-                .stream()
-                .map(reviewMapper::toReviewDTO)
-                .collect(Collectors.toList());
+        return reviewRepository.findReviewDTOsByAccommodationId(accommodationId);
     }
 
     @Override
     public List<ReviewDTO> listByUser(String userId) throws Exception {
         // Validar que el usuario existe
-        if (userRepository.findById(userId).isEmpty()) {
-            throw new NotFoundException("El usuario con ID '" + userId + "' no fue encontrado.");
-        }
+        existenceService.requireUser(userId);
 
-        return reviewRepository.findByUserId(userId)
-                .stream()
-                .map(reviewMapper::toReviewDTO)
-                .collect(Collectors.toList());
+        return reviewRepository.findReviewDTOsByUserId(userId);
     }
 
     @Override
@@ -200,9 +190,7 @@ public class ReviewServiceImpl implements ReviewService {
     @Override
     public Double getAverageRating(String accommodationId) throws Exception {
         // Validar que el alojamiento existe
-        if (accommodationRepository.findById(accommodationId).isEmpty()) {
-            throw new NotFoundException("El alojamiento con ID '" + accommodationId + "' no fue encontrado.");
-        }
+        existenceService.requireAccommodation(accommodationId);
 
         List<Review> reviews = reviewRepository.findByAccommodationId(accommodationId);
 
@@ -240,5 +228,6 @@ public class ReviewServiceImpl implements ReviewService {
         }
 
         accommodationRepository.save(accom);
+        eventPublisher.publishEvent(new AccommodationChangedEvent(accommodationId));
     }
 }
\ No newline at end of file
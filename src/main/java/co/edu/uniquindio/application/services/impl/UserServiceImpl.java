@@ -3,6 +3,7 @@ package co.edu.uniquindio.application.services.impl;
 import co.edu.uniquindio.application.dto.create.CreateUserDTO;
 import co.edu.uniquindio.application.dto.edit.EditUserDTO;
 import co.edu.uniquindio.application.dto.UserDTO;
+import co.edu.uniquindio.application.dto.UserPageDTO;
 import co.edu.uniquindio.application.exceptions.InvalidOperationException;
 import co.edu.uniquindio.application.exceptions.NotFoundException;
 import co.edu.uniquindio.application.exceptions.ValueConflictException;
@@ -14,10 +15,17 @@ import co.edu.uniquindio.application.services.AuthService;
 import co.edu.uniquindio.application.services.UserService;
 import co.edu.uniquindio.application.mappers.UserMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -31,6 +39,8 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final AuthService authService;
 
+    @Value("${users.page.max-size:200}")
+    private int maxPageSize;
 
     @Override
     public void create(CreateUserDTO userDTO) throws Exception {
@@ -95,11 +105,62 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public List<UserDTO> listAll() {
-        return userRepository.findAll()
-                .stream()
-                .map(userMapper::toUserDTO)
-                .collect(Collectors.toList());
+    public UserPageDTO listPage(UserStatus status, Role role, LocalDate createdFrom, LocalDate createdTo,
+                                String cursor, int size) throws Exception {
+        if (size < 1 || size > maxPageSize) {
+            throw new InvalidOperationException("El tamaño de página debe estar entre 1 y " + maxPageSize + ".");
+        }
+
+        if (createdFrom != null && createdTo != null && createdTo.isBefore(createdFrom)) {
+            throw new InvalidOperationException("La fecha final no puede ser anterior a la fecha inicial.");
+        }
+
+        LocalDateTime cursorCreatedAt = null;
+        String cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            cursorCreatedAt = LocalDateTime.parse(parts[0]);
+            cursorId = parts[1];
+        }
+
+        // Se pide un registro de más para saber si existe una página siguiente sin contar la tabla
+        List<User> users = userRepository.findPage(
+                status,
+                role,
+                createdFrom != null ? createdFrom.atStartOfDay() : null,
+                createdTo != null ? createdTo.plusDays(1).atStartOfDay() : null,
+                cursorCreatedAt,
+                cursorId,
+                PageRequest.of(0, size + 1)
+        );
+
+        boolean hasNext = users.size() > size;
+        List<User> page = hasNext ? users.subList(0, size) : users;
+        String nextCursor = hasNext ? encodeCursor(page.get(page.size() - 1)) : null;
+
+        return new UserPageDTO(
+                page.stream().map(userMapper::toUserDTO).collect(Collectors.toList()),
+                nextCursor
+        );
+    }
+
+    // El cursor es opaco para el cliente: created_at e id del último usuario, en Base64 URL
+    private String encodeCursor(User user) {
+        String value = user.getCreatedAt() + "|" + user.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) throws InvalidOperationException {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+            if (parts.length != 2 || parts[1].isEmpty()) {
+                throw new InvalidOperationException("El cursor de paginación no es válido.");
+            }
+            LocalDateTime.parse(parts[0]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidOperationException("El cursor de paginación no es válido.");
+        }
     }
 
     @Override
@@ -186,17 +247,13 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public List<UserDTO> listByStatus(UserStatus status) {
-        return userRepository.findAll()
-                .stream()
-                .filter(user -> user.getStatus() == status)
-                .map(userMapper::toUserDTO)
-                .collect(Collectors.toList());
+    public UserPageDTO listByStatus(UserStatus status, String cursor, int size) throws Exception {
+        return listPage(status, null, null, null, cursor, size);
     }
 
     @Override
-    public List<UserDTO> listActiveUsers() {
-        return listByStatus(UserStatus.ACTIVE);
+    public UserPageDTO listActiveUsers(String cursor, int size) throws Exception {
+        return listByStatus(UserStatus.ACTIVE, cursor, size);
     }
 
     @Override
@@ -0,0 +1,46 @@
+package co.edu.uniquindio.application.utils;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generador de identificadores UUID versión 7 (RFC 9562).
+ *
+ * Los primeros 48 bits son el instante en milisegundos, así que los IDs nuevos
+ * quedan siempre al final del índice de la llave primaria: InnoDB agrupa las
+ * filas por la llave primaria y con UUID v4 cada inserción caía en una página
+ * aleatoria del árbol. Los 12 bits siguientes (rand_a) se usan como contador
+ * dentro del mismo milisegundo, de modo que los IDs generados por esta JVM son
+ * estrictamente crecientes; el resto sigue siendo aleatorio.
+ *
+ * La representación en texto (36 caracteres en minúscula) conserva el orden,
+ * por lo que las columnas VARCHAR existentes y los cursores por ID siguen
+ * funcionando sin cambios.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // Milisegundos (<< 12) + contador del milisegundo; sin locks para no fijar hilos virtuales
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static String generate() {
+        return next().toString();
+    }
+
+    public static UUID next() {
+        long now = System.currentTimeMillis() << 12;
+        // Si el reloj retrocede o el contador se agota, se toma prestado el milisegundo siguiente
+        long state = LAST.updateAndGet(last -> now > last ? now : last + 1);
+
+        long timestamp = state >>> 12;
+        long sequence = state & 0xFFFL;
+        long mostSigBits = (timestamp << 16) | 0x7000L | sequence;
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,236 @@
+-- ================================================
+-- V1 - ESQUEMA INICIAL
+-- ================================================
+-- Esquema tal como lo generaba Hibernate con ddl-auto=update antes de las
+-- migraciones. Las bases existentes se marcan en esta versión al primer arranque
+-- (spring.flyway.baseline-on-migrate) y solo reciben las migraciones siguientes.
+-- No modificar: Flyway valida el checksum de las migraciones ya aplicadas.
+-- ================================================
+
+CREATE TABLE `user` (
+    id VARCHAR(255) NOT NULL PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    phone VARCHAR(15),
+    email VARCHAR(100) NOT NULL,
+    password VARCHAR(200) NOT NULL,
+    photo_url VARCHAR(200),
+    date_birth DATE NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    role ENUM('GUEST', 'HOST', 'ADMIN') NOT NULL,
+    status ENUM('ACTIVE', 'INACTIVE', 'DELETED') NOT NULL,
+
+    UNIQUE INDEX idx_email (email),
+    INDEX idx_role_created (role, created_at, id),
+    INDEX idx_status_created (status, created_at, id),
+    INDEX idx_created_at (created_at, id)
+);
+
+CREATE TABLE host_profile (
+    id VARCHAR(255) NOT NULL PRIMARY KEY,
+    user_id VARCHAR(255) NOT NULL,
+    about_me LONGTEXT NOT NULL,
+    legal_document VARCHAR(255),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NOT NULL,
+
+    UNIQUE INDEX uk_host_profile_user (user_id),
+    CONSTRAINT fk_host_profile_user FOREIGN KEY (user_id) REFERENCES `user` (id) ON DELETE CASCADE
+);
+
+CREATE TABLE accommodation (
+    id VARCHAR(255) NOT NULL PRIMARY KEY,
+    title VARCHAR(150) NOT NULL,
+    description VARCHAR(2000) NOT NULL,
+    city VARCHAR(100) NOT NULL,
+    address VARCHAR(150) NOT NULL,
+    latitude DOUBLE NOT NULL,
+    longitude DOUBLE NOT NULL,
+    price_per_night DOUBLE NOT NULL,
+    max_capacity INT NOT NULL,
+    amenities VARCHAR(500),
+    status ENUM('ACTIVE', 'INACTIVE', 'DELETED') NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NOT NULL,
+    average_rating DOUBLE,
+    rating_count INT,
+    favorite_count INT DEFAULT 0 NOT NULL,
+    host_id VARCHAR(255) NOT NULL,
+
+    INDEX idx_city (city),
+    INDEX idx_price (price_per_night),
+    INDEX idx_rating (average_rating),
+    INDEX idx_status (status),
+    INDEX idx_city_price (city, price_per_night),
+    INDEX idx_host (host_id),
+    CONSTRAINT fk_accommodation_host FOREIGN KEY (host_id) REFERENCES `user` (id) ON DELETE CASCADE
+);
+
+CREATE TABLE accommodation_photo (
+    id VARCHAR(255) NOT NULL PRIMARY KEY,
+    image_url VARCHAR(255) NOT NULL,
+    public_id VARCHAR(255),
+    thumbnail_url VARCHAR(500),
+    thumbnail_webp_url VARCHAR(500),
+    card_url VARCHAR(500),
+    card_webp_url VARCHAR(500),
+    full_url VARCHAR(500),
+    full_webp_url VARCHAR(500),
+    is_primary BIT NOT NULL,
+    display_order INT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    accommodation_id VARCHAR(255) NOT NULL,
+
+    CONSTRAINT fk_photo_accommodation FOREIGN KEY (accommodation_id) REFERENCES accommodation (id) ON DELETE CASCADE
+);
+
+CREATE TABLE availability_calendar (
+    id VARCHAR(255) NOT NULL PRIMARY KEY,
+    `date` DATE NOT NULL,
+    available BIT NOT NULL,
+    reason VARCHAR(255),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    accommodation_id VARCHAR(255) NOT NULL,
+
+    UNIQUE INDEX unique_accommodation_date (accommodation_id, `date`),
+    CONSTRAINT fk_availability_accommodation FOREIGN KEY (accommodation_id) REFERENCES accommodation (id) ON DELETE CASCADE
+);
+
+CREATE TABLE reservation (
+    id VARCHAR(255) NOT NULL PRIMARY KEY,
+    check_in_date DATE NOT NULL,
+    check_out_date DATE NOT NULL,
+    number_of_guests INT NOT NULL,
+    total_price DOUBLE NOT NULL,
+    status ENUM('PENDING', 'CONFIRMED', 'CANCELLED', 'COMPLETED') NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NOT NULL,
+    accommodation_id VARCHAR(255) NOT NULL,
+    guest_id VARCHAR(255) NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL,
+
+    INDEX idx_guest (guest_id),
+    INDEX idx_accommodation (accommodation_id),
+    INDEX idx_dates (check_in_date, check_out_date),
+    INDEX idx_status (status),
+    CONSTRAINT fk_reservation_accommodation FOREIGN KEY (accommodation_id) REFERENCES accommodation (id) ON DELETE CASCADE,
+    CONSTRAINT fk_reservation_guest FOREIGN KEY (guest_id) REFERENCES `user` (id) ON DELETE CASCADE
+);
+
+CREATE TABLE payment (
+    id VARCHAR(255) NOT NULL PRIMARY KEY,
+    amount DECIMAL(12, 2) NOT NULL,
+    payment_method ENUM('CREDIT_CARD', 'DEBIT_CARD', 'TRANSFER', 'CASH', 'PAYPAL') NOT NULL,
+    status ENUM('PENDING', 'COMPLETED', 'FAILED', 'REFUNDED') NOT NULL,
+    transaction_reference VARCHAR(255),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NOT NULL,
+    reservation_id VARCHAR(255) NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL,
+
+    UNIQUE INDEX uk_payment_reservation (reservation_id),
+    INDEX idx_reservation (reservation_id),
+    INDEX idx_status (status),
+    CONSTRAINT fk_payment_reservation FOREIGN KEY (reservation_id) REFERENCES reservation (id) ON DELETE CASCADE
+);
+
+CREATE TABLE review (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    accommodation_id VARCHAR(255) NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+    reservation_id VARCHAR(255),
+    comment LONGTEXT NOT NULL,
+    rating INT NOT NULL CHECK (rating >= 1 AND rating <= 5),
+    created_at DATETIME(6) NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NOT NULL,
+    -- Campos del embeddable Answer
+    text VARCHAR(255),
+    response_date DATETIME(6),
+
+    INDEX idx_accommodation (accommodation_id),
+    INDEX idx_user (user_id),
+    INDEX idx_reservation (reservation_id),
+    CONSTRAINT fk_review_accommodation FOREIGN KEY (accommodation_id) REFERENCES accommodation (id) ON DELETE CASCADE,
+    CONSTRAINT fk_review_user FOREIGN KEY (user_id) REFERENCES `user` (id) ON DELETE CASCADE,
+    CONSTRAINT fk_review_reservation FOREIGN KEY (reservation_id) REFERENCES reservation (id) ON DELETE SET NULL
+);
+
+CREATE TABLE favorite (
+    id VARCHAR(255) NOT NULL PRIMARY KEY,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+    accommodation_id VARCHAR(255) NOT NULL,
+
+    UNIQUE INDEX unique_user_accommodation (user_id, accommodation_id),
+    CONSTRAINT fk_favorite_user FOREIGN KEY (user_id) REFERENCES `user` (id) ON DELETE CASCADE,
+    CONSTRAINT fk_favorite_accommodation FOREIGN KEY (accommodation_id) REFERENCES accommodation (id) ON DELETE CASCADE
+);
+
+CREATE TABLE chat (
+    id VARCHAR(255) NOT NULL PRIMARY KEY,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    active BIT NOT NULL
+);
+
+CREATE TABLE chat_users (
+    chat_id VARCHAR(255) NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+
+    PRIMARY KEY (chat_id, user_id),
+    CONSTRAINT fk_chat_users_chat FOREIGN KEY (chat_id) REFERENCES chat (id) ON DELETE CASCADE,
+    CONSTRAINT fk_chat_users_user FOREIGN KEY (user_id) REFERENCES `user` (id) ON DELETE CASCADE
+);
+
+CREATE TABLE message (
+    id VARCHAR(255) NOT NULL PRIMARY KEY,
+    content VARCHAR(1000) NOT NULL,
+    sent_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    is_read BIT NOT NULL,
+    chat_id VARCHAR(255) NOT NULL,
+    sender_id VARCHAR(255) NOT NULL,
+    recipient_id VARCHAR(255) NOT NULL,
+
+    INDEX idx_chat (chat_id),
+    INDEX idx_sender (sender_id),
+    INDEX idx_read (is_read),
+    CONSTRAINT fk_message_chat FOREIGN KEY (chat_id) REFERENCES chat (id) ON DELETE CASCADE,
+    CONSTRAINT fk_message_sender FOREIGN KEY (sender_id) REFERENCES `user` (id) ON DELETE CASCADE,
+    CONSTRAINT fk_message_recipient FOREIGN KEY (recipient_id) REFERENCES `user` (id) ON DELETE CASCADE
+);
+
+CREATE TABLE password_reset_code (
+    id VARCHAR(255) NOT NULL PRIMARY KEY,
+    code VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    used BIT NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+
+    UNIQUE INDEX uk_password_reset_code (code),
+    INDEX idx_user (user_id),
+    INDEX idx_code (code),
+    INDEX idx_expires (expires_at),
+    CONSTRAINT fk_password_reset_user FOREIGN KEY (user_id) REFERENCES `user` (id) ON DELETE CASCADE
+);
+
+CREATE TABLE idempotency_record (
+    id VARCHAR(64) NOT NULL PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    status ENUM('IN_PROGRESS', 'COMPLETED') NOT NULL,
+    response_status INT,
+    content_type VARCHAR(100),
+    response_body TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+
+    INDEX idx_idempotency_expires (expires_at)
+);
+
+CREATE TABLE job_checkpoint (
+    id VARCHAR(100) NOT NULL PRIMARY KEY,
+    boundary_date DATE,
+    last_processed_id VARCHAR(255),
+    rows_processed BIGINT,
+    rows_per_second DOUBLE,
+    last_run_started_at DATETIME(6),
+    last_run_finished_at DATETIME(6)
+);
@@ -0,0 +1,32 @@
+-- ================================================
+-- V2 - ÍNDICES COMPUESTOS SEGÚN LOS PLANES DE CONSULTA
+-- ================================================
+-- Índices para los accesos que usan los repositorios (ver IndexAdvisorTest).
+-- Se crean en línea (ALGORITHM=INPLACE, LOCK=NONE): InnoDB sigue aceptando
+-- lecturas y escrituras mientras se construyen. Si el servidor no puede hacerlo
+-- sin bloquear, la sentencia falla en lugar de bloquear la tabla.
+--
+-- IF [NOT] EXISTS hace la migración segura en bases que Hibernate ya había
+-- actualizado con ddl-auto=update. Los índices nuevos se crean antes de borrar
+-- los que reemplazan para que las llaves foráneas nunca queden sin índice.
+-- ================================================
+
+CREATE INDEX IF NOT EXISTS idx_status_popularity
+    ON accommodation (status, rating_count, average_rating) ALGORITHM=INPLACE LOCK=NONE;
+
+CREATE INDEX IF NOT EXISTS idx_accommodation_order
+    ON accommodation_photo (accommodation_id, display_order) ALGORITHM=INPLACE LOCK=NONE;
+
+CREATE INDEX IF NOT EXISTS idx_accommodation_status_checkin
+    ON reservation (accommodation_id, status, check_in_date) ALGORITHM=INPLACE LOCK=NONE;
+DROP INDEX IF EXISTS idx_accommodation ON reservation ALGORITHM=INPLACE LOCK=NONE;
+
+CREATE INDEX IF NOT EXISTS idx_payment_created
+    ON payment (created_at) ALGORITHM=INPLACE LOCK=NONE;
+
+CREATE INDEX IF NOT EXISTS idx_chat_sent
+    ON message (chat_id, sent_at) ALGORITHM=INPLACE LOCK=NONE;
+CREATE INDEX IF NOT EXISTS idx_recipient_read
+    ON message (recipient_id, is_read) ALGORITHM=INPLACE LOCK=NONE;
+DROP INDEX IF EXISTS idx_chat ON message ALGORITHM=INPLACE LOCK=NONE;
+DROP INDEX IF EXISTS idx_read ON message ALGORITHM=INPLACE LOCK=NONE;
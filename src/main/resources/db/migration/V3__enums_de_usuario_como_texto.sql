@@ -0,0 +1,44 @@
+-- ================================================
+-- V3 - ROL Y ESTADO DEL USUARIO COMO TEXTO
+-- ================================================
+-- Antes de las migraciones, User.role y User.status no tenían @Enumerated y
+-- Hibernate los guardaba como ORDINAL: columnas TINYINT con el índice de la
+-- constante (0 = GUEST/ACTIVE, 1 = HOST/INACTIVE, 2 = ADMIN/DELETED) y un CHECK
+-- "role between 0 and 2". Las bases marcadas en la línea base nunca ejecutaron V1
+-- y conservan esas columnas; esta migración las deja como las declara V1.
+--
+-- Es segura también en bases creadas con V1: la columna ya es ENUM, el paso a
+-- VARCHAR conserva los nombres, el UPDATE no encuentra dígitos y el último
+-- ALTER la devuelve al mismo ENUM.
+--
+-- Cambiar el tipo de la columna copia la tabla (no admite ALGORITHM=INPLACE):
+-- bloquea las escrituras en user mientras dura.
+-- ================================================
+
+-- Los CHECK de columna que generaba Hibernate llevan el nombre de la columna
+ALTER TABLE `user` DROP CONSTRAINT IF EXISTS `role`;
+ALTER TABLE `user` DROP CONSTRAINT IF EXISTS `status`;
+
+ALTER TABLE `user`
+    MODIFY role VARCHAR(20) NOT NULL,
+    MODIFY status VARCHAR(20) NOT NULL;
+
+-- ELT(n, ...) devuelve el n-ésimo valor: el ordinal 0 es la primera constante del enum
+UPDATE `user`
+SET role = ELT(role + 1, 'GUEST', 'HOST', 'ADMIN')
+WHERE role IN ('0', '1', '2');
+
+UPDATE `user`
+SET status = ELT(status + 1, 'ACTIVE', 'INACTIVE', 'DELETED')
+WHERE status IN ('0', '1', '2');
+
+ALTER TABLE `user`
+    MODIFY role ENUM('GUEST', 'HOST', 'ADMIN') NOT NULL,
+    MODIFY status ENUM('ACTIVE', 'INACTIVE', 'DELETED') NOT NULL;
+
+-- Índices del listado por keyset (UserRepository.findPage), como en V1. El idx_created_at
+-- antiguo sobre (created_at) ya sirve: InnoDB agrega la llave primaria a cada índice secundario
+CREATE INDEX IF NOT EXISTS idx_role_created ON `user` (role, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_status_created ON `user` (status, created_at, id);
+DROP INDEX IF EXISTS idx_role ON `user`;
+DROP INDEX IF EXISTS idx_status ON `user`;
@@ -0,0 +1,18 @@
+-- ================================================
+-- V4 - CONTADOR DESNORMALIZADO DE FAVORITOS
+-- ================================================
+-- accommodation.favorite_count lo mantiene FavoriteServiceImpl al agregar y quitar favoritos
+-- desde que existe la columna; las filas de favorite anteriores a ese cambio no
+-- están contadas. Las bases marcadas en la línea base pueden no tener siquiera la
+-- columna si se actualizaron con ddl-auto=update antes de agregarla.
+--
+-- El recálculo es idempotente: volver a ejecutarlo deja los mismos valores.
+-- updated_at = updated_at evita que ON UPDATE CURRENT_TIMESTAMP cambie la fecha
+-- de modificación (y los ETag) de todos los alojamientos.
+-- ================================================
+
+ALTER TABLE accommodation ADD COLUMN IF NOT EXISTS favorite_count INT DEFAULT 0 NOT NULL;
+
+UPDATE accommodation a
+SET a.favorite_count = (SELECT COUNT(*) FROM favorite f WHERE f.accommodation_id = a.id),
+    a.updated_at = a.updated_at;
@@ -0,0 +1,9 @@
+-- ================================================
+-- V5 - VERSIÓN DE ALOJAMIENTO
+-- ================================================
+-- accommodation.version es el @Version de la entidad: bloqueo optimista y ETag
+-- del detalle. updated_at tiene precisión de segundos y no distingue dos ediciones
+-- dentro del mismo segundo.
+-- ================================================
+
+ALTER TABLE accommodation ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
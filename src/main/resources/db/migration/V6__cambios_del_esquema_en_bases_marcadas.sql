@@ -0,0 +1,58 @@
+-- ================================================
+-- V6 - CAMBIOS DE V1 EN LAS BASES MARCADAS EN LA LÍNEA BASE
+-- ================================================
+-- V1 ya incluye columnas, tipos, tablas e índices que se agregaron después de la
+-- última versión generada con ddl-auto=update. Las bases marcadas en la versión 1
+-- (spring.flyway.baseline-on-migrate) nunca ejecutaron V1 y ddl-auto=validate
+-- falla al arrancar sin estos cambios. V3, V4 y V5 cubren el resto.
+--
+-- Todo es idempotente: en una base creada con V1 las sentencias no cambian nada.
+-- Cambiar el tipo de payment.amount copia la tabla y bloquea sus escrituras mientras dura.
+-- ================================================
+
+-- Montos exactos (PaymentRepository suma en SQL con BigDecimal)
+ALTER TABLE payment MODIFY amount DECIMAL(12, 2) NOT NULL;
+
+-- Bloqueo optimista de pagos y reservas
+ALTER TABLE payment ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE reservation ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+
+-- Imágenes con dirección por contenido y variantes por tamaño
+ALTER TABLE accommodation_photo
+    ADD COLUMN IF NOT EXISTS public_id VARCHAR(255),
+    ADD COLUMN IF NOT EXISTS thumbnail_url VARCHAR(500),
+    ADD COLUMN IF NOT EXISTS thumbnail_webp_url VARCHAR(500),
+    ADD COLUMN IF NOT EXISTS card_url VARCHAR(500),
+    ADD COLUMN IF NOT EXISTS card_webp_url VARCHAR(500),
+    ADD COLUMN IF NOT EXISTS full_url VARCHAR(500),
+    ADD COLUMN IF NOT EXISTS full_webp_url VARCHAR(500);
+
+CREATE TABLE IF NOT EXISTS idempotency_record (
+    id VARCHAR(64) NOT NULL PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    status ENUM('IN_PROGRESS', 'COMPLETED') NOT NULL,
+    response_status INT,
+    content_type VARCHAR(100),
+    response_body TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+
+    INDEX idx_idempotency_expires (expires_at)
+);
+
+CREATE TABLE IF NOT EXISTS job_checkpoint (
+    id VARCHAR(100) NOT NULL PRIMARY KEY,
+    boundary_date DATE,
+    last_processed_id VARCHAR(255),
+    rows_processed BIGINT,
+    rows_per_second DOUBLE,
+    last_run_started_at DATETIME(6),
+    last_run_finished_at DATETIME(6)
+);
+
+-- idx_created_at era (created_at) y en V1 es (created_at, id) con el mismo nombre,
+-- así que CREATE INDEX IF NOT EXISTS no lo reemplazaría. Se vuelve a crear con otro
+-- nombre antes de borrarlo para que el listado por keyset nunca quede sin índice.
+CREATE INDEX IF NOT EXISTS idx_created_at_id ON `user` (created_at, id) ALGORITHM=INPLACE LOCK=NONE;
+DROP INDEX IF EXISTS idx_created_at ON `user` ALGORITHM=INPLACE LOCK=NONE;
+ALTER TABLE `user` RENAME INDEX idx_created_at_id TO idx_created_at;
@@ -0,0 +1,14 @@
+-- ================================================
+-- V7 - VERSIÓN DEL CATÁLOGO
+-- ================================================
+-- Una sola fila con la versión que usan los ETag de los listados de alojamientos.
+-- Cada escritura que cambia el catálogo (alojamientos, reseñas, favoritos) la
+-- avanza en su propia transacción, así que todas las instancias ven el mismo valor.
+-- ================================================
+
+CREATE TABLE IF NOT EXISTS catalog_version (
+    id TINYINT NOT NULL PRIMARY KEY,
+    version BIGINT DEFAULT 0 NOT NULL
+);
+
+INSERT IGNORE INTO catalog_version (id, version) VALUES (1, 0);
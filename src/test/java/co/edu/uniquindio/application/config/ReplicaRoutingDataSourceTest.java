@@ -0,0 +1,197 @@
+package co.edu.uniquindio.application.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PRUEBAS UNITARIAS del enrutamiento a réplicas de lectura
+ *
+ * - Las lecturas se reparten entre las réplicas sanas y caen al primario si no hay
+ * - Quien acaba de confirmar una escritura lee del primario
+ * - Las réplicas con retraso, detenidas o inaccesibles salen de la rotación
+ * - Lo leído en transacciones de solo lectura no se guarda en la caché de segundo nivel
+ */
+public class ReplicaRoutingDataSourceTest {
+
+    private HikariDataSource replica0;
+    private HikariDataSource replica1;
+    private ReadYourWritesTracker tracker;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        replica0 = mock(HikariDataSource.class);
+        replica1 = mock(HikariDataSource.class);
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica0);
+        replicas.put("replica-1", replica1);
+
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(10));
+        routing = new ReplicaRoutingDataSource(mock(DataSource.class), replicas, tracker, 5, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Reparte las lecturas entre las réplicas en round-robin")
+    void testLookupKey_RoundRobin() {
+        // ========== ACT ==========
+        List<Object> keys = List.of(
+                routing.determineCurrentLookupKey(),
+                routing.determineCurrentLookupKey(),
+                routing.determineCurrentLookupKey());
+
+        // ========== ASSERT ==========
+        assertEquals(List.of("replica-0", "replica-1", "replica-0"), keys);
+    }
+
+    @Test
+    @DisplayName("Tras confirmar una escritura el usuario lee del primario; los demás siguen en réplicas")
+    void testLookupKey_ReadYourWrites() {
+        // ========== ARRANGE ==========
+        authenticate("u001");
+        tracker.afterCommit(transaction(false), null);
+
+        // ========== ACT & ASSERT ==========
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+
+        authenticate("u002");
+        assertNotEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Las transacciones de solo lectura o fallidas no fijan al usuario en el primario")
+    void testLookupKey_ReadOnlyOrFailedCommit() {
+        // ========== ARRANGE ==========
+        authenticate("u001");
+        tracker.afterCommit(transaction(true), null);
+        tracker.afterCommit(transaction(false), new RuntimeException("rollback"));
+
+        // ========== ACT & ASSERT ==========
+        assertFalse(tracker.mustReadFromPrimary());
+        assertNotEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Saca de la rotación la réplica con retraso y vuelve al primario si no queda ninguna")
+    void testCheckReplicaLag() throws Exception {
+        // ========== ARRANGE ==========
+        replicaStatus(replica0, 2L);
+        replicaStatus(replica1, 30L);
+
+        // ========== ACT ==========
+        routing.checkReplicaLag();
+
+        // ========== ASSERT ==========
+        assertEquals(List.of("replica-0"), routing.healthyReplicas());
+        assertEquals("replica-0", routing.determineCurrentLookupKey());
+
+        // ========== ARRANGE ==========
+        replicaStatus(replica0, null);
+        when(replica1.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // ========== ACT ==========
+        routing.checkReplicaLag();
+
+        // ========== ASSERT ==========
+        assertTrue(routing.healthyReplicas().isEmpty());
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Una instancia sin replicación configurada sale de la rotación salvo con allow-standalone")
+    void testReplicationLag_NoReplicationStatus() throws Exception {
+        // ========== ARRANGE ==========
+        ResultSet status = statusResultSet(replica0);
+        when(status.next()).thenReturn(false);
+        replicaStatus(replica1, 1L);
+
+        // ========== ACT ==========
+        routing.checkReplicaLag();
+
+        // ========== ASSERT ==========
+        assertEquals(List.of("replica-1"), routing.healthyReplicas());
+        assertNull(ReplicaRoutingDataSource.replicationLag(replica0, false));
+        assertEquals(0L, ReplicaRoutingDataSource.replicationLag(replica0, true));
+    }
+
+    @Test
+    @DisplayName("Las sesiones de solo lectura leen de la caché de segundo nivel sin llenarla")
+    void testCacheMode_ReadOnlySessionsNeverPut() {
+        // ========== ARRANGE ==========
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        Session session = mock(Session.class);
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        ReplicaCacheModeListener listener = new ReplicaCacheModeListener(entityManagerFactory);
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+
+        try {
+            // ========== ACT ==========
+            listener.afterBegin(transaction(false), null);
+            listener.afterBegin(transaction(true), null);
+
+            // ========== ASSERT ==========
+            verify(session, times(1)).setCacheMode(CacheMode.GET);
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+        }
+    }
+
+    private static void authenticate(String userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+    }
+
+    private static TransactionExecution transaction(boolean readOnly) {
+        TransactionExecution transaction = mock(TransactionExecution.class);
+        when(transaction.isReadOnly()).thenReturn(readOnly);
+        return transaction;
+    }
+
+    // Una fila de SHOW SLAVE STATUS; lag null = replicación detenida
+    private static void replicaStatus(HikariDataSource replica, Long lag) throws SQLException {
+        ResultSet status = statusResultSet(replica);
+        when(status.next()).thenReturn(true);
+        when(status.getLong("Seconds_Behind_Master")).thenReturn(lag != null ? lag : 0L);
+        when(status.wasNull()).thenReturn(lag == null);
+    }
+
+    private static ResultSet statusResultSet(HikariDataSource replica) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet status = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SHOW SLAVE STATUS")).thenReturn(status);
+        return status;
+    }
+}
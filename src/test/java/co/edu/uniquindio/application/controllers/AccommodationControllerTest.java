@@ -0,0 +1,186 @@
+package co.edu.uniquindio.application.controllers;
+
+import co.edu.uniquindio.application.events.FavoriteChangedEvent;
+import co.edu.uniquindio.application.models.entitys.Accommodation;
+import co.edu.uniquindio.application.repositories.AccommodationRepository;
+import co.edu.uniquindio.application.security.JWTUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * PRUEBAS DE INTEGRACIÓN de los GET condicionales de AccommodationController
+ *
+ * - El detalle y los listados envían ETag y Cache-Control público
+ * - Con If-None-Match vigente responden 304 sin cuerpo
+ * - El ETag cambia cuando cambia algo de la representación (p. ej. favoritos),
+ *   también con dos ediciones dentro del mismo segundo
+ * - La versión del catálogo está en la base de datos y la comparten todas las instancias
+ * - La importación responde 201, 207 o 422 según cuántas filas se guardaron
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@Transactional
+@Sql("classpath:dataset.sql")
+public class AccommodationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JWTUtils jwtUtils;
+
+    private static final String CSV_HEADER =
+            "title,description,city,address,latitude,longitude,pricePerNight,maxCapacity,amenities\n";
+    private static final String VALID_ROW = "Finca,Café,Filandia,Km 3,4.6,-75.6,250000,8,\n";
+    private static final String INVALID_ROW = "Apartamento,Centro,Armenia,Cra 14,4.5,-75.6,-1,2,\n";
+
+    @Test
+    @DisplayName("GET /api/accommodations/{id} - Envía ETag, Last-Modified y Cache-Control público")
+    void testGet_SendsValidators() throws Exception {
+        // ========== ACT & ASSERT ==========
+        mockMvc.perform(get("/api/accommodations/acc001"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"a")))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("public")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("s-maxage")))
+                .andExpect(jsonPath("$.content.id").value("acc001"));
+    }
+
+    @Test
+    @DisplayName("GET /api/accommodations/{id} - Con If-None-Match vigente responde 304 sin cuerpo")
+    void testGet_NotModified() throws Exception {
+        // ========== ARRANGE ==========
+        String etag = mockMvc.perform(get("/api/accommodations/acc001"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // ========== ACT & ASSERT ==========
+        mockMvc.perform(get("/api/accommodations/acc001").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /api/accommodations/{id} - El ETag cambia con cada edición aunque sean del mismo segundo")
+    void testGet_EtagChangesWithinSameSecond() throws Exception {
+        // ========== ARRANGE ==========
+        String etag = mockMvc.perform(get("/api/accommodations/acc001"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // ========== ACT ==========
+        Accommodation accommodation = accommodationRepository.findById("acc001").orElseThrow();
+        accommodation.setTitle("Primera edición");
+        accommodationRepository.saveAndFlush(accommodation);
+        String firstEdit = mockMvc.perform(get("/api/accommodations/acc001").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        accommodation.setTitle("Segunda edición");
+        accommodationRepository.saveAndFlush(accommodation);
+
+        // ========== ASSERT ==========
+        mockMvc.perform(get("/api/accommodations/acc001").header(HttpHeaders.IF_NONE_MATCH, firstEdit))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(firstEdit)))
+                .andExpect(jsonPath("$.content.title").value("Segunda edición"));
+    }
+
+    @Test
+    @DisplayName("GET /api/accommodations/active - El ETag del catálogo cambia con un favorito y con escrituras de otra instancia")
+    void testListActive_EtagChangesWithCatalog() throws Exception {
+        // ========== ARRANGE ==========
+        String etag = mockMvc.perform(get("/api/accommodations/active"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/accommodations/active").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // ========== ACT ==========
+        eventPublisher.publishEvent(new FavoriteChangedEvent("u001", "acc001", true));
+        String favoriteEtag = mockMvc.perform(get("/api/accommodations/active").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Otra instancia avanza la misma fila: esta no recibe ningún evento
+        jdbcTemplate.update("UPDATE catalog_version SET version = version + 1 WHERE id = 1");
+
+        // ========== ASSERT ==========
+        assertNotEquals(etag, favoriteEtag);
+        mockMvc.perform(get("/api/accommodations/active").header(HttpHeaders.IF_NONE_MATCH, favoriteEtag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(favoriteEtag)));
+    }
+
+    @Test
+    @DisplayName("POST /api/accommodations/import - Importación parcial responde 207 con las filas rechazadas")
+    void testImport_PartialSuccess() throws Exception {
+        // ========== ACT & ASSERT ==========
+        mockMvc.perform(importRequest(CSV_HEADER + VALID_ROW + INVALID_ROW))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.error").value(true))
+                .andExpect(jsonPath("$.content.imported").value(1))
+                .andExpect(jsonPath("$.content.failed").value(1))
+                .andExpect(jsonPath("$.content.errors[0].line").value(3));
+    }
+
+    @Test
+    @DisplayName("POST /api/accommodations/import - Sin filas importadas responde 422")
+    void testImport_NothingImported() throws Exception {
+        // ========== ACT & ASSERT ==========
+        mockMvc.perform(importRequest(CSV_HEADER + INVALID_ROW))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.error").value(true))
+                .andExpect(jsonPath("$.content.imported").value(0));
+
+        mockMvc.perform(importRequest(CSV_HEADER))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    @DisplayName("POST /api/accommodations/import - Todas las filas importadas responde 201")
+    void testImport_AllImported() throws Exception {
+        // ========== ACT & ASSERT ==========
+        mockMvc.perform(importRequest(CSV_HEADER + VALID_ROW))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.error").value(false))
+                .andExpect(jsonPath("$.content.imported").value(1));
+    }
+
+    private MockHttpServletRequestBuilder importRequest(String csv) {
+        String token = jwtUtils.generateToken("u002", Map.of("role", "ROLE_HOST"));
+        return post("/api/accommodations/import")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.valueOf("text/csv"))
+                .content(csv);
+    }
+}
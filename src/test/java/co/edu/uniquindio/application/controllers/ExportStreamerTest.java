@@ -0,0 +1,157 @@
+package co.edu.uniquindio.application.controllers;
+
+import co.edu.uniquindio.application.dto.PaymentDTO;
+import co.edu.uniquindio.application.exceptions.TooManyRequestsException;
+import co.edu.uniquindio.application.models.enums.DataFormat;
+import co.edu.uniquindio.application.models.enums.PaymentMethod;
+import co.edu.uniquindio.application.models.enums.PaymentStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PRUEBAS UNITARIAS del formato de las exportaciones CSV y NDJSON
+ *
+ * - Una exportación interrumpida (error de lectura o tiempo máximo) termina con
+ *   una línea de error en lugar de quedar truncada en silencio
+ * - No se admiten más exportaciones a la vez que hilos tiene exportExecutor
+ */
+public class ExportStreamerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ExportStreamer streamer = new ExportStreamer(objectMapper, transactionManager(), Duration.ofMinutes(30), exportExecutor(2));
+
+    private final PaymentDTO payment = new PaymentDTO("pay001", "res001", new BigDecimal("15000000.00"),
+            PaymentMethod.values()[0], PaymentStatus.COMPLETED, "=HYPERLINK(\"x\"), ref",
+            LocalDateTime.of(2025, 1, 15, 10, 30), LocalDateTime.of(2025, 1, 15, 10, 30));
+
+    @Test
+    @DisplayName("CSV: encabezado con los campos del DTO y valores escapados")
+    void testCsv_HeaderAndEscaping() throws Exception {
+        // ========== ARRANGE ==========
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // ========== ACT ==========
+        streamer.stream(DataFormat.CSV, PaymentDTO.class, () -> Stream.of(payment)).writeTo(output);
+
+        // ========== ASSERT ==========
+        String[] lines = output.toString().split("\r\n");
+        assertEquals(2, lines.length);
+        assertEquals("id,reservationId,amount,paymentMethod,status,transactionReference,createdAt,updatedAt", lines[0]);
+        assertEquals("pay001,res001,15000000.00," + payment.paymentMethod() + ",COMPLETED,"
+                + "\"'=HYPERLINK(\"\"x\"\"), ref\",2025-01-15T10:30,2025-01-15T10:30", lines[1]);
+        assertEquals("1.5", ExportStreamer.csvValue(1.5));
+        assertEquals("15000000", ExportStreamer.csvValue(1.5E7));
+    }
+
+    @Test
+    @DisplayName("NDJSON: un objeto JSON completo por línea")
+    void testNdjson_OneObjectPerLine() throws Exception {
+        // ========== ARRANGE ==========
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // ========== ACT ==========
+        streamer.stream(DataFormat.NDJSON, PaymentDTO.class, () -> Stream.of(payment, payment)).writeTo(output);
+
+        // ========== ASSERT ==========
+        String[] lines = output.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(output.toString().endsWith("\n"));
+        assertEquals("pay001", objectMapper.readTree(lines[1]).get("id").asText());
+    }
+
+    @Test
+    @DisplayName("NDJSON: un fallo a mitad de la lectura termina con una línea de error")
+    void testNdjson_ReadFailureWritesErrorLine() throws Exception {
+        // ========== ARRANGE ==========
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Stream<PaymentDTO> failing = Stream.concat(Stream.of(payment),
+                Stream.generate(() -> { throw new IllegalStateException("conexión perdida"); }));
+
+        // ========== ACT ==========
+        streamer.stream(DataFormat.NDJSON, PaymentDTO.class, () -> failing).writeTo(output);
+
+        // ========== ASSERT ==========
+        String[] lines = output.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("pay001", objectMapper.readTree(lines[0]).get("id").asText());
+        assertTrue(objectMapper.readTree(lines[1]).get("error").asBoolean());
+        assertFalse(lines[1].contains("conexión perdida"));
+    }
+
+    @Test
+    @DisplayName("CSV: al alcanzar el tiempo máximo termina con una línea #ERROR")
+    void testCsv_MaxDurationWritesErrorLine() throws Exception {
+        // ========== ARRANGE ==========
+        ExportStreamer limited = new ExportStreamer(objectMapper, transactionManager(), Duration.ofMillis(20), exportExecutor(2));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Stream<PaymentDTO> slow = Stream.generate(() -> {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return payment;
+        }).limit(1000);
+
+        // ========== ACT ==========
+        limited.stream(DataFormat.CSV, PaymentDTO.class, () -> slow).writeTo(output);
+
+        // ========== ASSERT ==========
+        String[] lines = output.toString().split("\r\n");
+        assertTrue(lines.length < 1000);
+        assertTrue(lines[lines.length - 1].startsWith("#ERROR,"), lines[lines.length - 1]);
+        assertTrue(lines[lines.length - 2].startsWith("pay001,"));
+    }
+
+    @Test
+    @DisplayName("Rechazar con 429 las exportaciones que exceden los hilos de exportExecutor")
+    void testStart_RejectsWhenAllSlotsAreTaken() throws Exception {
+        // ========== ARRANGE ==========
+        ExportStreamer single = new ExportStreamer(objectMapper, transactionManager(), Duration.ofMinutes(30), exportExecutor(1));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        WebAsyncTask<Void> running = single.start(response,
+                single.stream(DataFormat.NDJSON, PaymentDTO.class, () -> Stream.of(payment)));
+
+        // ========== ACT & ASSERT ==========
+        assertThrows(TooManyRequestsException.class, () -> single.start(new MockHttpServletResponse(), output -> { }));
+
+        // Al terminar la escritura el hilo vuelve a estar disponible
+        running.getCallable().call();
+        assertTrue(response.getContentAsString().startsWith("{\"id\":\"pay001\""));
+        assertNotNull(single.start(new MockHttpServletResponse(), output -> { }));
+    }
+
+    private static ThreadPoolTaskExecutor exportExecutor(int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setMaxPoolSize(threads);
+        return executor;
+    }
+
+    private static PlatformTransactionManager transactionManager() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        return transactionManager;
+    }
+}
@@ -0,0 +1,73 @@
+package co.edu.uniquindio.application.controllers;
+
+import co.edu.uniquindio.application.dto.ResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * PRUEBAS UNITARIAS del JsonArrayStreamer
+ *
+ * - La salida en streaming es idéntica a serializar un ResponseDTO con la lista
+ * - El Stream se cierra al terminar y se lee en una transacción de solo lectura
+ */
+public class JsonArrayStreamerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PlatformTransactionManager transactionManager;
+    private JsonArrayStreamer streamer;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        streamer = new JsonArrayStreamer(objectMapper, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Escribe las filas con la misma forma que ResponseDTO y cierra el Stream")
+    void testStream_SameShapeAsResponseDTO() throws Exception {
+        // ========== ARRANGE ==========
+        List<Map<String, Object>> rows = List.of(
+                Map.of("id", "acc001", "pricePerNight", 150000.0),
+                Map.of("id", "acc002", "pricePerNight", 200000.0));
+        AtomicBoolean closed = new AtomicBoolean(false);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // ========== ACT ==========
+        streamer.stream(() -> rows.stream().onClose(() -> closed.set(true))).writeTo(output);
+
+        // ========== ASSERT ==========
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(new ResponseDTO<>(false, rows))),
+                objectMapper.readTree(output.toByteArray()));
+        assertTrue(closed.get());
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    @DisplayName("Sin filas responde un arreglo vacío")
+    void testStream_Empty() throws Exception {
+        // ========== ARRANGE ==========
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // ========== ACT ==========
+        streamer.stream(Stream::empty).writeTo(output);
+
+        // ========== ASSERT ==========
+        assertEquals("{\"error\":false,\"content\":[]}", output.toString());
+    }
+}
@@ -0,0 +1,310 @@
+package co.edu.uniquindio.application.repositories;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ASESOR DE ÍNDICES de los repositorios
+ *
+ * Ejecuta cada método con @Query de lectura contra la base de datos de pruebas,
+ * captura el SQL que genera Hibernate junto con sus parámetros y le pide el plan
+ * a MariaDB con EXPLAIN en la misma transacción que cargó dataset.sql. Falla si alguna tabla se recorre completa (type = ALL)
+ * y si alguna de las consultas calientes de HOT_QUERIES ordena con filesort.
+ *
+ * Con pocos datos el optimizador prefiere recorrer la tabla aunque exista un
+ * índice; el EXPLAIN se hace con max_seeks_for_key = 1, que abarata los accesos
+ * por índice en el modelo de costos, para obtener el plan que tendría la consulta
+ * con tablas grandes y no el del dataset de prueba.
+ *
+ * Los recorridos completos que sean intencionales se declaran en ALLOWED_FULL_SCANS
+ * ("Repositorio.metodo" → motivo).
+ */
+@SpringBootTest
+@Transactional
+@Sql("classpath:dataset.sql")
+public class IndexAdvisorTest {
+
+    private static final Map<String, String> ALLOWED_FULL_SCANS = Map.ofEntries(
+            Map.entry("AccommodationRepository.findAllAccommodationDTOs", "listado completo"),
+            Map.entry("AccommodationRepository.streamAllAccommodationDTOs", "listado completo en streaming"),
+            Map.entry("AccommodationRepository.findAccommodationDTOsByTitleContaining", "LIKE con comodín inicial"),
+            Map.entry("ReservationRepository.findAllReservationDTOs", "listado completo"),
+            Map.entry("ReservationRepository.streamAllReservationDTOs", "listado completo en streaming"),
+            Map.entry("ReviewRepository.findAllReviewDTOs", "listado completo"),
+            Map.entry("ReviewRepository.streamAllReviewDTOs", "listado completo en streaming"),
+            Map.entry("FavoriteRepository.findAllFavoriteDTOs", "listado completo"),
+            Map.entry("MessageRepository.findAllMessageDTOs", "listado completo"),
+            Map.entry("MessageRepository.streamAllMessageDTOs", "listado completo en streaming")
+    );
+
+    // Consultas de cada petición o de los trabajos por lotes: su ORDER BY debe salir del índice
+    private static final Map<String, String> HOT_QUERIES = Map.ofEntries(
+            Map.entry("UserRepository.findPage", "listado de administración por keyset"),
+            Map.entry("MessageRepository.findByChatIdOrderByDate", "historial de un chat"),
+            Map.entry("MessageRepository.findMessageDTOsByChatIdOrderByDate", "historial de un chat"),
+            Map.entry("AccommodationRepository.findMostPopular", "portada"),
+            Map.entry("AccommodationRepository.findMostPopularAccommodationDTOs", "portada"),
+            Map.entry("ReservationRepository.findCompletableIds", "lotes del ciclo de vida"),
+            Map.entry("ReservationRepository.findExpirableIds", "lotes del ciclo de vida")
+    );
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Ninguna consulta recorre una tabla completa y las calientes no ordenan con filesort")
+    void testRepositoryQueries_UseIndexes() throws Exception {
+        List<String> problems = new ArrayList<>();
+        Repositories repositories = new Repositories(applicationContext);
+
+        for (Class<?> domainType : repositories) {
+            Class<?> repositoryInterface = repositories.getRequiredRepositoryInformation(domainType)
+                    .getRepositoryInterface();
+            Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+
+            for (Method method : repositoryInterface.getDeclaredMethods()) {
+                Query query = method.getAnnotation(Query.class);
+                if (query == null || method.isAnnotationPresent(Modifying.class)
+                        || !query.value().trim().toLowerCase(Locale.ROOT).startsWith("select")) {
+                    continue;
+                }
+
+                String name = repositoryInterface.getSimpleName() + "." + method.getName();
+                if (ALLOWED_FULL_SCANS.containsKey(name)) {
+                    continue;
+                }
+
+                for (CapturedStatement statement : capture(repository, method)) {
+                    for (PlanRow row : explain(statement)) {
+                        if ("ALL".equals(row.type())) {
+                            problems.add(name + " recorre '" + row.table() + "' completa: " + statement.sql());
+                        }
+                        if (HOT_QUERIES.containsKey(name) && row.extra() != null && row.extra().contains("Using filesort")) {
+                            problems.add(name + " ordena '" + row.table() + "' con filesort: " + statement.sql());
+                        }
+                    }
+                }
+            }
+        }
+
+        assertTrue(problems.isEmpty(), "Consultas con planes costosos:\n" + String.join("\n", problems));
+    }
+
+    // Invoca el método con argumentos de ejemplo y devuelve las sentencias SELECT que generó
+    private List<CapturedStatement> capture(Object repository, Method method) throws Exception {
+        List<CapturedStatement> captured = StatementRecorder.start();
+        try {
+            Object result = method.invoke(repository, sampleArguments(method));
+            // Los Stream mantienen abiertos el cursor y la conexión hasta que se cierran
+            if (result instanceof Stream<?> stream) {
+                try (stream) {
+                    stream.findFirst();
+                }
+            }
+        } catch (InvocationTargetException e) {
+            throw new AssertionError("No se pudo ejecutar " + method, e.getCause());
+        } finally {
+            StatementRecorder.stop();
+        }
+        return captured;
+    }
+
+    private List<PlanRow> explain(CapturedStatement statement) throws Exception {
+        List<PlanRow> rows = new ArrayList<>();
+
+        // La conexión de la transacción de la prueba: otra conexión no vería los datos
+        // de dataset.sql, que no están confirmados, y el plan sería el de tablas vacías
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            try (Statement session = connection.createStatement()) {
+                session.execute("SET SESSION max_seeks_for_key = 1");
+            }
+
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+                for (Map.Entry<Integer, Object> parameter : statement.parameters().entrySet()) {
+                    if (parameter.getValue() == null) {
+                        explain.setNull(parameter.getKey(), Types.NULL);
+                    } else {
+                        explain.setObject(parameter.getKey(), parameter.getValue());
+                    }
+                }
+
+                try (ResultSet plan = explain.executeQuery()) {
+                    while (plan.next()) {
+                        String table = plan.getString("table");
+                        // Las tablas derivadas o materializadas (<subquery2>, <derived3>) no tienen índices propios
+                        if (table == null || table.startsWith("<")) {
+                            continue;
+                        }
+                        rows.add(new PlanRow(table, plan.getString("type"), plan.getString("Extra")));
+                    }
+                }
+            } finally {
+                // La conexión sigue en uso por la transacción: se restaura el valor por defecto
+                try (Statement session = connection.createStatement()) {
+                    session.execute("SET SESSION max_seeks_for_key = DEFAULT");
+                }
+            }
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+        return rows;
+    }
+
+    private static Object[] sampleArguments(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        Object[] arguments = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            arguments[i] = sampleValue(types[i]);
+        }
+        return arguments;
+    }
+
+    private static Object sampleValue(Class<?> type) {
+        if (type == String.class) return "u001";
+        if (type == Integer.class || type == int.class) return 10;
+        if (type == Long.class || type == long.class) return 10L;
+        if (type == Double.class || type == double.class) return 1.0;
+        if (type == Boolean.class || type == boolean.class) return true;
+        if (type == BigDecimal.class) return BigDecimal.ONE;
+        if (type == LocalDate.class) return LocalDate.now();
+        if (type == LocalDateTime.class) return LocalDateTime.now();
+        if (type.isEnum()) return type.getEnumConstants()[0];
+        if (Pageable.class.isAssignableFrom(type)) return PageRequest.of(0, 10);
+        if (Sort.class.isAssignableFrom(type)) return Sort.unsorted();
+        if (Limit.class.isAssignableFrom(type)) return Limit.of(10);
+        if (Collection.class.isAssignableFrom(type)) return List.of("u001", "acc001");
+        return null;
+    }
+
+    record CapturedStatement(String sql, Map<Integer, Object> parameters) {
+    }
+
+    record PlanRow(String table, String type, String extra) {
+    }
+
+    /**
+     * Registra el SQL y los parámetros de cada PreparedStatement mientras hay una
+     * captura activa en el hilo actual.
+     */
+    static final class StatementRecorder {
+
+        private static final ThreadLocal<List<CapturedStatement>> CURRENT = new ThreadLocal<>();
+
+        static List<CapturedStatement> start() {
+            List<CapturedStatement> captured = new ArrayList<>();
+            CURRENT.set(captured);
+            return captured;
+        }
+
+        static void stop() {
+            CURRENT.remove();
+        }
+
+        static Connection wrap(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                            return wrap(statement, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement wrap(PreparedStatement statement, String sql) {
+            Map<Integer, Object> parameters = new TreeMap<>();
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                            parameters.put(index, name.equals("setNull") ? null : args[1]);
+                        } else if (name.equals("clearParameters")) {
+                            parameters.clear();
+                        } else if (name.startsWith("execute") && CURRENT.get() != null
+                                && sql.trim().toLowerCase(Locale.ROOT).startsWith("select")) {
+                            CURRENT.get().add(new CapturedStatement(sql, new TreeMap<>(parameters)));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource target && !(bean instanceof DelegatingDataSource)) {
+                        return new DelegatingDataSource(target) {
+                            @Override
+                            public Connection getConnection() throws SQLException {
+                                return StatementRecorder.wrap(super.getConnection());
+                            }
+
+                            @Override
+                            public Connection getConnection(String username, String password) throws SQLException {
+                                return StatementRecorder.wrap(super.getConnection(username, password));
+                            }
+                        };
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package co.edu.uniquindio.application.security;
+
+import co.edu.uniquindio.application.models.entitys.IdempotencyRecord;
+import co.edu.uniquindio.application.repositories.IdempotencyRecordRepository;
+import co.edu.uniquindio.application.services.impl.IdempotencyServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * PRUEBAS UNITARIAS de IdempotencyFilter
+ *
+ * El filtro se ejecuta con el IdempotencyServiceImpl real sobre un repositorio en
+ * memoria que respeta la llave primaria, igual que la tabla idempotency_records.
+ */
+public class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"reservationId\":\"res001\",\"amount\":150000}";
+
+    private final Map<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+        when(repository.findById(anyString())).thenAnswer(inv -> Optional.ofNullable(records.get(inv.<String>getArgument(0))));
+        when(repository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(inv -> {
+            IdempotencyRecord record = inv.getArgument(0);
+            if (records.putIfAbsent(record.getId(), record) != null) {
+                throw new DataIntegrityViolationException("Duplicate entry");
+            }
+            return record;
+        });
+        when(repository.save(any(IdempotencyRecord.class))).thenAnswer(inv -> {
+            IdempotencyRecord record = inv.getArgument(0);
+            records.put(record.getId(), record);
+            return record;
+        });
+        doAnswer(inv -> records.remove(inv.<String>getArgument(0))).when(repository).deleteById(anyString());
+
+        IdempotencyServiceImpl idempotencyService = new IdempotencyServiceImpl(repository);
+        ReflectionTestUtils.setField(idempotencyService, "ttlHours", 24L);
+        filter = new IdempotencyFilter(idempotencyService, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Repetir la respuesta guardada sin volver a ejecutar la operación")
+    void testReplay() throws Exception {
+        // ========== ARRANGE ==========
+        FilterChain chain = respondWith(201, "{\"error\":false,\"content\":\"pay001\"}");
+        filter.doFilter(request("key-1", BODY), new MockHttpServletResponse(), chain);
+
+        // ========== ACT ==========
+        MockHttpServletResponse retry = new MockHttpServletResponse();
+        filter.doFilter(request("key-1", BODY), retry, chain);
+
+        // ========== ASSERT ==========
+        assertEquals(1, executions.get());
+        assertEquals(201, retry.getStatus());
+        assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals("{\"error\":false,\"content\":\"pay001\"}", retry.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Responder 409 a un reintento mientras la petición original sigue en curso")
+    void testConcurrentInFlightKey() throws Exception {
+        // ========== ARRANGE ==========
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        FilterChain slowChain = (req, res) -> {
+            started.countDown();
+            try {
+                finish.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respondWith(201, "{\"error\":false,\"content\":\"pay001\"}").doFilter(req, res);
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> original = executor.submit(() -> {
+            filter.doFilter(request("key-1", BODY), new MockHttpServletResponse(), slowChain);
+            return null;
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // ========== ACT ==========
+        MockHttpServletResponse concurrent = new MockHttpServletResponse();
+        filter.doFilter(request("key-1", BODY), concurrent, respondWith(201, "{}"));
+        finish.countDown();
+        original.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // ========== ASSERT ==========
+        assertEquals(409, concurrent.getStatus());
+        assertTrue(concurrent.getContentAsString(StandardCharsets.UTF_8).contains("aún se está procesando"));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Rechazar una clave reutilizada con un cuerpo diferente")
+    void testPayloadMismatch() throws Exception {
+        // ========== ARRANGE ==========
+        FilterChain chain = respondWith(201, "{\"error\":false,\"content\":\"pay001\"}");
+        filter.doFilter(request("key-1", BODY), new MockHttpServletResponse(), chain);
+
+        // ========== ACT ==========
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("key-1", BODY.replace("150000", "1")), response, chain);
+
+        // ========== ASSERT ==========
+        assertEquals(409, response.getStatus());
+        assertTrue(response.getContentAsString(StandardCharsets.UTF_8).contains("petición diferente"));
+        assertNull(response.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("No guardar un 409 de la operación: el reintento se vuelve a ejecutar")
+    void testConflictResponseStaysRetryable() throws Exception {
+        // ========== ARRANGE ==========
+        filter.doFilter(request("key-1", BODY), new MockHttpServletResponse(),
+                respondWith(409, "{\"error\":true,\"content\":\"El recurso fue modificado por otra petición.\"}"));
+
+        // ========== ACT ==========
+        MockHttpServletResponse retry = new MockHttpServletResponse();
+        filter.doFilter(request("key-1", BODY), retry, respondWith(201, "{\"error\":false,\"content\":\"pay001\"}"));
+
+        // ========== ASSERT ==========
+        assertEquals(2, executions.get());
+        assertEquals(201, retry.getStatus());
+        assertNull(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("Guardar solo los 2xx y los 4xx deterministas")
+    void testIsFinal() {
+        assertTrue(IdempotencyFilter.isFinal(200));
+        assertTrue(IdempotencyFilter.isFinal(201));
+        assertTrue(IdempotencyFilter.isFinal(400));
+        assertTrue(IdempotencyFilter.isFinal(404));
+        assertFalse(IdempotencyFilter.isFinal(401));
+        assertFalse(IdempotencyFilter.isFinal(409));
+        assertFalse(IdempotencyFilter.isFinal(429));
+        assertFalse(IdempotencyFilter.isFinal(500));
+        assertFalse(IdempotencyFilter.isFinal(503));
+    }
+
+    @Test
+    @DisplayName("Notificar al ReadListener que el cuerpo está disponible y completo")
+    void testReadListener() throws Exception {
+        // ========== ARRANGE ==========
+        ReadListener listener = mock(ReadListener.class);
+        FilterChain chain = (req, res) -> {
+            ServletInputStream input = req.getInputStream();
+            doAnswer(inv -> input.readAllBytes()).when(listener).onDataAvailable();
+            input.setReadListener(listener);
+            ((HttpServletResponse) res).setStatus(200);
+        };
+
+        // ========== ACT ==========
+        filter.doFilter(request("key-1", BODY), new MockHttpServletResponse(), chain);
+
+        // ========== ASSERT ==========
+        verify(listener).onDataAvailable();
+        verify(listener).onAllDataRead();
+        verify(listener, never()).onError(any());
+    }
+
+    private MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/payments");
+        request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private FilterChain respondWith(int status, String body) {
+        return (req, res) -> {
+            executions.incrementAndGet();
+            req.getInputStream().readAllBytes();
+            HttpServletResponse response = (HttpServletResponse) res;
+            response.setStatus(status);
+            response.setContentType("application/json");
+            response.getWriter().write(body);
+        };
+    }
+}
@@ -0,0 +1,215 @@
+package co.edu.uniquindio.application.services.integration;
+
+import co.edu.uniquindio.application.models.entitys.Accommodation;
+import co.edu.uniquindio.application.models.entitys.Chat;
+import co.edu.uniquindio.application.models.entitys.Message;
+import co.edu.uniquindio.application.models.entitys.Reservation;
+import co.edu.uniquindio.application.models.entitys.User;
+import co.edu.uniquindio.application.models.enums.ReservationStatus;
+import co.edu.uniquindio.application.repositories.MessageRepository;
+import co.edu.uniquindio.application.repositories.ReservationRepository;
+import co.edu.uniquindio.application.utils.UuidV7;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BENCHMARK de inserciones en reservas y mensajes
+ *
+ * Mide por separado los dos cambios de la configuración actual insertando las
+ * mismas filas con saveAll y contando filas por segundo hasta el flush:
+ * - Lotes JDBC: UUID v4 con lotes de 50 frente a UUID v4 fila por fila
+ * - Ids ordenados: UUID v7 frente a UUID v4, los dos fila por fila
+ * Cada escenario se repite varias rondas en orden rotado y se toma su mejor
+ * resultado. Todo ocurre dentro de la transacción de la prueba, así que no deja
+ * datos en la base.
+ *
+ * Falla si los lotes no aceleran al menos benchmark.min-batch-speedup veces o si
+ * los UUID v7 quedan por debajo de benchmark.min-id-ratio respecto a los v4. El
+ * efecto de los ids crece con el tamaño de la tabla frente al buffer pool, por eso
+ * el umbral por defecto solo exige que no empeoren.
+ *
+ * No se ejecuta con el resto de las pruebas:
+ * ./gradlew test --tests '*InsertThroughputBenchmarkTest' -Pbenchmark [-Pbenchmark.rows=50000]
+ */
+@SpringBootTest
+@Transactional
+@Sql("classpath:dataset.sql")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class InsertThroughputBenchmarkTest {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int WARMUP_ROWS = 2000;
+    private static final int ROUNDS = 3;
+    // Marcas para borrar solo las filas del benchmark entre escenarios
+    private static final String MARKER = "benchmark";
+    private static final LocalDate MARKER_CHECK_IN = LocalDate.of(2999, 1, 1);
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Redondeado a bloques completos
+    private final int rows = Math.max(1, Integer.getInteger("benchmark.rows", 20000) / CHUNK_SIZE) * CHUNK_SIZE;
+    private final double minBatchSpeedup = Double.parseDouble(System.getProperty("benchmark.min-batch-speedup", "1.2"));
+    private final double minIdRatio = Double.parseDouble(System.getProperty("benchmark.min-id-ratio", "0.9"));
+
+    private String chatId;
+
+    @BeforeEach
+    void setUp() {
+        Chat chat = Chat.builder()
+                .id(UuidV7.generate())
+                .active(true)
+                .users(new ArrayList<>(List.of(
+                        entityManager.getReference(User.class, "u001"),
+                        entityManager.getReference(User.class, "u002"))))
+                .build();
+        entityManager.persist(chat);
+        entityManager.flush();
+        chatId = chat.getId();
+    }
+
+    @Test
+    @DisplayName("Inserción de reservas: efecto de los lotes y de los UUID v7 por separado")
+    void benchmarkReservationInserts() {
+        compare("reservation",
+                id -> reservationRepository.saveAll(reservations(id)),
+                () -> entityManager.createQuery("delete from Reservation r where r.checkInDate = :marker")
+                        .setParameter("marker", MARKER_CHECK_IN).executeUpdate());
+    }
+
+    @Test
+    @DisplayName("Inserción de mensajes: efecto de los lotes y de los UUID v7 por separado")
+    void benchmarkMessageInserts() {
+        compare("message",
+                id -> messageRepository.saveAll(messages(id)),
+                () -> entityManager.createQuery("delete from Message m where m.content = :marker")
+                        .setParameter("marker", MARKER).executeUpdate());
+    }
+
+    private void compare(String table, Function<Supplier<String>, List<?>> insertChunk, Supplier<Integer> cleanUp) {
+        Supplier<String> v4 = () -> UUID.randomUUID().toString();
+        Supplier<String> v7 = UuidV7::generate;
+        List<Scenario> scenarios = List.of(
+                new Scenario("UUID v4, sin lotes", v4, 1),
+                new Scenario("UUID v4, lotes de 50", v4, 50),
+                new Scenario("UUID v7, sin lotes", v7, 1));
+
+        // Calentamiento del JIT y del buffer pool antes de medir
+        run(WARMUP_ROWS, v7, 50, insertChunk);
+        cleanUp.get();
+
+        // Se rota el orden en cada ronda para que ningún escenario mida siempre con la tabla más grande
+        Map<Scenario, Double> best = new LinkedHashMap<>();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < scenarios.size(); i++) {
+                Scenario scenario = scenarios.get((i + round) % scenarios.size());
+                double rate = run(rows, scenario.ids(), scenario.batchSize(), insertChunk);
+                assertEquals(rows, cleanUp.get());
+                best.merge(scenario, rate, Math::max);
+            }
+        }
+
+        double baseline = best.get(scenarios.get(0));
+        double batchSpeedup = best.get(scenarios.get(1)) / baseline;
+        double idRatio = best.get(scenarios.get(2)) / baseline;
+
+        System.out.printf("%n[benchmark] %s, %d filas, mejor de %d rondas%n", table, rows, ROUNDS);
+        best.forEach((scenario, rate) -> System.out.printf("  %-22s %,10.0f filas/s  (x%.2f)%n",
+                scenario.name(), rate, rate / baseline));
+
+        assertTrue(batchSpeedup >= minBatchSpeedup, String.format(
+                "Los lotes de 50 solo aceleran x%.2f (mínimo x%.2f)", batchSpeedup, minBatchSpeedup));
+        assertTrue(idRatio >= minIdRatio, String.format(
+                "Los UUID v7 rinden x%.2f frente a los v4 (mínimo x%.2f)", idRatio, minIdRatio));
+    }
+
+    private record Scenario(String name, Supplier<String> ids, int batchSize) {
+    }
+
+    // Inserta en bloques con flush + clear para que el contexto de persistencia no crezca
+    private double run(int total, Supplier<String> ids, int batchSize,
+                       Function<Supplier<String>, List<?>> insertChunk) {
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchSize);
+        try {
+            long start = System.nanoTime();
+            for (int inserted = 0; inserted < total; inserted += CHUNK_SIZE) {
+                insertChunk.apply(ids);
+                entityManager.flush();
+                entityManager.clear();
+            }
+            return total / ((System.nanoTime() - start) / 1_000_000_000.0);
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+
+    private List<Reservation> reservations(Supplier<String> ids) {
+        Accommodation accommodation = entityManager.getReference(Accommodation.class, "acc001");
+        User guest = entityManager.getReference(User.class, "u001");
+
+        List<Reservation> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+            chunk.add(Reservation.builder()
+                    .id(ids.get())
+                    .checkInDate(MARKER_CHECK_IN)
+                    .checkOutDate(MARKER_CHECK_IN.plusDays(2))
+                    .numberOfGuests(2)
+                    .totalPrice(300000.0)
+                    .status(ReservationStatus.PENDING)
+                    .accommodation(accommodation)
+                    .guest(guest)
+                    .build());
+        }
+        return chunk;
+    }
+
+    private List<Message> messages(Supplier<String> ids) {
+        Chat chat = entityManager.getReference(Chat.class, chatId);
+        User sender = entityManager.getReference(User.class, "u001");
+        User recipient = entityManager.getReference(User.class, "u002");
+
+        List<Message> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+            chunk.add(Message.builder()
+                    .id(ids.get())
+                    .content(MARKER)
+                    .sentAt(LocalDateTime.now())
+                    .isRead(false)
+                    .chat(chat)
+                    .sender(sender)
+                    .recipient(recipient)
+                    .build());
+        }
+        return chunk;
+    }
+}
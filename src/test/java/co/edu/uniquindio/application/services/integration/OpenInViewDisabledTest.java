@@ -0,0 +1,104 @@
+package co.edu.uniquindio.application.services.integration;
+
+import co.edu.uniquindio.application.dto.ChatDTO;
+import co.edu.uniquindio.application.dto.FavoriteDTO;
+import co.edu.uniquindio.application.dto.HostProfileDTO;
+import co.edu.uniquindio.application.dto.MessageDTO;
+import co.edu.uniquindio.application.dto.ReservationDTO;
+import co.edu.uniquindio.application.dto.ReviewDTO;
+import co.edu.uniquindio.application.services.ChatService;
+import co.edu.uniquindio.application.services.FavoriteService;
+import co.edu.uniquindio.application.services.HostProfileService;
+import co.edu.uniquindio.application.services.MessageService;
+import co.edu.uniquindio.application.services.ReservationService;
+import co.edu.uniquindio.application.services.ReviewService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PRUEBAS DE INTEGRACIÓN de las lecturas con spring.jpa.open-in-view=false
+ *
+ * Sin open-in-view (obligatorio con réplicas de lectura) el contexto de persistencia
+ * se cierra al terminar la transacción del servicio: mapear después una asociación
+ * LAZY lanza LazyInitializationException. La clase no es @Transactional porque una
+ * transacción de prueba mantendría la sesión abierta y ocultaría el error; los datos
+ * se confirman con dataset.sql y se borran al final con cleanup.sql.
+ */
+@SpringBootTest(properties = "spring.jpa.open-in-view=false")
+@Sql("classpath:dataset.sql")
+@Sql(scripts = "classpath:cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class OpenInViewDisabledTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private FavoriteService favoriteService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private HostProfileService hostProfileService;
+
+    @Autowired
+    private MessageService messageService;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("get() de reservas, favoritos, reseñas y perfiles mapea sus asociaciones LAZY")
+    void testGet_MapsLazyAssociations() throws Exception {
+        // ========== ARRANGE ==========
+        Long reviewId = jdbcTemplate.queryForObject(
+                "SELECT id FROM review WHERE reservation_id = 'res001'", Long.class);
+
+        // ========== ACT ==========
+        ReservationDTO reservation = reservationService.get("res001");
+        FavoriteDTO favorite = favoriteService.get("fav001");
+        ReviewDTO review = reviewService.get(reviewId);
+        HostProfileDTO hostProfile = hostProfileService.get("hp001");
+
+        // ========== ASSERT ==========
+        assertEquals("María Gómez", reservation.guestName());
+        assertNotNull(reservation.accommodationTitle());
+        assertEquals("María Gómez", favorite.userName());
+        assertNotNull(favorite.accommodationTitle());
+        assertEquals("María Gómez", review.userName());
+        assertEquals("Juan Pérez", hostProfile.userName());
+    }
+
+    @Test
+    @DisplayName("get() de mensajes y chats mapea participantes y mensajes")
+    void testGet_MessagesAndChats() throws Exception {
+        // ========== ARRANGE ==========
+        jdbcTemplate.update("INSERT INTO chat (id, created_at, active) VALUES ('chat001', NOW(), 1)");
+        jdbcTemplate.update("INSERT INTO chat_users (chat_id, user_id) VALUES ('chat001', 'u001'), ('chat001', 'u002')");
+        jdbcTemplate.update("INSERT INTO message (id, content, sent_at, is_read, chat_id, sender_id, recipient_id) "
+                + "VALUES ('msg001', 'Hola', NOW(), 0, 'chat001', 'u001', 'u002')");
+
+        // ========== ACT ==========
+        MessageDTO message = messageService.get("msg001");
+        ChatDTO chat = chatService.get("chat001");
+        List<ChatDTO> chats = chatService.listByUser("u001");
+
+        // ========== ASSERT ==========
+        assertEquals("María Gómez", message.senderName());
+        assertEquals("Juan Pérez", message.recipientName());
+        assertEquals(1L, chat.messageCount());
+        assertTrue(chat.participantNames().containsAll(List.of("María Gómez", "Juan Pérez")));
+        assertEquals(1, chats.size());
+    }
+}
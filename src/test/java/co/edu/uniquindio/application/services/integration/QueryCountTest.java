@@ -0,0 +1,144 @@
+package co.edu.uniquindio.application.services.integration;
+
+import co.edu.uniquindio.application.dto.AccommodationDTO;
+import co.edu.uniquindio.application.dto.FavoriteDTO;
+import co.edu.uniquindio.application.dto.ReservationDTO;
+import co.edu.uniquindio.application.dto.ReviewDTO;
+import co.edu.uniquindio.application.services.AccommodationService;
+import co.edu.uniquindio.application.services.FavoriteService;
+import co.edu.uniquindio.application.services.ReservationService;
+import co.edu.uniquindio.application.services.ReviewService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PRUEBAS DE INTEGRACIÓN del número de consultas SQL
+ *
+ * Las relaciones a-uno son LAZY y los listados construyen su DTO directamente en
+ * la consulta (SELECT new ...). Estas pruebas cuentan las sentencias que Hibernate prepara
+ * durante cada método de servicio, así una relación que vuelva a cargarse fila
+ * por fila (N+1) hace fallar la prueba en lugar de pasar desapercibida.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@Sql("classpath:dataset.sql")
+public class QueryCountTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private FavoriteService favoriteService;
+
+    @Autowired
+    private AccommodationService accommodationService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Listar reservas de un huésped: validación + una consulta con alojamiento y huésped")
+    void testListByGuest_QueryCount() throws Exception {
+        // ========== ACT ==========
+        List<ReservationDTO> reservations = countStatements(2, () -> reservationService.listByGuest("u001"));
+
+        // ========== ASSERT ==========
+        assertEquals(2, reservations.size());
+        assertTrue(reservations.stream().allMatch(r -> r.accommodationTitle() != null && r.guestName() != null));
+    }
+
+    @Test
+    @DisplayName("Listar todas las reservas en una sola consulta")
+    void testListAllReservations_QueryCount() throws Exception {
+        // ========== ACT ==========
+        List<ReservationDTO> reservations = countStatements(1, () -> reservationService.listAll());
+
+        // ========== ASSERT ==========
+        assertEquals(2, reservations.size());
+    }
+
+    @Test
+    @DisplayName("Listar reseñas de un alojamiento sin cargar el autor por cada reseña")
+    void testListReviewsByAccommodation_QueryCount() throws Exception {
+        // ========== ACT ==========
+        List<ReviewDTO> reviews = countStatements(2, () -> reviewService.listByAccommodation("acc001"));
+
+        // ========== ASSERT ==========
+        assertEquals(1, reviews.size());
+        assertNotNull(reviews.get(0).userName());
+    }
+
+    @Test
+    @DisplayName("Listar favoritos de un alojamiento con usuario y alojamiento en la misma consulta")
+    void testListFavoritesByAccommodation_QueryCount() throws Exception {
+        // ========== ACT ==========
+        List<FavoriteDTO> favorites = countStatements(2, () -> favoriteService.listByAccommodation("acc001"));
+
+        // ========== ASSERT ==========
+        assertEquals(1, favorites.size());
+        assertNotNull(favorites.get(0).userName());
+        assertNotNull(favorites.get(0).accommodationTitle());
+    }
+
+    @Test
+    @DisplayName("Listar alojamientos paginados con el anfitrión tomado de la llave foránea")
+    void testListAccommodationsPaginated_QueryCount() throws Exception {
+        // ========== ACT ==========
+        Page<AccommodationDTO> page = countStatements(1,
+                () -> accommodationService.listAllPaginated(PageRequest.of(0, 10)));
+
+        // ========== ASSERT ==========
+        assertEquals(2, page.getTotalElements());
+        assertTrue(page.getContent().stream().allMatch(a -> a.hostId() != null));
+    }
+
+    /**
+     * Ejecuta la acción con el contexto de persistencia vacío (como en una petición
+     * nueva) y verifica el número exacto de sentencias SQL preparadas.
+     */
+    private <T> T countStatements(long expected, ServiceCall<T> call) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        T result = call.execute();
+
+        assertEquals(expected, statistics.getPrepareStatementCount(),
+                "Número de sentencias SQL inesperado");
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface ServiceCall<T> {
+        T execute() throws Exception;
+    }
+}
@@ -0,0 +1,63 @@
+package co.edu.uniquindio.application.services.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * PRUEBA DE INTEGRACIÓN del enrutamiento a réplicas con dos instancias locales
+ *
+ * La réplica es cualquier otra instancia de MariaDB con el esquema migrado (no hace
+ * falta configurar replicación: datasource.replicas.allow-standalone la acepta). Cada transacción pregunta a qué base está conectada
+ * (host, puerto y nombre) y se comprueba que las de solo lectura no llegan al primario.
+ *
+ * No se ejecuta con el resto de las pruebas:
+ * ./gradlew test --tests '*ReadReplicaRoutingTest' -Preplica.url=jdbc:mariadb://localhost:3307/accommodation_db
+ */
+@SpringBootTest(properties = {
+        "datasource.replicas.enabled=true",
+        "datasource.replicas.urls=${replica.url}",
+        "datasource.replicas.allow-standalone=true",
+        "spring.jpa.open-in-view=false"
+})
+@EnabledIfSystemProperty(named = "replica.url", matches = ".+")
+public class ReadReplicaRoutingTest {
+
+    private static final String WHERE_AM_I = "SELECT CONCAT(@@hostname, ':', @@port, '/', DATABASE())";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Las transacciones de solo lectura van a la réplica y las de escritura al primario")
+    void testReadOnlyTransactionsUseReplica() {
+        // ========== ACT ==========
+        String writeTarget = transactionTemplate.execute(status -> whereAmI());
+        String readTarget = readOnly().execute(status -> whereAmI());
+        String writeTargetAgain = transactionTemplate.execute(status -> whereAmI());
+
+        // ========== ASSERT ==========
+        assertNotEquals(writeTarget, readTarget);
+        assertEquals(writeTarget, writeTargetAgain);
+    }
+
+    private String whereAmI() {
+        return jdbcTemplate.queryForObject(WHERE_AM_I, String.class);
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        template.setReadOnly(true);
+        return template;
+    }
+}
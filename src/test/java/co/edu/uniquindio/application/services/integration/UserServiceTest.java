@@ -481,9 +481,9 @@ public class UserServiceTest {
     @Test
     @Sql("classpath:dataset.sql")
     @DisplayName("Listar todos los usuarios activos")
-    void testListActiveUsers() {
+    void testListActiveUsers() throws Exception {
         // ========== ACT ==========
-        var activeUsers = userService.listActiveUsers();
+        var activeUsers = userService.listActiveUsers(null, 50).items();
 
         // ========== ASSERT ==========
         assertNotNull(activeUsers);
@@ -499,9 +499,9 @@ public class UserServiceTest {
     @Test
     @Sql("classpath:dataset.sql")
     @DisplayName("Listar usuarios por estado INACTIVE")
-    void testListByStatus_Inactive() {
+    void testListByStatus_Inactive() throws Exception {
         // ========== ACT ==========
-        var inactiveUsers = userService.listByStatus(UserStatus.INACTIVE);
+        var inactiveUsers = userService.listByStatus(UserStatus.INACTIVE, null, 50).items();
 
         // ========== ASSERT ==========
         assertNotNull(inactiveUsers);
@@ -0,0 +1,198 @@
+package co.edu.uniquindio.application.services.unit;
+
+import co.edu.uniquindio.application.dto.BatchAccommodationImportDTO;
+import co.edu.uniquindio.application.exceptions.InvalidOperationException;
+import co.edu.uniquindio.application.mappers.AccommodationMapper;
+import co.edu.uniquindio.application.models.entitys.Accommodation;
+import co.edu.uniquindio.application.models.entitys.User;
+import co.edu.uniquindio.application.models.enums.DataFormat;
+import co.edu.uniquindio.application.models.enums.Role;
+import co.edu.uniquindio.application.repositories.AccommodationRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.services.AuthService;
+import co.edu.uniquindio.application.services.impl.AccommodationImportServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * PRUEBAS UNITARIAS de la importación masiva de alojamientos
+ *
+ * Verifica que las filas se guardan por bloques con un saveAll por bloque y que
+ * los errores de formato y de validación se reportan con su número de línea.
+ */
+public class AccommodationImportTest {
+
+    private static final String CSV_HEADER =
+            "title,description,city,address,latitude,longitude,pricePerNight,maxCapacity,amenities\n";
+
+    private AccommodationRepository accommodationRepository;
+    private UserRepository userRepository;
+    private AuthService authService;
+    private ExecutorService executor;
+    private AccommodationImportServiceImpl importService;
+    private final List<Accommodation> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        accommodationRepository = mock(AccommodationRepository.class);
+        userRepository = mock(UserRepository.class);
+        authService = mock(AuthService.class);
+        executor = Executors.newFixedThreadPool(4);
+
+        importService = new AccommodationImportServiceImpl(accommodationRepository, userRepository,
+                Mappers.getMapper(AccommodationMapper.class), authService, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), event -> { }, executor);
+        ReflectionTestUtils.setField(importService, "chunkSize", 2);
+        ReflectionTestUtils.setField(importService, "maxRows", 100);
+        ReflectionTestUtils.setField(importService, "maxReportedErrors", 10);
+
+        when(authService.getAuthenticatedUserId()).thenReturn("u002");
+        when(userRepository.findById("u002")).thenReturn(Optional.of(User.builder().id("u002").role(Role.HOST).build()));
+        when(accommodationRepository.saveAll(any())).thenAnswer(invocation -> {
+            invocation.<List<Accommodation>>getArgument(0).forEach(saved::add);
+            return invocation.getArgument(0);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    private static InputStream input(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("CSV: guarda por bloques y reporta la fila inválida con su línea")
+    void testImportCsv_ChunksAndRowErrors() throws Exception {
+        // ========== ARRANGE ==========
+        String csv = CSV_HEADER
+                + "Cabaña,\"Vista al río, con \"\"jacuzzi\"\"\",Salento,Vereda 1,4.6,-75.5,180000,4,\"WiFi\nParqueadero\"\n"
+                + "Apartamento,Centro,Armenia,Cra 14,4.5,-75.6,-1,2,\n"
+                + "Finca,Café,Filandia,Km 3,4.6,-75.6,250000,8,\n";
+
+        // ========== ACT ==========
+        BatchAccommodationImportDTO result = importService.importAccommodations(input(csv), DataFormat.CSV);
+
+        // ========== ASSERT ==========
+        assertEquals(2, result.imported());
+        assertEquals(1, result.failed());
+        assertEquals(4, result.errors().get(0).line());  // el primer registro ocupa las líneas 2 y 3
+        assertTrue(result.errors().get(0).message().contains("pricePerNight"));
+
+        // Un saveAll por bloque de 2 filas leídas
+        verify(accommodationRepository, times(2)).saveAll(any());
+        Accommodation first = saved.get(0);
+        assertEquals("Vista al río, con \"jacuzzi\"", first.getDescription());
+        assertEquals("WiFi\nParqueadero", first.getAmenities());
+        assertNotNull(first.getId());
+        assertTrue(first.isNew());
+    }
+
+    @Test
+    @DisplayName("NDJSON: ignora líneas vacías y reporta el JSON mal formado")
+    void testImportNdjson_MalformedLine() throws Exception {
+        // ========== ARRANGE ==========
+        String ndjson = "{\"title\":\"Glamping\",\"description\":\"Domo\",\"city\":\"Salento\",\"address\":\"Boquía\","
+                + "\"latitude\":4.6,\"longitude\":-75.5,\"pricePerNight\":320000,\"maxCapacity\":2}\n"
+                + "\n"
+                + "{\"title\": \n";
+
+        // ========== ACT ==========
+        BatchAccommodationImportDTO result = importService.importAccommodations(input(ndjson), DataFormat.NDJSON);
+
+        // ========== ASSERT ==========
+        assertEquals(1, result.imported());
+        assertEquals(1, result.failed());
+        assertEquals(3, result.errors().get(0).line());
+        assertTrue(result.errors().get(0).message().startsWith("Formato inválido"));
+    }
+
+    @Test
+    @DisplayName("CSV: un campo entre comillas sin cerrar al final del archivo es un error de la fila")
+    void testImportCsv_UnterminatedQuoteAtEof() throws Exception {
+        // ========== ARRANGE ==========
+        String csv = CSV_HEADER
+                + "Finca,Café,Filandia,Km 3,4.6,-75.6,250000,8,\n"
+                + "Cabaña,\"Vista al río,Salento,Vereda 1,4.6,-75.5,180000,4,\n"
+                + "Apartamento,Centro,Armenia,Cra 14,4.5,-75.6,90000,2,\n";
+
+        // ========== ACT ==========
+        BatchAccommodationImportDTO result = importService.importAccommodations(input(csv), DataFormat.CSV);
+
+        // ========== ASSERT ==========
+        assertEquals(1, result.imported());
+        assertEquals(1, result.failed());
+        assertEquals(3, result.errors().get(0).line());
+        assertTrue(result.errors().get(0).message().contains("no se cierra"));
+    }
+
+    @Test
+    @DisplayName("CSV: un encabezado con columnas desconocidas o repetidas rechaza el archivo")
+    void testImportCsv_UnknownHeaderColumns() {
+        // ========== ARRANGE ==========
+        String unknown = "title,description,city,address,latitude,longitude,price,maxCapacity\n"
+                + "Finca,Café,Filandia,Km 3,4.6,-75.6,250000,8\n";
+        String repeated = "title,title,description,city,address,latitude,longitude,pricePerNight,maxCapacity\n"
+                + "Finca,Otra,Café,Filandia,Km 3,4.6,-75.6,250000,8\n";
+
+        // ========== ACT & ASSERT ==========
+        InvalidOperationException error = assertThrows(InvalidOperationException.class,
+                () -> importService.importAccommodations(input(unknown), DataFormat.CSV));
+        assertTrue(error.getMessage().contains("[price]"));
+        assertThrows(InvalidOperationException.class,
+                () -> importService.importAccommodations(input(repeated), DataFormat.CSV));
+        verify(accommodationRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("NDJSON: un campo desconocido es un error de la fila")
+    void testImportNdjson_UnknownField() throws Exception {
+        // ========== ARRANGE ==========
+        String ndjson = "{\"title\":\"Glamping\",\"description\":\"Domo\",\"city\":\"Salento\",\"address\":\"Boquía\","
+                + "\"latitude\":4.6,\"longitude\":-75.5,\"price\":320000,\"maxCapacity\":2}\n";
+
+        // ========== ACT ==========
+        BatchAccommodationImportDTO result = importService.importAccommodations(input(ndjson), DataFormat.NDJSON);
+
+        // ========== ASSERT ==========
+        assertEquals(0, result.imported());
+        assertEquals(1, result.failed());
+        assertTrue(result.errors().get(0).message().contains("price"));
+    }
+
+    @Test
+    @DisplayName("Un usuario GUEST no puede importar alojamientos")
+    void testImport_GuestRejected() {
+        // ========== ARRANGE ==========
+        when(userRepository.findById("u002")).thenReturn(Optional.of(User.builder().id("u002").role(Role.GUEST).build()));
+
+        // ========== ACT & ASSERT ==========
+        assertThrows(InvalidOperationException.class,
+                () -> importService.importAccommodations(input(CSV_HEADER), DataFormat.CSV));
+        verify(accommodationRepository, never()).saveAll(any());
+    }
+}
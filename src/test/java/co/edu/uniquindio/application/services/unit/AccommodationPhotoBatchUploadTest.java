@@ -0,0 +1,213 @@
+package co.edu.uniquindio.application.services.unit;
+
+import co.edu.uniquindio.application.dto.AccommodationPhotoDTO;
+import co.edu.uniquindio.application.dto.BatchPhotoUploadDTO;
+import co.edu.uniquindio.application.events.AccommodationPhotoCleanupListener;
+import co.edu.uniquindio.application.events.AccommodationPhotoDeletedEvent;
+import co.edu.uniquindio.application.exceptions.InvalidOperationException;
+import co.edu.uniquindio.application.mappers.AccommodationPhotoMapper;
+import co.edu.uniquindio.application.models.entitys.Accommodation;
+import co.edu.uniquindio.application.models.entitys.AccommodationPhoto;
+import co.edu.uniquindio.application.repositories.AccommodationPhotoRepository;
+import co.edu.uniquindio.application.repositories.AccommodationRepository;
+import co.edu.uniquindio.application.services.ImageService;
+import co.edu.uniquindio.application.services.impl.AccommodationPhotoServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PRUEBAS UNITARIAS de la subida de fotos en lote
+ *
+ * Verifica que el orden se asigna con un solo conteo, que todas las fotos se
+ * guardan con un único saveAll y que los fallos parciales se reportan por índice.
+ * También que las imágenes compartidas (almacenamiento por contenido) no se borran
+ * mientras otra foto las use.
+ */
+public class AccommodationPhotoBatchUploadTest {
+
+    private AccommodationPhotoRepository photoRepository;
+    private AccommodationRepository accommodationRepository;
+    private ImageService imageService;
+    private ApplicationEventPublisher eventPublisher;
+    private ExecutorService executor;
+    private AccommodationPhotoServiceImpl photoService;
+
+    @BeforeEach
+    void setUp() {
+        photoRepository = mock(AccommodationPhotoRepository.class);
+        accommodationRepository = mock(AccommodationRepository.class);
+        imageService = mock(ImageService.class);
+        AccommodationPhotoMapper photoMapper = mock(AccommodationPhotoMapper.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        executor = Executors.newFixedThreadPool(4);
+
+        when(photoMapper.toDTO(any())).thenAnswer(invocation -> {
+            AccommodationPhoto photo = invocation.getArgument(0);
+            return new AccommodationPhotoDTO(photo.getId(), "acc-1", photo.getImageUrl(),
+                    null, null, null, null, null, null,
+                    photo.getIsPrimary(), photo.getDisplayOrder(), null);
+        });
+
+        photoService = new AccommodationPhotoServiceImpl(photoRepository, accommodationRepository,
+                imageService, photoMapper, eventPublisher,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), executor);
+        ReflectionTestUtils.setField(photoService, "maxBatchSize", 30);
+
+        Accommodation accommodation = new Accommodation();
+        accommodation.setId("acc-1");
+        when(accommodationRepository.findById("acc-1")).thenReturn(Optional.of(accommodation));
+        when(photoRepository.countByAccommodationId("acc-1")).thenReturn(3L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Subir un lote asigna el orden en una pasada y guarda con un solo saveAll")
+    void testUploadPhotos_Success() throws Exception {
+        // ========== ARRANGE ==========
+        when(imageService.upload(any())).thenAnswer(invocation -> {
+            MultipartFile file = invocation.getArgument(0);
+            return Map.of("url", "http://img/" + file.getOriginalFilename(),
+                    "public_id", "photos/" + file.getOriginalFilename());
+        });
+
+        // ========== ACT ==========
+        BatchPhotoUploadDTO result = photoService.uploadPhotos("acc-1", photos(5), 2);
+
+        // ========== ASSERT ==========
+        assertEquals(5, result.uploaded().size());
+        assertTrue(result.failed().isEmpty());
+        for (int i = 0; i < 5; i++) {
+            assertEquals("http://img/photo-" + i + ".jpg", result.uploaded().get(i).imageUrl());
+            assertEquals(3 + i, result.uploaded().get(i).displayOrder());
+            assertEquals(i == 2, result.uploaded().get(i).isPrimary());
+        }
+        verify(photoRepository, times(1)).countByAccommodationId("acc-1");
+        verify(photoRepository, times(1)).saveAll(anyList());
+        verify(photoRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Las fotos que fallan se reportan sin impedir guardar las demás")
+    void testUploadPhotos_PartialFailure() throws Exception {
+        // ========== ARRANGE ==========
+        when(imageService.upload(any())).thenAnswer(invocation -> {
+            MultipartFile file = invocation.getArgument(0);
+            if (file.getOriginalFilename().equals("photo-1.jpg")) {
+                throw new InvalidOperationException("La imagen está vacía.");
+            }
+            return Map.of("url", "http://img/" + file.getOriginalFilename());
+        });
+
+        // ========== ACT ==========
+        BatchPhotoUploadDTO result = photoService.uploadPhotos("acc-1", photos(3), null);
+
+        // ========== ASSERT ==========
+        assertEquals(2, result.uploaded().size());
+        assertEquals(1, result.failed().size());
+        assertEquals(1, result.failed().get(0).index());
+        assertEquals("photo-1.jpg", result.failed().get(0).fileName());
+
+        ArgumentCaptor<List<AccommodationPhoto>> saved = ArgumentCaptor.forClass(List.class);
+        verify(photoRepository).saveAll(saved.capture());
+        assertEquals(List.of(3, 4), saved.getValue().stream().map(AccommodationPhoto::getDisplayOrder).toList());
+    }
+
+    @Test
+    @DisplayName("Rechazar lotes que superan el máximo permitido")
+    void testUploadPhotos_TooMany() {
+        // ========== ACT & ASSERT ==========
+        assertThrows(InvalidOperationException.class,
+                () -> photoService.uploadPhotos("acc-1", photos(31), null));
+        verifyNoInteractions(imageService);
+    }
+
+    @Test
+    @DisplayName("Si falla el registro solo se eliminan las imágenes que creó la petición")
+    void testUploadPhotos_RollbackKeepsExistingImages() throws Exception {
+        // ========== ARRANGE ==========
+        when(imageService.upload(any())).thenAnswer(invocation -> {
+            MultipartFile file = invocation.getArgument(0);
+            boolean existing = file.getOriginalFilename().equals("photo-0.jpg");
+            return Map.of("url", "http://img/" + file.getOriginalFilename(),
+                    "public_id", "photos/" + file.getOriginalFilename(),
+                    "existing", existing);
+        });
+        when(photoRepository.saveAll(anyList())).thenThrow(new IllegalStateException("Deadlock"));
+
+        // ========== ACT ==========
+        assertThrows(IllegalStateException.class, () -> photoService.uploadPhotos("acc-1", photos(2), null));
+
+        // ========== ASSERT ==========
+        verify(imageService).delete("photos/photo-1.jpg");
+        verify(imageService, never()).delete("photos/photo-0.jpg");
+    }
+
+    @Test
+    @DisplayName("Eliminar una foto deja la imagen para después del commit")
+    void testDeletePhoto_DefersImageDeletion() throws Exception {
+        // ========== ARRANGE ==========
+        AccommodationPhoto photo = AccommodationPhoto.builder()
+                .id("photo-1")
+                .imageUrl("http://img/ab/abc.jpg")
+                .publicId("ab/abc.jpg")
+                .build();
+        when(photoRepository.findById("photo-1")).thenReturn(Optional.of(photo));
+
+        // ========== ACT ==========
+        photoService.deletePhoto("photo-1");
+
+        // ========== ASSERT ==========
+        verify(photoRepository).deleteById("photo-1");
+        verify(eventPublisher).publishEvent(new AccommodationPhotoDeletedEvent("ab/abc.jpg"));
+        verify(imageService, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Tras el commit la imagen se borra solo si ninguna foto la referencia")
+    void testCleanupListener_DeletesOnlyUnreferencedImages() throws Exception {
+        // ========== ARRANGE ==========
+        AccommodationPhotoCleanupListener listener = new AccommodationPhotoCleanupListener(photoRepository, imageService);
+        when(photoRepository.countByPublicId("ab/shared.jpg")).thenReturn(1L);
+        when(photoRepository.countByPublicId("ab/free.jpg")).thenReturn(0L);
+
+        // ========== ACT ==========
+        listener.onPhotoDeleted(new AccommodationPhotoDeletedEvent("ab/shared.jpg"));
+        listener.onPhotoDeleted(new AccommodationPhotoDeletedEvent("ab/free.jpg"));
+
+        // ========== ASSERT ==========
+        verify(imageService, never()).delete("ab/shared.jpg");
+        verify(imageService).delete("ab/free.jpg");
+    }
+
+    private static List<MultipartFile> photos(int count) {
+        List<MultipartFile> photos = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            photos.add(new MockMultipartFile("photos", "photo-" + i + ".jpg", "image/jpeg", new byte[]{1, 2, 3}));
+        }
+        return photos;
+    }
+}
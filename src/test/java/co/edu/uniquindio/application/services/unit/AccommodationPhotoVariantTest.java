@@ -0,0 +1,175 @@
+package co.edu.uniquindio.application.services.unit;
+
+import co.edu.uniquindio.application.events.AccommodationPhotoUploadedEvent;
+import co.edu.uniquindio.application.events.AccommodationPhotoVariantListener;
+import co.edu.uniquindio.application.models.entitys.AccommodationPhoto;
+import co.edu.uniquindio.application.repositories.AccommodationPhotoRepository;
+import co.edu.uniquindio.application.services.impl.ImageServiceImpl;
+import co.edu.uniquindio.application.services.impl.LocalImageServiceImpl;
+import com.cloudinary.Cloudinary;
+import com.cloudinary.EagerTransformation;
+import com.cloudinary.Uploader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PRUEBAS UNITARIAS del pipeline de variantes de fotos
+ *
+ * El listener se ejecuta con las implementaciones reales de ImageService:
+ * - Almacenamiento local: las variantes se redimensionan en la JVM y se comprueban
+ *   sus dimensiones y su peso frente al original
+ * - Cloudinary (cliente simulado): se comprueban las transformaciones eager que se
+ *   piden y las URLs que se guardan en la foto
+ */
+public class AccommodationPhotoVariantTest {
+
+    private static final String BASE_URL = "http://localhost:8080/images";
+
+    @TempDir
+    Path storageDir;
+
+    private AccommodationPhotoRepository photoRepository;
+
+    @BeforeEach
+    void setUp() {
+        photoRepository = mock(AccommodationPhotoRepository.class);
+    }
+
+    @Test
+    @DisplayName("Generar variantes en disco con las dimensiones de cada tamaño")
+    void testOnPhotoUploaded_LocalStorageVariants() throws Exception {
+        // ========== ARRANGE ==========
+        LocalImageServiceImpl imageService = new LocalImageServiceImpl(storageDir.toString(), BASE_URL, 20L * 1024 * 1024);
+        AccommodationPhotoVariantListener listener = new AccommodationPhotoVariantListener(photoRepository, imageService);
+
+        Map uploadResult = imageService.upload(new MockMultipartFile(
+                "photo", "casa.jpg", "image/jpeg", sampleJpeg(2400, 1800)));
+        AccommodationPhoto photo = photo("photo-1", uploadResult.get("url").toString(),
+                uploadResult.get("public_id").toString());
+        when(photoRepository.findById("photo-1")).thenReturn(Optional.of(photo));
+
+        // ========== ACT ==========
+        listener.onPhotoUploaded(new AccommodationPhotoUploadedEvent("photo-1"));
+
+        // ========== ASSERT ==========
+        verify(photoRepository).save(photo);
+        assertDimensions(photo.getThumbnailUrl(), 160, 120);
+        assertDimensions(photo.getCardUrl(), 480, 360);
+        assertDimensions(photo.getFullUrl(), 1600, 1200);
+        assertNotNull(photo.getThumbnailWebpUrl());
+        assertNotNull(photo.getCardWebpUrl());
+        assertNotNull(photo.getFullWebpUrl());
+
+        // Una tarjeta de listado debe transferir al menos un orden de magnitud menos
+        long originalBytes = Files.size(stored(photo.getImageUrl()));
+        long cardBytes = Files.size(stored(photo.getCardUrl()));
+        long thumbnailBytes = Files.size(stored(photo.getThumbnailUrl()));
+        assertTrue(cardBytes * 10 <= originalBytes, "card=" + cardBytes + " original=" + originalBytes);
+        assertTrue(thumbnailBytes < cardBytes);
+    }
+
+    @Test
+    @DisplayName("Pedir a Cloudinary las seis variantes eager en segundo plano")
+    void testOnPhotoUploaded_CloudinaryVariants() throws Exception {
+        // ========== ARRANGE ==========
+        ImageServiceImpl imageService = new ImageServiceImpl("demo", "key", "secret", 4);
+        Cloudinary cloudinary = spy((Cloudinary) ReflectionTestUtils.getField(imageService, "cloudinary"));
+        Uploader uploader = mock(Uploader.class);
+        doReturn(uploader).when(cloudinary).uploader();
+        when(uploader.explicit(anyString(), anyMap())).thenReturn(Map.of());
+        ReflectionTestUtils.setField(imageService, "cloudinary", cloudinary);
+        AccommodationPhotoVariantListener listener = new AccommodationPhotoVariantListener(photoRepository, imageService);
+
+        AccommodationPhoto photo = photo("photo-1",
+                "https://res.cloudinary.com/demo/image/upload/test/casa.jpg", "test/casa");
+        when(photoRepository.findById("photo-1")).thenReturn(Optional.of(photo));
+
+        // ========== ACT ==========
+        listener.onPhotoUploaded(new AccommodationPhotoUploadedEvent("photo-1"));
+
+        // ========== ASSERT ==========
+        ArgumentCaptor<Map> options = ArgumentCaptor.forClass(Map.class);
+        verify(uploader).explicit(eq("test/casa"), options.capture());
+        assertEquals(true, options.getValue().get("eager_async"));
+        List<?> eager = (List<?>) options.getValue().get("eager");
+        assertEquals(6, eager.size());
+        assertTrue(eager.stream().allMatch(EagerTransformation.class::isInstance));
+
+        verify(photoRepository).save(photo);
+        assertTrue(photo.getThumbnailUrl().contains("w_160,h_120,c_fill"));
+        assertTrue(photo.getCardUrl().contains("w_480,h_360,c_fill") && photo.getCardUrl().endsWith(".jpg"));
+        assertTrue(photo.getCardWebpUrl().contains("w_480,h_360,c_fill") && photo.getCardWebpUrl().endsWith(".webp"));
+        assertTrue(photo.getFullUrl().contains("w_1600,c_limit"));
+    }
+
+    @Test
+    @DisplayName("No generar variantes para fotos sin public_id")
+    void testOnPhotoUploaded_WithoutPublicId() throws Exception {
+        // ========== ARRANGE ==========
+        LocalImageServiceImpl imageService = new LocalImageServiceImpl(storageDir.toString(), BASE_URL, 1024 * 1024);
+        AccommodationPhotoVariantListener listener = new AccommodationPhotoVariantListener(photoRepository, imageService);
+        AccommodationPhoto photo = photo("photo-2", "http://legacy/photo.jpg", null);
+        when(photoRepository.findById("photo-2")).thenReturn(Optional.of(photo));
+
+        // ========== ACT ==========
+        listener.onPhotoUploaded(new AccommodationPhotoUploadedEvent("photo-2"));
+
+        // ========== ASSERT ==========
+        assertNull(photo.getCardUrl());
+        verify(photoRepository, never()).save(any());
+    }
+
+    private static AccommodationPhoto photo(String id, String url, String publicId) {
+        return AccommodationPhoto.builder()
+                .id(id)
+                .imageUrl(url)
+                .publicId(publicId)
+                .isPrimary(true)
+                .displayOrder(0)
+                .build();
+    }
+
+    private Path stored(String url) {
+        return storageDir.resolve(url.substring(BASE_URL.length() + 1));
+    }
+
+    private void assertDimensions(String url, int width, int height) throws Exception {
+        assertNotNull(url);
+        BufferedImage image = ImageIO.read(stored(url).toFile());
+        assertEquals(width, image.getWidth(), url);
+        assertEquals(height, image.getHeight(), url);
+    }
+
+    // Imagen con ruido para que el JPEG tenga un tamaño similar al de una foto real
+    private static byte[] sampleJpeg(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, random.nextInt(0xFFFFFF));
+            }
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,74 @@
+package co.edu.uniquindio.application.services.unit;
+
+import co.edu.uniquindio.application.exceptions.NotFoundException;
+import co.edu.uniquindio.application.repositories.AccommodationRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.services.impl.ExistenceServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PRUEBAS UNITARIAS de las validaciones de existencia
+ *
+ * Verifica que se consulta solo existsById (sin cargar la entidad) y que un ID
+ * confirmado no se vuelve a consultar dentro de la misma petición.
+ */
+public class ExistenceServiceTest {
+
+    private UserRepository userRepository;
+    private AccommodationRepository accommodationRepository;
+    private ExistenceServiceImpl existenceService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        accommodationRepository = mock(AccommodationRepository.class);
+        existenceService = new ExistenceServiceImpl(userRepository, accommodationRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Un ID confirmado se recuerda durante la petición")
+    void testRequireAccommodation_CachedPerRequest() throws Exception {
+        // ========== ARRANGE ==========
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(accommodationRepository.existsById("acc001")).thenReturn(true);
+
+        // ========== ACT ==========
+        existenceService.requireAccommodation("acc001");
+        existenceService.requireAccommodation("acc001");
+
+        // ========== ASSERT ==========
+        verify(accommodationRepository, times(1)).existsById("acc001");
+        verify(accommodationRepository, never()).findById(any());
+
+        // Una petición nueva vuelve a consultar
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        existenceService.requireAccommodation("acc001");
+        verify(accommodationRepository, times(2)).existsById("acc001");
+    }
+
+    @Test
+    @DisplayName("Fuera de una petición no se memoriza y los IDs inexistentes lanzan 404")
+    void testRequireUser_NoRequest() {
+        // ========== ARRANGE ==========
+        when(userRepository.existsById("u999")).thenReturn(false);
+
+        // ========== ACT & ASSERT ==========
+        assertThrows(NotFoundException.class, () -> existenceService.requireUser("u999"));
+        assertThrows(NotFoundException.class, () -> existenceService.requireUser("u999"));
+        verify(userRepository, times(2)).existsById("u999");
+    }
+}
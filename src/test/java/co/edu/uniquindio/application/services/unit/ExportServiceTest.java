@@ -0,0 +1,127 @@
+package co.edu.uniquindio.application.services.unit;
+
+import co.edu.uniquindio.application.dto.ExportFilterDTO;
+import co.edu.uniquindio.application.exceptions.InvalidOperationException;
+import co.edu.uniquindio.application.exceptions.NotFoundException;
+import co.edu.uniquindio.application.models.entitys.User;
+import co.edu.uniquindio.application.models.enums.ReservationStatus;
+import co.edu.uniquindio.application.models.enums.Role;
+import co.edu.uniquindio.application.repositories.PaymentRepository;
+import co.edu.uniquindio.application.repositories.ReservationRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.services.AuthService;
+import co.edu.uniquindio.application.services.impl.ExportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * PRUEBAS UNITARIAS de las exportaciones
+ *
+ * - Un HOST solo exporta sus alojamientos; ADMIN puede exportar cualquiera
+ * - after se traduce a la clave (fecha, id) de la última fila para reanudar,
+ *   buscada solo entre las filas del anfitrión que exporta
+ * - El filtro se valida antes de abrir la consulta
+ */
+public class ExportServiceTest {
+
+    private ReservationRepository reservationRepository;
+    private UserRepository userRepository;
+    private AuthService authService;
+    private ExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        userRepository = mock(UserRepository.class);
+        authService = mock(AuthService.class);
+        exportService = new ExportServiceImpl(reservationRepository, mock(PaymentRepository.class),
+                userRepository, authService);
+    }
+
+    private void authenticate(String id, Role role) {
+        when(authService.getAuthenticatedUserId()).thenReturn(id);
+        when(userRepository.findById(id)).thenReturn(Optional.of(User.builder().id(id).role(role).build()));
+    }
+
+    @Test
+    @DisplayName("Un HOST sin hostId exporta solo sus propios alojamientos")
+    void testExportReservations_HostDefaultsToOwnId() throws Exception {
+        // ========== ARRANGE ==========
+        authenticate("u002", Role.HOST);
+        ExportFilterDTO filter = new ExportFilterDTO(null, null, null, null, null);
+
+        // ========== ACT ==========
+        exportService.exportReservations(filter, null).get();
+
+        // ========== ASSERT ==========
+        verify(reservationRepository).streamReservationDTOsForExport(
+                eq("u002"), isNull(), isNull(), isNull(), isNull(), isNull(), eq(Limit.unlimited()));
+    }
+
+    @Test
+    @DisplayName("Un HOST no puede exportar los alojamientos de otro anfitrión")
+    void testExportReservations_OtherHostRejected() {
+        // ========== ARRANGE ==========
+        authenticate("u002", Role.HOST);
+        ExportFilterDTO filter = new ExportFilterDTO("u999", null, null, null, null);
+
+        // ========== ACT & ASSERT ==========
+        assertThrows(InvalidOperationException.class, () -> exportService.exportReservations(filter, null));
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    @DisplayName("ADMIN reanuda la exportación después de la última reserva recibida")
+    void testExportReservations_AdminResumesAfterLastRow() throws Exception {
+        // ========== ARRANGE ==========
+        authenticate("u003", Role.ADMIN);
+        LocalDate checkIn = LocalDate.of(2025, 3, 10);
+        when(reservationRepository.findExportCursor("res001", null)).thenReturn(Optional.of(checkIn));
+        ExportFilterDTO filter = new ExportFilterDTO(null, null, null, "res001", 1000);
+
+        // ========== ACT ==========
+        exportService.exportReservations(filter, ReservationStatus.CONFIRMED).get();
+
+        // ========== ASSERT ==========
+        verify(reservationRepository).streamReservationDTOsForExport(
+                isNull(), eq(ReservationStatus.CONFIRMED), isNull(), isNull(), eq(checkIn), eq("res001"), eq(Limit.of(1000)));
+    }
+
+    @Test
+    @DisplayName("Un HOST no puede reanudar desde una reserva de otro anfitrión")
+    void testExportReservations_CursorOfOtherHostNotFound() {
+        // ========== ARRANGE ==========
+        authenticate("u002", Role.HOST);
+        when(reservationRepository.findExportCursor("res999", "u002")).thenReturn(Optional.empty());
+        ExportFilterDTO filter = new ExportFilterDTO(null, null, null, "res999", null);
+
+        // ========== ACT & ASSERT ==========
+        assertThrows(NotFoundException.class, () -> exportService.exportReservations(filter, null));
+        verify(reservationRepository, never()).findById(any());
+        verify(reservationRepository, never()).streamReservationDTOsForExport(
+                any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Un rango de fechas invertido se rechaza sin consultar")
+    void testExportReservations_InvalidRange() {
+        // ========== ARRANGE ==========
+        ExportFilterDTO filter = new ExportFilterDTO(null, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1), null, null);
+
+        // ========== ACT & ASSERT ==========
+        assertThrows(InvalidOperationException.class, () -> exportService.exportReservations(filter, null));
+        verify(reservationRepository, never()).streamReservationDTOsForExport(
+                any(), any(), any(), any(), any(), any(), any());
+    }
+}
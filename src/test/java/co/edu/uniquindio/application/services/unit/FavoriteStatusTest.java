@@ -0,0 +1,147 @@
+package co.edu.uniquindio.application.services.unit;
+
+import co.edu.uniquindio.application.dto.FavoriteStatusDTO;
+import co.edu.uniquindio.application.events.FavoriteChangedEvent;
+import co.edu.uniquindio.application.exceptions.InvalidOperationException;
+import co.edu.uniquindio.application.exceptions.NotFoundException;
+import co.edu.uniquindio.application.mappers.FavoriteMapper;
+import co.edu.uniquindio.application.repositories.AccommodationRepository;
+import co.edu.uniquindio.application.repositories.FavoriteRepository;
+import co.edu.uniquindio.application.repositories.FavoriteStatusView;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.services.AuthService;
+import co.edu.uniquindio.application.services.impl.ExistenceServiceImpl;
+import co.edu.uniquindio.application.services.impl.FavoriteServiceImpl;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * PRUEBAS UNITARIAS de la consulta masiva y la caché de favoritos
+ *
+ * Verifica que una página de tarjetas se resuelve con una sola consulta, que
+ * el contador desnormalizado solo se descuenta cuando realmente se borró una fila
+ * y que la caché de IDs se descarta con cada cambio y no guarda usuarios inexistentes.
+ */
+public class FavoriteStatusTest {
+
+    private FavoriteRepository favoriteRepository;
+    private AccommodationRepository accommodationRepository;
+    private UserRepository userRepository;
+    private FavoriteServiceImpl favoriteService;
+
+    @BeforeEach
+    void setUp() {
+        favoriteRepository = mock(FavoriteRepository.class);
+        accommodationRepository = mock(AccommodationRepository.class);
+        userRepository = mock(UserRepository.class);
+        favoriteService = new FavoriteServiceImpl(favoriteRepository, mock(FavoriteMapper.class),
+                userRepository, accommodationRepository,
+                new ExistenceServiceImpl(userRepository, accommodationRepository), mock(AuthService.class),
+                mock(ApplicationEventPublisher.class), Caffeine.newBuilder().<String, Set<String>>build());
+        ReflectionTestUtils.setField(favoriteService, "maxStatusLookup", 100);
+
+        when(userRepository.existsById("u001")).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Resolver el estado de varias tarjetas en una sola consulta y en el orden pedido")
+    void testGetFavoriteStatus_SingleQuery() throws Exception {
+        // ========== ARRANGE ==========
+        when(favoriteRepository.findStatusByUserIdAndAccommodationIds(any(), any())).thenReturn(List.of(
+                status("acc001", true, 15),
+                status("acc003", false, 0)
+        ));
+
+        // ========== ACT ==========
+        List<FavoriteStatusDTO> result = favoriteService.getFavoriteStatus(
+                "u001", List.of("acc003", "acc001", "acc003", "acc999"));
+
+        // ========== ASSERT ==========
+        verify(favoriteRepository, times(1))
+                .findStatusByUserIdAndAccommodationIds("u001", List.of("acc003", "acc001", "acc999"));
+        assertEquals(List.of(
+                new FavoriteStatusDTO("acc003", false, 0),
+                new FavoriteStatusDTO("acc001", true, 15)
+        ), result);
+    }
+
+    @Test
+    @DisplayName("Rechazar consultas con demasiados alojamientos")
+    void testGetFavoriteStatus_TooMany() {
+        // ========== ARRANGE ==========
+        ReflectionTestUtils.setField(favoriteService, "maxStatusLookup", 2);
+
+        // ========== ACT & ASSERT ==========
+        assertThrows(InvalidOperationException.class, () ->
+                favoriteService.getFavoriteStatus("u001", List.of("acc001", "acc002", "acc003")));
+        verifyNoInteractions(favoriteRepository);
+    }
+
+    @Test
+    @DisplayName("Quitar un favorito inexistente no descuenta el contador")
+    void testRemoveFavorite_NotDeleted() {
+        // ========== ARRANGE ==========
+        when(favoriteRepository.deleteByUserIdAndAccommodationId("u001", "acc001")).thenReturn(0);
+
+        // ========== ACT & ASSERT ==========
+        assertThrows(NotFoundException.class, () ->
+                favoriteService.removeFavoriteByUserAndAccommodation("u001", "acc001"));
+        verify(accommodationRepository, never()).decrementFavoriteCount(any());
+    }
+
+    @Test
+    @DisplayName("La caché de IDs responde sin consultar y se recarga tras cada cambio")
+    void testIsFavorite_InvalidatedOnChange() throws Exception {
+        // ========== ARRANGE ==========
+        when(favoriteRepository.findAccommodationIdsByUserId("u001"))
+                .thenReturn(List.of("acc001"))
+                .thenReturn(List.of("acc002"));
+
+        // ========== ACT ==========
+        boolean first = favoriteService.isFavorite("u001", "acc001");
+        boolean cached = favoriteService.isFavorite("u001", "acc001");
+        favoriteService.onFavoriteChanged(new FavoriteChangedEvent("u001", "acc002", true));
+
+        // ========== ASSERT ==========
+        assertTrue(first);
+        assertTrue(cached);
+        assertEquals(Set.of("acc002"), favoriteService.listFavoriteAccommodationIds("u001"));
+        verify(favoriteRepository, times(2)).findAccommodationIdsByUserId("u001");
+        verify(favoriteRepository, never()).findByUserIdAndAccommodationId(any(), any());
+    }
+
+    @Test
+    @DisplayName("No guardar en caché un conjunto vacío para un usuario inexistente")
+    void testListFavoriteAccommodationIds_UnknownUserNotCached() throws Exception {
+        // ========== ARRANGE ==========
+        when(favoriteRepository.findAccommodationIdsByUserId("u999")).thenReturn(List.of());
+        when(userRepository.existsById("u999")).thenReturn(false, true);
+
+        // ========== ACT ==========
+        assertThrows(NotFoundException.class, () -> favoriteService.listFavoriteAccommodationIds("u999"));
+        Set<String> afterSignUp = favoriteService.listFavoriteAccommodationIds("u999");
+
+        // ========== ASSERT ==========
+        assertEquals(Set.of(), afterSignUp);
+        verify(favoriteRepository, times(2)).findAccommodationIdsByUserId("u999");
+    }
+
+    private static FavoriteStatusView status(String accommodationId, boolean favorite, int count) {
+        return new FavoriteStatusView() {
+            @Override public String getAccommodationId() { return accommodationId; }
+            @Override public Boolean getFavorite() { return favorite; }
+            @Override public Integer getFavoriteCount() { return count; }
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package co.edu.uniquindio.application.services.unit;
+
+import co.edu.uniquindio.application.exceptions.InvalidOperationException;
+import co.edu.uniquindio.application.services.impl.ImageServiceImpl;
+import com.cloudinary.Cloudinary;
+import com.cloudinary.Uploader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PRUEBAS UNITARIAS de ImageService
+ *
+ * Cloudinary se simula: solo se verifica que la imagen se envía como stream,
+ * sin archivos temporales, y que se respetan los límites de tamaño.
+ */
+public class ImageServiceTest {
+
+    private static final String FILE_PREFIX = "img-stream-test-";
+
+    private Cloudinary cloudinary;
+    private Uploader uploader;
+    private ImageServiceImpl imageService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cloudinary = mock(Cloudinary.class);
+        uploader = mock(Uploader.class);
+        when(cloudinary.uploader()).thenReturn(uploader);
+
+        // El uploader simulado consume todo el stream, como haría Cloudinary
+        when(uploader.uploadLarge(any(), anyMap(), anyInt())).thenAnswer(invocation -> {
+            InputStream input = invocation.getArgument(0);
+            input.transferTo(InputStream.nullOutputStream());
+            return Map.of("url", "http://res.cloudinary.com/demo/image/upload/test.jpg");
+        });
+
+        imageService = new ImageServiceImpl("demo", "key", "secret", 4);
+        ReflectionTestUtils.setField(imageService, "cloudinary", cloudinary);
+        ReflectionTestUtils.setField(imageService, "cloudinaryFolder", "test");
+        ReflectionTestUtils.setField(imageService, "maxFileSize", 1024L * 1024L);
+        ReflectionTestUtils.setField(imageService, "uploadWaitSeconds", 1L);
+    }
+
+    @Test
+    @DisplayName("Subir cientos de imágenes no deja archivos temporales")
+    void testUpload_NoTempFiles() throws Exception {
+        // ========== ARRANGE ==========
+        byte[] content = new byte[64 * 1024];
+
+        // ========== ACT ==========
+        for (int i = 0; i < 300; i++) {
+            MockMultipartFile image = new MockMultipartFile(
+                    "file", FILE_PREFIX + i + ".jpg", "image/jpeg", content);
+            Map result = imageService.upload(image);
+            assertNotNull(result.get("url"));
+        }
+
+        // ========== ASSERT ==========
+        File[] leftovers = new File(System.getProperty("java.io.tmpdir"))
+                .listFiles((dir, name) -> name.startsWith(FILE_PREFIX));
+        assertNotNull(leftovers);
+        assertEquals(0, leftovers.length);
+        verify(uploader, times(300)).uploadLarge(any(InputStream.class), anyMap(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Rechazar imagen que supera el tamaño máximo")
+    void testUpload_TooLarge() throws Exception {
+        // ========== ARRANGE ==========
+        MockMultipartFile image = new MockMultipartFile(
+                "file", FILE_PREFIX + "big.jpg", "image/jpeg", new byte[2 * 1024 * 1024]);
+
+        // ========== ACT & ASSERT ==========
+        assertThrows(InvalidOperationException.class, () -> imageService.upload(image));
+        verify(uploader, never()).uploadLarge(any(), anyMap(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Rechazar imagen vacía")
+    void testUpload_Empty() throws Exception {
+        // ========== ARRANGE ==========
+        MockMultipartFile image = new MockMultipartFile(
+                "file", FILE_PREFIX + "empty.jpg", "image/jpeg", new byte[0]);
+
+        // ========== ACT & ASSERT ==========
+        assertThrows(InvalidOperationException.class, () -> imageService.upload(image));
+    }
+}
@@ -0,0 +1,135 @@
+package co.edu.uniquindio.application.services.unit;
+
+import co.edu.uniquindio.application.dto.ImageVariantsDTO;
+import co.edu.uniquindio.application.exceptions.InvalidOperationException;
+import co.edu.uniquindio.application.services.impl.LocalImageServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PRUEBAS UNITARIAS del almacenamiento local de imágenes
+ *
+ * Verifica la deduplicación por contenido, las variantes y que un public_id
+ * no pueda salir del directorio configurado.
+ */
+public class LocalImageServiceTest {
+
+    private static final String BASE_URL = "http://localhost:8080/images";
+
+    @TempDir
+    Path storageDir;
+
+    private LocalImageServiceImpl imageService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        imageService = new LocalImageServiceImpl(storageDir.toString(), BASE_URL, 1024 * 1024);
+    }
+
+    @Test
+    @DisplayName("Subir la misma imagen dos veces la guarda una sola vez")
+    void testUpload_Deduplicates() throws Exception {
+        // ========== ARRANGE ==========
+        byte[] content = jpeg(320, 240);
+
+        // ========== ACT ==========
+        Map first = imageService.upload(new MockMultipartFile("file", "casa.jpg", "image/jpeg", content));
+        Map second = imageService.upload(new MockMultipartFile("file", "copia.JPEG", "image/jpeg", content));
+
+        // ========== ASSERT ==========
+        assertEquals(first.get("public_id"), second.get("public_id"));
+        assertEquals(false, first.get("existing"));
+        assertEquals(true, second.get("existing"));
+        assertTrue(first.get("url").toString().startsWith(BASE_URL + "/"));
+        assertEquals(1, countStoredFiles());
+    }
+
+    @Test
+    @DisplayName("La clave depende solo del contenido, no de la extensión del nombre")
+    void testUpload_KeyIgnoresFileName() throws Exception {
+        // ========== ARRANGE ==========
+        byte[] content = jpeg(320, 240);
+
+        // ========== ACT ==========
+        Map first = imageService.upload(new MockMultipartFile("file", "casa.jpeg", "image/jpeg", content));
+        Map second = imageService.upload(new MockMultipartFile("file", "casa.png", "image/png", content));
+        Map third = imageService.upload(new MockMultipartFile("file", "sin-extension", "application/octet-stream", content));
+
+        // ========== ASSERT ==========
+        assertEquals(first.get("public_id"), second.get("public_id"));
+        assertEquals(first.get("public_id"), third.get("public_id"));
+        assertTrue(first.get("public_id").toString().endsWith(".jpg"));
+        assertEquals(1, countStoredFiles());
+    }
+
+    @Test
+    @DisplayName("Imágenes distintas generan identificadores distintos")
+    void testUpload_DifferentContent() throws Exception {
+        // ========== ACT ==========
+        Map first = imageService.upload(new MockMultipartFile("file", "a.jpg", "image/jpeg", jpeg(320, 240)));
+        Map second = imageService.upload(new MockMultipartFile("file", "b.jpg", "image/jpeg", jpeg(200, 100)));
+
+        // ========== ASSERT ==========
+        assertNotEquals(first.get("public_id"), second.get("public_id"));
+        assertEquals(2, countStoredFiles());
+    }
+
+    @Test
+    @DisplayName("Generar variantes y eliminarlas junto con la imagen")
+    void testCreateVariantsAndDelete() throws Exception {
+        // ========== ARRANGE ==========
+        Map uploaded = imageService.upload(new MockMultipartFile("file", "casa.jpg", "image/jpeg", jpeg(2000, 1500)));
+        String publicId = uploaded.get("public_id").toString();
+
+        // ========== ACT ==========
+        ImageVariantsDTO variants = imageService.createVariants(publicId);
+
+        // ========== ASSERT ==========
+        assertTrue(variants.cardUrl().endsWith("-card.jpg"));
+        BufferedImage card = ImageIO.read(storageDir.resolve(variants.cardUrl().substring(BASE_URL.length() + 1)).toFile());
+        assertEquals(480, card.getWidth());
+        assertEquals(360, card.getHeight());
+        assertEquals(4, countStoredFiles());
+
+        imageService.delete(publicId);
+        assertEquals(0, countStoredFiles());
+    }
+
+    @Test
+    @DisplayName("Rechazar identificadores fuera del directorio de imágenes")
+    void testDelete_PathTraversal() {
+        // ========== ACT & ASSERT ==========
+        assertThrows(InvalidOperationException.class, () -> imageService.delete("../secreto.txt"));
+    }
+
+    private long countStoredFiles() throws Exception {
+        try (Stream<Path> files = Files.walk(storageDir)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(path -> !path.toString().endsWith(".part"))
+                    .count();
+        }
+    }
+
+    private static byte[] jpeg(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x++) {
+            image.setRGB(x, x % height, 0xFF8800);
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,218 @@
+package co.edu.uniquindio.application.services.unit;
+
+import co.edu.uniquindio.application.events.PaymentStatusChangedEvent;
+import co.edu.uniquindio.application.events.ReservationStatusChangedEvent;
+import co.edu.uniquindio.application.exceptions.InvalidOperationException;
+import co.edu.uniquindio.application.mappers.PaymentMapper;
+import co.edu.uniquindio.application.mappers.ReservationMapper;
+import co.edu.uniquindio.application.models.entitys.Payment;
+import co.edu.uniquindio.application.models.entitys.Reservation;
+import co.edu.uniquindio.application.models.entitys.User;
+import co.edu.uniquindio.application.models.enums.PaymentStatus;
+import co.edu.uniquindio.application.models.enums.ReservationStatus;
+import co.edu.uniquindio.application.repositories.AccommodationRepository;
+import co.edu.uniquindio.application.repositories.PaymentRepository;
+import co.edu.uniquindio.application.repositories.ReservationRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.services.AuthService;
+import co.edu.uniquindio.application.services.ExistenceService;
+import co.edu.uniquindio.application.services.impl.PaymentServiceImpl;
+import co.edu.uniquindio.application.services.impl.ReservationServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * PRUEBAS UNITARIAS de las máquinas de estados de pagos y reservas
+ *
+ * Los dos servicios se conectan con un publicador que entrega los eventos de forma
+ * síncrona a sus @EventListener, igual que Spring dentro de la transacción.
+ */
+public class PaymentReservationSyncTest {
+
+    private PaymentRepository paymentRepository;
+    private ReservationRepository reservationRepository;
+    private AuthService authService;
+    private PaymentServiceImpl paymentService;
+    private ReservationServiceImpl reservationService;
+    private final List<Object> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        paymentRepository = mock(PaymentRepository.class);
+        reservationRepository = mock(ReservationRepository.class);
+        authService = mock(AuthService.class);
+
+        ApplicationEventPublisher publisher = event -> {
+            events.add(event);
+            try {
+                if (event instanceof PaymentStatusChangedEvent paymentEvent) {
+                    reservationService.onPaymentStatusChanged(paymentEvent);
+                } else if (event instanceof ReservationStatusChangedEvent reservationEvent) {
+                    paymentService.onReservationStatusChanged(reservationEvent);
+                }
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        };
+
+        paymentService = new PaymentServiceImpl(paymentRepository, mock(PaymentMapper.class),
+                reservationRepository, publisher);
+        reservationService = new ReservationServiceImpl(reservationRepository, mock(ReservationMapper.class),
+                mock(AccommodationRepository.class), mock(UserRepository.class),
+                mock(ExistenceService.class), authService, publisher);
+    }
+
+    @Test
+    @DisplayName("Máquina de estados del pago: FAILED y REFUNDED son finales")
+    void testPaymentStateMachine() {
+        assertTrue(PaymentStatus.PENDING.canTransitionTo(PaymentStatus.COMPLETED));
+        assertTrue(PaymentStatus.PENDING.canTransitionTo(PaymentStatus.FAILED));
+        assertTrue(PaymentStatus.COMPLETED.canTransitionTo(PaymentStatus.REFUNDED));
+        assertFalse(PaymentStatus.PENDING.canTransitionTo(PaymentStatus.REFUNDED));
+        assertFalse(PaymentStatus.COMPLETED.canTransitionTo(PaymentStatus.FAILED));
+        for (PaymentStatus next : PaymentStatus.values()) {
+            assertFalse(PaymentStatus.FAILED.canTransitionTo(next), "FAILED -> " + next);
+            assertFalse(PaymentStatus.REFUNDED.canTransitionTo(next), "REFUNDED -> " + next);
+        }
+    }
+
+    @Test
+    @DisplayName("Máquina de estados de la reserva: CANCELLED y COMPLETED son finales")
+    void testReservationStateMachine() {
+        assertTrue(ReservationStatus.PENDING.canTransitionTo(ReservationStatus.CONFIRMED));
+        assertTrue(ReservationStatus.PENDING.canTransitionTo(ReservationStatus.CANCELLED));
+        assertTrue(ReservationStatus.CONFIRMED.canTransitionTo(ReservationStatus.CANCELLED));
+        assertTrue(ReservationStatus.CONFIRMED.canTransitionTo(ReservationStatus.COMPLETED));
+        assertFalse(ReservationStatus.PENDING.canTransitionTo(ReservationStatus.COMPLETED));
+        for (ReservationStatus next : ReservationStatus.values()) {
+            assertFalse(ReservationStatus.CANCELLED.canTransitionTo(next), "CANCELLED -> " + next);
+            assertFalse(ReservationStatus.COMPLETED.canTransitionTo(next), "COMPLETED -> " + next);
+        }
+    }
+
+    @Test
+    @DisplayName("Completar el pago confirma la reserva pendiente")
+    void testCompletePayment_ConfirmsReservation() throws Exception {
+        // ========== ARRANGE ==========
+        Reservation reservation = reservation(ReservationStatus.PENDING);
+        Payment payment = payment(PaymentStatus.PENDING, reservation);
+
+        // ========== ACT ==========
+        paymentService.completePayment("pay001");
+
+        // ========== ASSERT ==========
+        assertEquals(PaymentStatus.COMPLETED, payment.getStatus());
+        assertEquals(ReservationStatus.CONFIRMED, reservation.getStatus());
+        assertEquals(List.of(
+                new PaymentStatusChangedEvent("pay001", "res001", PaymentStatus.PENDING, PaymentStatus.COMPLETED, payment.getCreatedAt()),
+                new ReservationStatusChangedEvent("res001", ReservationStatus.PENDING, ReservationStatus.CONFIRMED)
+        ), events);
+    }
+
+    @Test
+    @DisplayName("Cancelar la reserva falla el pago pendiente y ya no se puede completar")
+    void testCancelReservation_FailsPendingPayment() throws Exception {
+        // ========== ARRANGE ==========
+        Reservation reservation = reservation(ReservationStatus.PENDING);
+        Payment payment = payment(PaymentStatus.PENDING, reservation);
+        reservationService.cancel("res001");
+
+        // ========== ACT ==========
+        InvalidOperationException exception = assertThrows(InvalidOperationException.class,
+                () -> paymentService.completePayment("pay001"));
+
+        // ========== ASSERT ==========
+        assertEquals(ReservationStatus.CANCELLED, reservation.getStatus());
+        assertEquals(PaymentStatus.FAILED, payment.getStatus());
+        assertEquals("Reserva cancelada", payment.getTransactionReference());
+        assertTrue(exception.getMessage().contains("fallido"));
+        assertEquals(2, events.size());
+    }
+
+    @Test
+    @DisplayName("Rechazar completar el pago pendiente de una reserva cancelada")
+    void testCompletePayment_ReservationCancelled() throws Exception {
+        // ========== ARRANGE ==========
+        Reservation reservation = reservation(ReservationStatus.CANCELLED);
+        Payment payment = payment(PaymentStatus.PENDING, reservation);
+
+        // ========== ACT ==========
+        assertThrows(InvalidOperationException.class, () -> paymentService.completePayment("pay001"));
+
+        // ========== ASSERT ==========
+        assertEquals(PaymentStatus.PENDING, payment.getStatus());
+        verify(paymentRepository, never()).save(any());
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Reembolsar el pago cancela la reserva sin volver a tocar el pago")
+    void testRefundPayment_CancelsReservation() throws Exception {
+        // ========== ARRANGE ==========
+        Reservation reservation = reservation(ReservationStatus.CONFIRMED);
+        Payment payment = payment(PaymentStatus.COMPLETED, reservation);
+
+        // ========== ACT ==========
+        paymentService.refundPayment("pay001");
+
+        // ========== ASSERT ==========
+        assertEquals(PaymentStatus.REFUNDED, payment.getStatus());
+        assertEquals(ReservationStatus.CANCELLED, reservation.getStatus());
+        assertEquals(2, events.size());
+        verify(paymentRepository, times(1)).save(payment);
+    }
+
+    @Test
+    @DisplayName("El listener de la reserva no ignora una transición ilegal: lanza para revertir el pago")
+    void testOnPaymentStatusChanged_IllegalTransitionThrows() {
+        // ========== ARRANGE ==========
+        Reservation reservation = reservation(ReservationStatus.COMPLETED);
+        PaymentStatusChangedEvent event = new PaymentStatusChangedEvent(
+                "pay001", reservation.getId(), PaymentStatus.COMPLETED, PaymentStatus.REFUNDED, LocalDateTime.now());
+
+        // ========== ACT & ASSERT ==========
+        assertThrows(IllegalStateException.class, () -> reservationService.onPaymentStatusChanged(event));
+        assertEquals(ReservationStatus.COMPLETED, reservation.getStatus());
+        verify(reservationRepository, never()).save(any());
+    }
+
+    private Reservation reservation(ReservationStatus status) {
+        Reservation reservation = Reservation.builder()
+                .id("res001")
+                .status(status)
+                .checkInDate(LocalDate.now().plusDays(10))
+                .checkOutDate(LocalDate.now().plusDays(12))
+                .guest(User.builder().id("u001").build())
+                .build();
+        when(reservationRepository.findById("res001")).thenReturn(Optional.of(reservation));
+        when(authService.getAuthenticatedUserId()).thenReturn("u001");
+        return reservation;
+    }
+
+    private Payment payment(PaymentStatus status, Reservation reservation) {
+        Payment payment = Payment.builder()
+                .id("pay001")
+                .status(status)
+                .reservation(reservation)
+                .createdAt(LocalDateTime.of(2025, 3, 1, 10, 0))
+                .build();
+        when(paymentRepository.findById("pay001")).thenReturn(Optional.of(payment));
+        when(paymentRepository.findByReservationId("res001")).thenReturn(Optional.of(payment));
+        return payment;
+    }
+}
@@ -0,0 +1,146 @@
+package co.edu.uniquindio.application.services.unit;
+
+import co.edu.uniquindio.application.dto.RevenueReportDTO;
+import co.edu.uniquindio.application.events.PaymentStatusChangedEvent;
+import co.edu.uniquindio.application.exceptions.InvalidOperationException;
+import co.edu.uniquindio.application.mappers.PaymentMapper;
+import co.edu.uniquindio.application.models.entitys.Payment;
+import co.edu.uniquindio.application.models.enums.PaymentStatus;
+import co.edu.uniquindio.application.models.enums.RevenueGrouping;
+import co.edu.uniquindio.application.repositories.PaymentRepository;
+import co.edu.uniquindio.application.repositories.ReservationRepository;
+import co.edu.uniquindio.application.repositories.RevenueView;
+import co.edu.uniquindio.application.services.impl.PaymentServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * PRUEBAS UNITARIAS de los reportes de ingresos
+ *
+ * Las sumas vienen agregadas desde SQL; aquí se verifica la agrupación con
+ * BigDecimal y que los días cerrados no se vuelvan a consultar salvo que
+ * cambie el estado de un pago de ese día.
+ */
+public class PaymentRevenueReportTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 30);
+    private static final LocalDate TO = LocalDate.of(2025, 2, 2);
+
+    private PaymentRepository paymentRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private PaymentServiceImpl paymentService;
+
+    @BeforeEach
+    void setUp() {
+        paymentRepository = mock(PaymentRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        paymentService = new PaymentServiceImpl(paymentRepository, mock(PaymentMapper.class),
+                mock(ReservationRepository.class), eventPublisher);
+        ReflectionTestUtils.setField(paymentService, "revenueCacheTtlMinutes", 60L);
+        when(paymentRepository.currentDatabaseDate()).thenReturn("2025-03-01");
+
+        when(paymentRepository.sumRevenueByDayAndStatus(any(), any())).thenReturn(List.of(
+                row("2025-01-30", "COMPLETED", "COMPLETED", 2, "100.10"),
+                row("2025-01-31", "COMPLETED", "COMPLETED", 1, "0.20"),
+                row("2025-01-31", "REFUNDED", "REFUNDED", 1, "50.00"),
+                row("2025-02-02", "COMPLETED", "COMPLETED", 3, "0.30")
+        ));
+    }
+
+    @Test
+    @DisplayName("Agrupar ingresos completados por mes con montos exactos")
+    void testRevenueReport_ByMonth() throws Exception {
+        // ========== ACT ==========
+        RevenueReportDTO report = paymentService.getRevenueReport(
+                RevenueGrouping.MONTH, PaymentStatus.COMPLETED, FROM, TO);
+
+        // ========== ASSERT ==========
+        assertEquals(2, report.rows().size());
+        assertEquals("2025-01", report.rows().get(0).key());
+        assertEquals(new BigDecimal("100.30"), report.rows().get(0).total());
+        assertEquals(3, report.rows().get(0).count());
+        assertEquals("2025-02", report.rows().get(1).key());
+        assertEquals(new BigDecimal("100.60"), report.total());
+        assertEquals(6, report.count());
+    }
+
+    @Test
+    @DisplayName("Los días cerrados se sirven desde caché hasta que cambia un pago de ese día")
+    void testRevenueReport_IncrementalCache() throws Exception {
+        // ========== ARRANGE ==========
+        paymentService.getRevenueReport(RevenueGrouping.STATUS, null, FROM, TO);
+
+        // ========== ACT ==========
+        RevenueReportDTO cached = paymentService.getRevenueReport(RevenueGrouping.STATUS, null, FROM, TO);
+
+        // ========== ASSERT ==========
+        verify(paymentRepository, times(1)).sumRevenueByDayAndStatus(any(), any());
+        assertEquals(2, cached.rows().size());
+
+        // Reembolsar un pago del 31 de enero invalida solo ese día
+        Payment payment = Payment.builder()
+                .id("pay-1")
+                .status(PaymentStatus.COMPLETED)
+                .createdAt(LocalDate.of(2025, 1, 31).atTime(10, 0))
+                .build();
+        when(paymentRepository.findById("pay-1")).thenReturn(Optional.of(payment));
+        paymentService.refundPayment("pay-1");
+
+        // La invalidación ocurre al confirmarse la transacción del cambio de estado
+        ArgumentCaptor<PaymentStatusChangedEvent> event = ArgumentCaptor.forClass(PaymentStatusChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        paymentService.onPaymentStatusChanged(event.getValue());
+
+        paymentService.getRevenueReport(RevenueGrouping.STATUS, null, FROM, TO);
+        verify(paymentRepository).sumRevenueByDayAndStatus(
+                LocalDate.of(2025, 1, 31).atStartOfDay(), LocalDate.of(2025, 2, 1).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("El día en curso según la base de datos no se guarda en caché")
+    void testRevenueReport_TodayFromDatabaseClock() throws Exception {
+        // ========== ARRANGE ==========
+        // La base de datos ya está en el 2 de febrero aunque la JVM esté en otra zona horaria
+        when(paymentRepository.currentDatabaseDate()).thenReturn("2025-02-02");
+        paymentService.getRevenueReport(RevenueGrouping.DAY, null, FROM, TO);
+
+        // ========== ACT ==========
+        RevenueReportDTO report = paymentService.getRevenueReport(RevenueGrouping.DAY, null, FROM, TO);
+
+        // ========== ASSERT ==========
+        verify(paymentRepository).sumRevenueByDayAndStatus(FROM.atStartOfDay(), TO.plusDays(1).atStartOfDay());
+        verify(paymentRepository).sumRevenueByDayAndStatus(TO.atStartOfDay(), TO.plusDays(1).atStartOfDay());
+        assertEquals(3, report.rows().size());
+    }
+
+    @Test
+    @DisplayName("Rechazar rangos de fechas invertidos")
+    void testRevenueReport_InvalidRange() {
+        // ========== ACT & ASSERT ==========
+        assertThrows(InvalidOperationException.class, () ->
+                paymentService.getRevenueReport(RevenueGrouping.DAY, null, TO, FROM));
+    }
+
+    private static RevenueView row(String day, String status, String key, long count, String total) {
+        return new RevenueView() {
+            @Override public String getDay() { return day; }
+            @Override public String getStatus() { return status; }
+            @Override public String getGroupKey() { return key; }
+            @Override public Long getPaymentCount() { return count; }
+            @Override public BigDecimal getTotal() { return new BigDecimal(total); }
+        };
+    }
+}
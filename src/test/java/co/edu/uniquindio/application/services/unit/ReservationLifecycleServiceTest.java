@@ -0,0 +1,163 @@
+package co.edu.uniquindio.application.services.unit;
+
+import co.edu.uniquindio.application.events.PaymentStatusChangedEvent;
+import co.edu.uniquindio.application.events.ReservationBatchStatusChangedEvent;
+import co.edu.uniquindio.application.models.entitys.JobCheckpoint;
+import co.edu.uniquindio.application.models.enums.PaymentStatus;
+import co.edu.uniquindio.application.models.enums.ReservationStatus;
+import co.edu.uniquindio.application.repositories.ExpiringPaymentView;
+import co.edu.uniquindio.application.repositories.JobCheckpointRepository;
+import co.edu.uniquindio.application.repositories.PaymentRepository;
+import co.edu.uniquindio.application.repositories.ReservationRepository;
+import co.edu.uniquindio.application.services.impl.ReservationLifecycleServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * PRUEBAS UNITARIAS del ciclo de vida de reservas
+ *
+ * Se verifica el recorrido por keyset con el punto de control, que cada lote
+ * publique un solo evento con las reservas que cambia y que los pagos se fallen
+ * junto con sus reservas.
+ */
+public class ReservationLifecycleServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+    private static final LocalDateTime CREATED_BEFORE = LocalDateTime.of(2025, 2, 27, 0, 0);
+
+    private ReservationRepository reservationRepository;
+    private PaymentRepository paymentRepository;
+    private JobCheckpointRepository checkpointRepository;
+    private ReservationLifecycleServiceImpl lifecycleService;
+    private final List<Object> events = new ArrayList<>();
+    private final List<String> savedCheckpoints = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        paymentRepository = mock(PaymentRepository.class);
+        checkpointRepository = mock(JobCheckpointRepository.class);
+        when(checkpointRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(checkpointRepository.save(any(JobCheckpoint.class))).thenAnswer(inv -> {
+            savedCheckpoints.add(inv.<JobCheckpoint>getArgument(0).getLastProcessedId());
+            return inv.getArgument(0);
+        });
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+        ApplicationEventPublisher eventPublisher = events::add;
+
+        lifecycleService = new ReservationLifecycleServiceImpl(reservationRepository, paymentRepository,
+                checkpointRepository, transactionTemplate, eventPublisher);
+        ReflectionTestUtils.setField(lifecycleService, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("Recorrer las reservas por keyset y publicar un evento por cada lote completado")
+    void testCompleteFinishedReservations_KeysetBatches() {
+        // ========== ARRANGE ==========
+        when(reservationRepository.findCompletableIds(TODAY, "", 2)).thenReturn(List.of("r1", "r2"));
+        when(reservationRepository.findCompletableIds(TODAY, "r2", 2)).thenReturn(List.of("r3"));
+        when(reservationRepository.lockCompletableRange(TODAY, "", "r2")).thenReturn(List.of("r1", "r2"));
+        when(reservationRepository.lockCompletableRange(TODAY, "r2", "r3")).thenReturn(List.of("r3"));
+        when(reservationRepository.completeRange(TODAY, "", "r2")).thenReturn(2);
+        when(reservationRepository.completeRange(TODAY, "r2", "r3")).thenReturn(1);
+
+        // ========== ACT ==========
+        long rows = lifecycleService.completeFinishedReservations(TODAY);
+
+        // ========== ASSERT ==========
+        assertEquals(3, rows);
+        // Un lote incompleto es el último: no se pide otro después de r3
+        verify(reservationRepository, never()).findCompletableIds(TODAY, "r3", 2);
+        // Cada lote guarda su avance y la corrida completa lo deja en null
+        assertEquals(List.of("r2", "r3"), savedCheckpoints.subList(0, 2));
+        assertNull(savedCheckpoints.get(savedCheckpoints.size() - 1));
+        assertEquals(List.of(
+                new ReservationBatchStatusChangedEvent(List.of("r1", "r2"), ReservationStatus.CONFIRMED, ReservationStatus.COMPLETED),
+                new ReservationBatchStatusChangedEvent(List.of("r3"), ReservationStatus.CONFIRMED, ReservationStatus.COMPLETED)
+        ), events);
+    }
+
+    @Test
+    @DisplayName("Reanudar una corrida interrumpida desde el último id del punto de control")
+    void testCompleteFinishedReservations_ResumesFromCheckpoint() {
+        // ========== ARRANGE ==========
+        when(checkpointRepository.findById("reservation-complete")).thenReturn(Optional.of(JobCheckpoint.builder()
+                .id("reservation-complete").boundaryDate(TODAY).lastProcessedId("r2").build()));
+        when(reservationRepository.findCompletableIds(TODAY, "r2", 2)).thenReturn(List.of());
+
+        // ========== ACT ==========
+        long rows = lifecycleService.completeFinishedReservations(TODAY);
+
+        // ========== ASSERT ==========
+        assertEquals(0, rows);
+        verify(reservationRepository, never()).findCompletableIds(TODAY, "", 2);
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Expirar reservas pendientes fallando antes sus pagos y publicando los dos eventos")
+    void testExpirePendingReservations_PairsPaymentsAndReservations() {
+        // ========== ARRANGE ==========
+        when(reservationRepository.findExpirableIds(TODAY, CREATED_BEFORE, "", 2)).thenReturn(List.of("r1"));
+        when(reservationRepository.lockExpirableRange(TODAY, CREATED_BEFORE, "", "r1")).thenReturn(List.of("r1"));
+        LocalDateTime paymentCreatedAt = LocalDateTime.of(2025, 2, 20, 9, 30);
+        when(paymentRepository.lockPaymentsOfExpiredReservations(TODAY, CREATED_BEFORE, "", "r1"))
+                .thenReturn(List.of(expiringPayment("p1", "r1", paymentCreatedAt)));
+        when(paymentRepository.failPaymentsOfExpiredReservations(TODAY, CREATED_BEFORE, "", "r1")).thenReturn(1);
+        when(reservationRepository.expireRange(TODAY, CREATED_BEFORE, "", "r1")).thenReturn(1);
+
+        // ========== ACT ==========
+        long rows = lifecycleService.expirePendingReservations(TODAY, CREATED_BEFORE);
+
+        // ========== ASSERT ==========
+        assertEquals(1, rows);
+        InOrder inOrder = inOrder(paymentRepository, reservationRepository);
+        inOrder.verify(paymentRepository).failPaymentsOfExpiredReservations(TODAY, CREATED_BEFORE, "", "r1");
+        inOrder.verify(reservationRepository).expireRange(TODAY, CREATED_BEFORE, "", "r1");
+        // El evento del pago lleva su fecha de creación para invalidar ese día de la caché de ingresos
+        assertEquals(List.of(
+                new PaymentStatusChangedEvent("p1", "r1", PaymentStatus.PENDING, PaymentStatus.FAILED, paymentCreatedAt),
+                new ReservationBatchStatusChangedEvent(List.of("r1"), ReservationStatus.PENDING, ReservationStatus.CANCELLED)
+        ), events);
+    }
+
+    private static ExpiringPaymentView expiringPayment(String paymentId, String reservationId, LocalDateTime createdAt) {
+        return new ExpiringPaymentView() {
+            @Override
+            public String getPaymentId() {
+                return paymentId;
+            }
+
+            @Override
+            public String getReservationId() {
+                return reservationId;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+        };
+    }
+}
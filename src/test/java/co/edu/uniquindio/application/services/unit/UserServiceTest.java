@@ -2,6 +2,7 @@ package co.edu.uniquindio.application.services.unit;
 
 import co.edu.uniquindio.application.dto.create.CreateUserDTO;
 import co.edu.uniquindio.application.dto.UserDTO;
+import co.edu.uniquindio.application.dto.UserPageDTO;
 import co.edu.uniquindio.application.exceptions.InvalidOperationException;
 import co.edu.uniquindio.application.exceptions.NotFoundException;
 import co.edu.uniquindio.application.exceptions.ValueConflictException;
@@ -18,14 +19,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -483,4 +489,49 @@ public class UserServiceTest {
 
         assertTrue(exception.getMessage().contains("no está activo"));
     }
-}
\ No newline at end of file
+
+    // ========================================
+    // PRUEBAS DEL LISTADO POR CURSOR
+    // ========================================
+
+    @Test
+    @DisplayName("La página siguiente continúa después del último usuario devuelto")
+    void testListPage_KeysetCursor() throws Exception {
+        // ========== ARRANGE ==========
+        ReflectionTestUtils.setField(userService, "maxPageSize", 200);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+        User first = User.builder().id("u3").createdAt(createdAt).build();
+        User second = User.builder().id("u2").createdAt(createdAt).build();
+        User extra = User.builder().id("u1").createdAt(createdAt.minusDays(1)).build();
+
+        // Se piden size + 1 filas para saber si hay más páginas
+        when(userRepository.findPage(eq(UserStatus.ACTIVE), isNull(), isNull(), isNull(), isNull(), isNull(),
+                eq(PageRequest.of(0, 3)))).thenReturn(List.of(first, second, extra));
+        when(userRepository.findPage(eq(UserStatus.ACTIVE), isNull(), isNull(), isNull(), eq(createdAt), eq("u2"),
+                eq(PageRequest.of(0, 3)))).thenReturn(List.of(extra));
+
+        // ========== ACT ==========
+        UserPageDTO page = userService.listPage(UserStatus.ACTIVE, null, null, null, null, 2);
+        UserPageDTO next = userService.listPage(UserStatus.ACTIVE, null, null, null, page.nextCursor(), 2);
+
+        // ========== ASSERT ==========
+        assertEquals(2, page.items().size());
+        assertNotNull(page.nextCursor());
+        assertEquals(1, next.items().size());
+        assertNull(next.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Rechazar cursores manipulados y tamaños de página fuera de rango")
+    void testListPage_InvalidArguments() {
+        // ========== ARRANGE ==========
+        ReflectionTestUtils.setField(userService, "maxPageSize", 200);
+
+        // ========== ACT & ASSERT ==========
+        assertThrows(InvalidOperationException.class,
+                () -> userService.listPage(null, null, null, null, "no-es-un-cursor", 50));
+        assertThrows(InvalidOperationException.class,
+                () -> userService.listPage(null, null, null, null, null, 500));
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -0,0 +1,52 @@
+package co.edu.uniquindio.application.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PRUEBAS UNITARIAS del generador de UUID v7
+ */
+public class UuidV7Test {
+
+    @Test
+    @DisplayName("El UUID generado es versión 7, variante RFC y lleva el instante actual")
+    void testNext_VersionAndTimestamp() {
+        // ========== ARRANGE ==========
+        long before = System.currentTimeMillis();
+
+        // ========== ACT ==========
+        UUID uuid = UuidV7.next();
+
+        // ========== ASSERT ==========
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis() + 1000);
+        assertEquals(uuid, UUID.fromString(uuid.toString()));
+    }
+
+    @Test
+    @DisplayName("Los IDs en texto son únicos y crecen en el orden en que se generan")
+    void testGenerate_MonotonicText() {
+        // ========== ACT ==========
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            ids.add(UuidV7.generate());
+        }
+
+        // ========== ASSERT ==========
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0,
+                    "ID fuera de orden: " + ids.get(i - 1) + " >= " + ids.get(i));
+        }
+        assertEquals(36, ids.get(0).length());
+    }
+}
@@ -0,0 +1,19 @@
+-- ================================================
+-- LIMPIEZA DE DATOS DE PRUEBA
+-- ================================================
+-- Para las pruebas que no pueden ser @Transactional (y por lo tanto confirman
+-- dataset.sql): deja la base como estaba antes de cargarlo. Hijos antes que padres.
+
+DELETE FROM message;
+DELETE FROM chat_users;
+DELETE FROM chat;
+DELETE FROM favorite;
+DELETE FROM review;
+DELETE FROM payment;
+DELETE FROM reservation;
+DELETE FROM availability_calendar;
+DELETE FROM accommodation_photo;
+DELETE FROM accommodation;
+DELETE FROM host_profile;
+DELETE FROM password_reset_code;
+DELETE FROM `user`;
@@ -151,6 +151,12 @@ INSERT INTO `favorite` (
 ('fav001', 'u001', 'acc001', '2025-11-10 08:00:00'),
 ('fav002', 'u001', 'acc002', '2025-11-12 10:30:00');
 
+-- El contador desnormalizado de favoritos debe coincidir con las filas insertadas
+-- (mismo recálculo que V4; estos datos se insertan después de las migraciones)
+UPDATE `accommodation` a
+SET a.`favorite_count` = (SELECT COUNT(*) FROM `favorite` f WHERE f.`accommodation_id` = a.`id`),
+    a.`updated_at` = a.`updated_at`;
+
 -- ================================================
 -- NOTAS IMPORTANTES
 -- ================================================